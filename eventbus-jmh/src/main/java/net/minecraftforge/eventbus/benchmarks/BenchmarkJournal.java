@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.benchmarks;
+
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.EventJournal;
+import net.minecraftforge.eventbus.api.bus.ReplayBuffer;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+/**
+ * Measures the throughput of posting an event with and without an {@link EventJournal} attached to its bus.
+ * <p>Run with {@code -t} greater than 1 to measure contention on the journal's append lock.</p>
+ */
+@State(Scope.Benchmark)
+public class BenchmarkJournal {
+    record PlainEvent(int id, long timestamp) implements RecordEvent {
+        static final EventBus<PlainEvent> BUS = EventBus.create(PlainEvent.class);
+    }
+
+    record JournaledEvent(int id, long timestamp) implements RecordEvent {
+        static final EventBus<JournaledEvent> BUS = EventBus.create(JournaledEvent.class);
+    }
+
+    static final ReplayBuffer.Codec<JournaledEvent> CODEC = new ReplayBuffer.Codec<>() {
+        @Override
+        public int maxEncodedSize() {
+            return Integer.BYTES + Long.BYTES;
+        }
+
+        @Override
+        public void encode(JournaledEvent event, ByteBuffer buffer) {
+            buffer.putInt(event.id()).putLong(event.timestamp());
+        }
+
+        @Override
+        public JournaledEvent decode(ByteBuffer buffer) {
+            return new JournaledEvent(buffer.getInt(), buffer.getLong());
+        }
+    };
+
+    private Path directory;
+    private EventJournal<JournaledEvent> journal;
+    private int id;
+
+    @Setup(Level.Trial)
+    public void setup(BenchmarkParams params) throws IOException {
+        BenchmarkNoLoader.validateEnvironment(params);
+        PlainEvent.BUS.addListener(event -> {});
+        JournaledEvent.BUS.addListener(event -> {});
+
+        directory = Files.createTempDirectory("eventbus-jmh-journal");
+        journal = EventJournal.open(JournaledEvent.BUS, directory, CODEC);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        try (var files = Files.walk(directory)) {
+            for (var path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void postWithoutJournal() {
+        PlainEvent.BUS.post(new PlainEvent(id++, System.nanoTime()));
+    }
+
+    @Benchmark
+    public void postWithJournal() {
+        JournaledEvent.BUS.post(new JournaledEvent(id++, System.nanoTime()));
+    }
+}
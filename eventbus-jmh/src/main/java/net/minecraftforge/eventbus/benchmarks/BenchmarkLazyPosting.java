@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.benchmarks;
+
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * Compares {@link EventBus#post(java.util.function.Supplier)} against eagerly creating the event and manually guarding
+ * with {@link EventBus#hasListeners()}.
+ * <p>Run with {@code -prof gc} to check the allocation rate - with no listeners, the lazy benchmark should report
+ * zero bytes allocated per operation, as the capturing lambda is scalar replaced once inlined.</p>
+ */
+public class BenchmarkLazyPosting {
+    record NoListenersEvent(String name, int value) implements RecordEvent {
+        static final EventBus<NoListenersEvent> BUS = EventBus.create(NoListenersEvent.class);
+    }
+
+    record WithListenerEvent(String name, int value) implements RecordEvent {
+        static final EventBus<WithListenerEvent> BUS = EventBus.create(WithListenerEvent.class);
+    }
+
+    @State(Scope.Thread)
+    public static class NoListeners {
+        private final String name = "Foo";
+        private int value;
+
+        @Setup(Level.Trial)
+        public void setup(BenchmarkParams params) {
+            BenchmarkNoLoader.validateEnvironment(params);
+        }
+
+        @Benchmark
+        public void postEager() {
+            NoListenersEvent.BUS.post(new NoListenersEvent(name, value++));
+        }
+
+        @Benchmark
+        public void postGuarded() {
+            if (NoListenersEvent.BUS.hasListeners())
+                NoListenersEvent.BUS.post(new NoListenersEvent(name, value++));
+        }
+
+        @Benchmark
+        public void postLazy() {
+            NoListenersEvent.BUS.post(() -> new NoListenersEvent(name, value++));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class WithListener {
+        private final String name = "Foo";
+        private int value;
+        private int lastSeenValue;
+
+        @Setup(Level.Trial)
+        public void setup(BenchmarkParams params) {
+            BenchmarkNoLoader.validateEnvironment(params);
+            WithListenerEvent.BUS.addListener(event -> lastSeenValue = event.value());
+        }
+
+        @Benchmark
+        public void postEager() {
+            WithListenerEvent.BUS.post(new WithListenerEvent(name, value++));
+        }
+
+        @Benchmark
+        public void postGuarded() {
+            if (WithListenerEvent.BUS.hasListeners())
+                WithListenerEvent.BUS.post(new WithListenerEvent(name, value++));
+        }
+
+        @Benchmark
+        public void postLazy() {
+            WithListenerEvent.BUS.post(() -> new WithListenerEvent(name, value++));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.benchmarks;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.CancellableEventBus;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * Measures the overhead of {@link BusGroup.Option#METRICS} and {@link BusGroup.Option#POST_LATENCY} on posting,
+ * compared to the same bus in a BusGroup without them.
+ * <p>Run with {@code -t} greater than 1 to measure how the counters scale across cores.</p>
+ */
+@State(Scope.Benchmark)
+public class BenchmarkMetrics {
+    static final BusGroup PLAIN_GROUP = BusGroup.create("BenchmarkMetrics.plain");
+    static final BusGroup METRICS_GROUP = BusGroup.create("BenchmarkMetrics.metrics", BusGroup.Option.METRICS);
+    static final BusGroup POST_LATENCY_GROUP = BusGroup.create("BenchmarkMetrics.postLatency", BusGroup.Option.POST_LATENCY);
+
+    record MetricsEvent(boolean cancel) implements Cancellable, RecordEvent {
+        static final CancellableEventBus<MetricsEvent> PLAIN_BUS = CancellableEventBus.create(PLAIN_GROUP, MetricsEvent.class);
+        static final CancellableEventBus<MetricsEvent> METRICS_BUS = CancellableEventBus.create(METRICS_GROUP, MetricsEvent.class);
+        static final CancellableEventBus<MetricsEvent> POST_LATENCY_BUS = CancellableEventBus.create(POST_LATENCY_GROUP, MetricsEvent.class);
+    }
+
+    private static final MetricsEvent EVENT = new MetricsEvent(false);
+
+    @Setup(Level.Trial)
+    public void setup(BenchmarkParams params) {
+        BenchmarkNoLoader.validateEnvironment(params);
+        MetricsEvent.PLAIN_BUS.addListener(event -> {});
+        MetricsEvent.PLAIN_BUS.addListener(MetricsEvent::cancel);
+        MetricsEvent.METRICS_BUS.addListener(event -> {});
+        MetricsEvent.METRICS_BUS.addListener(MetricsEvent::cancel);
+        MetricsEvent.POST_LATENCY_BUS.addListener(event -> {});
+        MetricsEvent.POST_LATENCY_BUS.addListener(MetricsEvent::cancel);
+    }
+
+    @Benchmark
+    public boolean postWithoutMetrics() {
+        return MetricsEvent.PLAIN_BUS.post(EVENT);
+    }
+
+    @Benchmark
+    public boolean postWithMetrics() {
+        return MetricsEvent.METRICS_BUS.post(EVENT);
+    }
+
+    @Benchmark
+    public boolean postWithPostLatency() {
+        return MetricsEvent.POST_LATENCY_BUS.post(EVENT);
+    }
+}
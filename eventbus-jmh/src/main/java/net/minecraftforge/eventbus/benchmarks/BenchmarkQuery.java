@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.benchmarks;
+
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.IntQueryBus;
+import net.minecraftforge.eventbus.api.bus.QueryBus;
+import net.minecraftforge.eventbus.api.event.MutableEvent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares asking listeners for values with a {@link MutableEvent} that listeners add their answers to against
+ * {@link QueryBus} and {@link IntQueryBus}, which don't need a list allocated per post.
+ */
+@State(Scope.Thread)
+public class BenchmarkQuery {
+    static final class CollectingEvent extends MutableEvent {
+        static final EventBus<CollectingEvent> BUS = EventBus.create(CollectingEvent.class);
+
+        final String query;
+        final List<Integer> answers = new ArrayList<>();
+
+        CollectingEvent(String query) {
+            this.query = query;
+        }
+    }
+
+    static final QueryBus<String, Integer> QUERY_BUS = QueryBus.create("benchmarkQuery");
+    static final IntQueryBus<String> INT_QUERY_BUS = IntQueryBus.create("benchmarkIntQuery");
+
+    private final String query = "Foo";
+
+    @Setup(Level.Trial)
+    public void setup(BenchmarkParams params) {
+        BenchmarkNoLoader.validateEnvironment(params);
+        for (int i = 1; i <= 3; i++) {
+            int bonus = i;
+            CollectingEvent.BUS.addListener(event -> event.answers.add(event.query.length() * bonus));
+            QUERY_BUS.addListener(query -> query.length() * bonus);
+            INT_QUERY_BUS.addListener(query -> query.length() * bonus);
+        }
+    }
+
+    @Benchmark
+    public int collectingEvent() {
+        var event = new CollectingEvent(query);
+        CollectingEvent.BUS.post(event);
+
+        int sum = 0;
+        for (int answer : event.answers) {
+            sum += answer;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int queryBusReduce() {
+        return QUERY_BUS.reduce(query, 0, Integer::sum);
+    }
+
+    @Benchmark
+    public int intQueryBusSum() {
+        return INT_QUERY_BUS.sum(query);
+    }
+}
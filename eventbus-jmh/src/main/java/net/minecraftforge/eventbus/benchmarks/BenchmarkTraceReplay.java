@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.benchmarks;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.CancellableEventBus;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.ResultEventBus;
+import net.minecraftforge.eventbus.api.bus.TrafficRecorder;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replays a trace recorded by {@link TrafficRecorder} against freshly created buses, so that changes to EventBus can
+ * be measured against the shape of real traffic rather than a synthetic mix of events.
+ * <p>Pass the trace file with {@code -p trace=path/to/traffic.ebtrace}. Without one, a small synthetic trace is used so
+ * that the benchmark still runs as part of the full suite.</p>
+ * <p>Each recorded event type gets its own bus in its own {@link BusGroup}, with the same characteristics and the
+ * highest number of listeners seen in the trace. Listeners never cancel or decide a result, so every listener is called
+ * on each post. Posts are replayed back-to-back in the recorded order, one per operation, without the recorded
+ * inter-arrival gaps. As the buses aren't constants here, absolute numbers are only meaningful compared against other
+ * runs of this benchmark.</p>
+ */
+@State(Scope.Thread)
+public class BenchmarkTraceReplay {
+    record ReplayedEvent(int type) implements RecordEvent {}
+    record ReplayedCancellableEvent(int type) implements Cancellable, RecordEvent {}
+    record ReplayedResultEvent(int type) implements HasResult, RecordEvent {}
+
+    private static final byte KIND_PLAIN = 0, KIND_CANCELLABLE = 1, KIND_RESULT = 2;
+    private static final AtomicInteger BUS_GROUP_COUNTER = new AtomicInteger();
+
+    @Param("")
+    private String trace;
+
+    private final List<EventBus<ReplayedEvent>> plainBuses = new ArrayList<>();
+    private final List<CancellableEventBus<ReplayedCancellableEvent>> cancellableBuses = new ArrayList<>();
+    private final List<ResultEventBus<ReplayedResultEvent>> resultBuses = new ArrayList<>();
+
+    // One entry per post in the trace
+    private byte[] kinds;
+    private int[] busIndices;
+    private RecordEvent[] events;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup(BenchmarkParams params) throws IOException {
+        BenchmarkNoLoader.validateEnvironment(params);
+        var recorded = trace.isEmpty() ? syntheticTrace() : TrafficRecorder.read(Path.of(trace));
+        if (recorded.posts().isEmpty())
+            throw new IllegalArgumentException("Trace " + trace + " doesn't contain any posts");
+
+        var eventTypes = recorded.eventTypes();
+        var listenerCounts = new int[eventTypes.size()];
+        for (var post : recorded.posts()) {
+            listenerCounts[post.eventType()] = Math.max(listenerCounts[post.eventType()], post.listenerCount());
+        }
+
+        var typeKinds = new byte[eventTypes.size()];
+        var typeBusIndices = new int[eventTypes.size()];
+        var typeEvents = new RecordEvent[eventTypes.size()];
+        for (int i = 0; i < eventTypes.size(); i++) {
+            var eventType = eventTypes.get(i);
+            var busGroup = BusGroup.create("traceReplay" + BUS_GROUP_COUNTER.getAndIncrement());
+            if (eventType.cancellable()) {
+                var bus = CancellableEventBus.create(busGroup, ReplayedCancellableEvent.class);
+                for (int j = 0; j < listenerCounts[i]; j++) {
+                    bus.addListener(event -> event.type() < 0);
+                }
+                typeKinds[i] = KIND_CANCELLABLE;
+                typeBusIndices[i] = cancellableBuses.size();
+                typeEvents[i] = new ReplayedCancellableEvent(i);
+                cancellableBuses.add(bus);
+            } else if (eventType.hasResult()) {
+                var bus = ResultEventBus.create(busGroup, ReplayedResultEvent.class);
+                for (int j = 0; j < listenerCounts[i]; j++) {
+                    bus.addListener(event -> HasResult.Result.DEFAULT);
+                }
+                typeKinds[i] = KIND_RESULT;
+                typeBusIndices[i] = resultBuses.size();
+                typeEvents[i] = new ReplayedResultEvent(i);
+                resultBuses.add(bus);
+            } else {
+                var bus = EventBus.create(busGroup, ReplayedEvent.class);
+                for (int j = 0; j < listenerCounts[i]; j++) {
+                    bus.addListener(event -> {});
+                }
+                typeKinds[i] = KIND_PLAIN;
+                typeBusIndices[i] = plainBuses.size();
+                typeEvents[i] = new ReplayedEvent(i);
+                plainBuses.add(bus);
+            }
+        }
+
+        var posts = recorded.posts();
+        kinds = new byte[posts.size()];
+        busIndices = new int[posts.size()];
+        events = new RecordEvent[posts.size()];
+        for (int i = 0; i < posts.size(); i++) {
+            int eventType = posts.get(i).eventType();
+            kinds[i] = typeKinds[eventType];
+            busIndices[i] = typeBusIndices[eventType];
+            events[i] = typeEvents[eventType];
+        }
+    }
+
+    /**
+     * Roughly the same mix as {@link BenchmarkNoLoader.Posting}: a plain, a cancellable and a result event, posted in
+     * turn with a few listeners each.
+     */
+    private static TrafficRecorder.Trace syntheticTrace() {
+        var eventTypes = List.of(
+                new TrafficRecorder.EventType("synthetic.PlainEvent", false, false),
+                new TrafficRecorder.EventType("synthetic.CancellableEvent", true, false),
+                new TrafficRecorder.EventType("synthetic.ResultEvent", false, true)
+        );
+        var posts = new ArrayList<TrafficRecorder.Post>();
+        for (int i = 0; i < 300; i++) {
+            posts.add(new TrafficRecorder.Post(i % eventTypes.size(), 1_000, 5));
+        }
+        return new TrafficRecorder.Trace(eventTypes, posts);
+    }
+
+    @Benchmark
+    public boolean replay() {
+        int index = next;
+        next = index + 1 == kinds.length ? 0 : index + 1;
+
+        var event = events[index];
+        return switch (kinds[index]) {
+            case KIND_CANCELLABLE -> cancellableBuses.get(busIndices[index]).post((ReplayedCancellableEvent) event);
+            case KIND_RESULT -> resultBuses.get(busIndices[index]).postForResult((ReplayedResultEvent) event)
+                    != HasResult.Result.DEFAULT;
+            default -> {
+                plainBuses.get(busIndices[index]).post((ReplayedEvent) event);
+                yield false;
+            }
+        };
+    }
+}
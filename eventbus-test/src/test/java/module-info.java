@@ -8,6 +8,8 @@ open module net.minecraftforge.eventbus.test {
     requires org.junit.jupiter.api;
     requires org.jspecify;
     requires java.compiler;
+    requires jdk.jfr;
+    requires java.management;
     requires compile.testing;
     requires org.jetbrains.annotations;
     requires net.minecraftforge.eventbus.testjars;
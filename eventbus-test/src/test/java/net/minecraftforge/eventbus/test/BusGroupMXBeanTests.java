@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.BusGroupMXBean;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMX;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+public class BusGroupMXBeanTests {
+    record JmxTestEvent() implements RecordEvent {}
+
+    private static ObjectName objectNameOf(String busGroupName) throws Exception {
+        return new ObjectName("net.minecraftforge.eventbus:type=BusGroup,name=\"" + busGroupName + '"');
+    }
+
+    private static BusGroupMXBean mxBeanOf(String busGroupName) throws Exception {
+        return JMX.newMXBeanProxy(ManagementFactory.getPlatformMBeanServer(), objectNameOf(busGroupName), BusGroupMXBean.class);
+    }
+
+    /**
+     * Tests that a BusGroup created with the JMX option is registered as an MXBean that reflects its buses.
+     */
+    @Test
+    public void testAttributes() throws Exception {
+        var busGroup = BusGroup.create("BusGroupMXBeanTests.testAttributes", BusGroup.Option.JMX, BusGroup.Option.METRICS);
+        var eventBus = EventBus.create(busGroup, JmxTestEvent.class);
+        eventBus.addListener(event -> {});
+        eventBus.post(new JmxTestEvent());
+
+        var mxBean = mxBeanOf("BusGroupMXBeanTests.testAttributes");
+        Assertions.assertEquals("BusGroupMXBeanTests.testAttributes", mxBean.getName());
+        Assertions.assertEquals(1, mxBean.getBusCount());
+        Assertions.assertEquals(Map.of(JmxTestEvent.class.getName(), 1), mxBean.getListenerCounts());
+        Assertions.assertEquals(Map.of(JmxTestEvent.class.getName(), "direct"), mxBean.getInvokerStrategies());
+        Assertions.assertEquals(Map.of(JmxTestEvent.class.getName(), 1L), mxBean.getPostCounts());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that the MXBean can profile the group's listeners.
+     */
+    @Test
+    public void testProfiling() throws Exception {
+        var busGroup = BusGroup.create("BusGroupMXBeanTests.testProfiling", BusGroup.Option.JMX);
+        var eventBus = EventBus.create(busGroup, JmxTestEvent.class);
+        eventBus.addListener(event -> {});
+
+        var mxBean = mxBeanOf("BusGroupMXBeanTests.testProfiling");
+        mxBean.startProfiling();
+        Assertions.assertTrue(mxBean.isProfiling());
+        eventBus.post(new JmxTestEvent());
+        mxBean.stopProfiling();
+        Assertions.assertEquals(1, mxBean.getProfile().size());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that the MXBean can shut down and start up the group.
+     */
+    @Test
+    public void testShutdownAndStartup() throws Exception {
+        var busGroup = BusGroup.create("BusGroupMXBeanTests.testShutdownAndStartup", BusGroup.Option.JMX);
+        var eventBus = EventBus.create(busGroup, JmxTestEvent.class);
+        eventBus.addListener(event -> {});
+
+        var mxBean = mxBeanOf("BusGroupMXBeanTests.testShutdownAndStartup");
+        mxBean.shutdown();
+        Assertions.assertFalse(eventBus.hasListeners());
+        mxBean.startup();
+        Assertions.assertTrue(eventBus.hasListeners());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that thread-confined BusGroups can't be registered as MXBeans.
+     */
+    @Test
+    public void testRejectsThreadConfined() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BusGroup.create(
+                "BusGroupMXBeanTests.testRejectsThreadConfined", BusGroup.Option.JMX, BusGroup.Option.THREAD_CONFINED));
+    }
+
+    /**
+     * Tests that the MXBean is unregistered when the group is disposed.
+     */
+    @Test
+    public void testUnregisteredOnDispose() throws Exception {
+        var busGroup = BusGroup.create("BusGroupMXBeanTests.testUnregisteredOnDispose", BusGroup.Option.JMX);
+        var mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        var objectName = objectNameOf("BusGroupMXBeanTests.testUnregisteredOnDispose");
+        Assertions.assertTrue(mBeanServer.isRegistered(objectName));
+
+        busGroup.dispose();
+        Assertions.assertFalse(mBeanServer.isRegistered(objectName));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.CancellableEventBus;
+import net.minecraftforge.eventbus.api.bus.CancellationAttribution;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class CancellationAttributionTests {
+    record AttributedEvent(int value) implements Cancellable, RecordEvent {}
+
+    /**
+     * Tests that a bus can't have its cancellations attributed twice at once.
+     */
+    @Test
+    public void testOneAttributionAtATime() {
+        var busGroup = BusGroup.create("CancellationAttributionTests.testOneAttributionAtATime");
+        var eventBus = CancellableEventBus.create(busGroup, AttributedEvent.class);
+
+        try (var ignored = CancellationAttribution.enable(eventBus)) {
+            Assertions.assertThrows(IllegalStateException.class, () -> CancellationAttribution.enable(eventBus));
+        }
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that CancellationAttribution records which listener cancelled the last event.
+     */
+    @Test
+    public void testLastCancelledBy() {
+        var busGroup = BusGroup.create("CancellationAttributionTests.testLastCancelledBy");
+        var eventBus = CancellableEventBus.create(busGroup, AttributedEvent.class);
+        var evenCanceller = eventBus.addListener(Priority.HIGH, event -> event.value() % 2 == 0);
+        var alwaysCanceller = eventBus.addListener(Priority.LOW, true, event -> {});
+
+        try (var attribution = CancellationAttribution.enable(eventBus)) {
+            Assertions.assertNull(attribution.lastCancelledBy());
+
+            Assertions.assertTrue(eventBus.post(new AttributedEvent(2)));
+            Assertions.assertSame(evenCanceller, attribution.lastCancelledBy());
+            Assertions.assertTrue(eventBus.post(new AttributedEvent(1)));
+            Assertions.assertSame(alwaysCanceller, attribution.lastCancelledBy());
+        }
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that CancellationAttribution counts the cancellations of each listener, most cancellations first, and
+     * stops once closed.
+     */
+    @Test
+    public void testSnapshot() {
+        var busGroup = BusGroup.create("CancellationAttributionTests.testSnapshot");
+        var eventBus = CancellableEventBus.create(busGroup, AttributedEvent.class);
+        var evenCanceller = eventBus.addListener(Priority.HIGH, event -> event.value() % 2 == 0);
+        var alwaysCanceller = eventBus.addListener(Priority.LOW, true, event -> {});
+        eventBus.addListener(Priority.HIGHEST, event -> {});
+
+        List<CancellationAttribution.ListenerCancellations> snapshot;
+        try (var attribution = CancellationAttribution.enable(eventBus)) {
+            for (int i = 0; i <= 10; i++) {
+                eventBus.post(new AttributedEvent(i));
+            }
+            snapshot = attribution.snapshot();
+        }
+        Assertions.assertTrue(eventBus.post(new AttributedEvent(4))); // not counted after closing
+
+        Assertions.assertEquals(2, snapshot.size());
+        Assertions.assertEquals(evenCanceller, snapshot.getFirst().listener());
+        Assertions.assertEquals(6, snapshot.getFirst().cancellations());
+        Assertions.assertEquals(Priority.HIGH, snapshot.getFirst().priority());
+        Assertions.assertEquals("lambda", snapshot.getFirst().methodName());
+        Assertions.assertEquals(alwaysCanceller, snapshot.getLast().listener());
+        Assertions.assertEquals(5, snapshot.getLast().cancellations());
+
+        try (var attribution = CancellationAttribution.enable(eventBus)) {
+            Assertions.assertEquals(List.of(), attribution.snapshot(), "Cancellations should not carry over after closing");
+        }
+
+        busGroup.dispose();
+    }
+}
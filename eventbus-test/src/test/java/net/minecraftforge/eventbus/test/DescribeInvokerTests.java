@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.CancellableEventBus;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+public class DescribeInvokerTests {
+    record DescribedEvent() implements Cancellable, RecordEvent {}
+
+    /**
+     * Tests that describeInvoker() reports the no-op strategy for a bus without listeners, which has no built invoker.
+     */
+    @Test
+    public void testNoListeners() {
+        var busGroup = BusGroup.create("DescribeInvokerTests.testNoListeners");
+        var eventBus = CancellableEventBus.create(busGroup, DescribedEvent.class);
+        var description = eventBus.describeInvoker();
+        Assertions.assertEquals("noOp", description.strategy());
+        Assertions.assertNull(description.builtAt());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that describeInvoker() reports the invoker's strategy, including when an always-cancelling listener
+     * truncates the chain.
+     */
+    @Test
+    public void testStrategy() {
+        var busGroup = BusGroup.create("DescribeInvokerTests.testStrategy");
+        var eventBus = CancellableEventBus.create(busGroup, DescribedEvent.class);
+        eventBus.addListener(Priority.LOW, event -> {});
+        eventBus.addListener(Priority.HIGH, true, event -> {});
+        eventBus.addListener((event, wasCancelled) -> {});
+        Assertions.assertTrue(eventBus.post(new DescribedEvent()));
+
+        var description = eventBus.describeInvoker();
+        Assertions.assertEquals(DescribedEvent.class, description.eventType());
+        Assertions.assertEquals("noCancelChecks+direct+monitors(1)", description.strategy());
+        Assertions.assertEquals(2, description.listenerCount());
+        Assertions.assertEquals(1, description.unwrappedListenerCount());
+        Assertions.assertTrue(description.truncatedByAlwaysCancelling());
+        Assertions.assertEquals(1, description.monitoringListenerCount());
+        Assertions.assertEquals(EventBus.InvokerDescription.MonitorMode.PLAIN, description.monitorMode());
+        Assertions.assertEquals(List.of(description), busGroup.describeInvokers());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that describeInvoker() reports when the invoker was built, and that it's cleared on shutdown.
+     */
+    @Test
+    public void testBuiltAt() {
+        var busGroup = BusGroup.create("DescribeInvokerTests.testBuiltAt");
+        var eventBus = CancellableEventBus.create(busGroup, DescribedEvent.class);
+        eventBus.addListener(event -> {});
+        var beforePost = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        eventBus.post(new DescribedEvent());
+
+        var builtAt = eventBus.describeInvoker().builtAt();
+        Assertions.assertNotNull(builtAt);
+        Assertions.assertFalse(builtAt.isBefore(beforePost));
+
+        busGroup.shutdown();
+        Assertions.assertNull(eventBus.describeInvoker().builtAt());
+
+        busGroup.dispose();
+    }
+}
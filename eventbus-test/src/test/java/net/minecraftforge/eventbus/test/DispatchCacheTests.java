@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.CancellableEventBus;
+import net.minecraftforge.eventbus.api.bus.DispatchCache;
+import net.minecraftforge.eventbus.api.bus.QueryBus;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DispatchCacheTests {
+    record CancellableTestEvent(int value) implements Cancellable, RecordEvent {}
+
+    /**
+     * Tests that a DispatchCache only calls listeners for events it hasn't seen yet.
+     */
+    @Test
+    public void testCachedOutcomes() {
+        var busGroup = BusGroup.create("DispatchCacheTests.testCachedOutcomes");
+        var bus = CancellableEventBus.create(busGroup, CancellableTestEvent.class);
+        var cache = DispatchCache.cancellable(bus, 4, null);
+        var calls = new AtomicInteger();
+        bus.addListener(event -> {
+            calls.incrementAndGet();
+            return event.value() < 0;
+        });
+
+        Assertions.assertTrue(cache.dispatch(new CancellableTestEvent(-1)));
+        Assertions.assertTrue(cache.dispatch(new CancellableTestEvent(-1)));
+        Assertions.assertFalse(cache.dispatch(new CancellableTestEvent(1)));
+        Assertions.assertFalse(cache.dispatch(new CancellableTestEvent(1)));
+        Assertions.assertEquals(2, calls.get(), "Listeners should only be called for events that aren't cached");
+        Assertions.assertEquals(2, cache.hits());
+        Assertions.assertEquals(2, cache.misses());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that adding or removing a listener invalidates a DispatchCache.
+     */
+    @Test
+    public void testInvalidation() {
+        var busGroup = BusGroup.create("DispatchCacheTests.testInvalidation");
+        var bus = CancellableEventBus.create(busGroup, CancellableTestEvent.class);
+        var cache = DispatchCache.cancellable(bus, 4, null);
+        var calls = new AtomicInteger();
+        bus.addListener(event -> {
+            calls.incrementAndGet();
+            return false;
+        });
+
+        cache.dispatch(new CancellableTestEvent(1));
+        cache.dispatch(new CancellableTestEvent(1));
+        Assertions.assertEquals(1, calls.get());
+
+        var listener = bus.addListener(Priority.HIGH, event -> {});
+        cache.dispatch(new CancellableTestEvent(1));
+        Assertions.assertEquals(2, calls.get(), "Adding a listener should invalidate the cache");
+        bus.removeListener(listener);
+        cache.dispatch(new CancellableTestEvent(1));
+        Assertions.assertEquals(3, calls.get(), "Removing a listener should invalidate the cache");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a DispatchCache doesn't grow beyond its maximum size and rejects invalid sizes.
+     */
+    @Test
+    public void testMaximumSize() {
+        var busGroup = BusGroup.create("DispatchCacheTests.testMaximumSize");
+        var bus = CancellableEventBus.create(busGroup, CancellableTestEvent.class);
+        var cache = DispatchCache.cancellable(bus, 4, null);
+        bus.addListener(event -> false);
+
+        for (int i = 0; i < 10; i++) {
+            cache.dispatch(new CancellableTestEvent(i));
+        }
+        Assertions.assertTrue(cache.size() <= 4, "The cache should not grow beyond its maximum size");
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DispatchCache.cancellable(bus, 0, null));
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a DispatchCache over a {@link QueryBus} caches null answers and recomputes expired outcomes.
+     */
+    @Test
+    public void testQueryCacheExpiry() throws InterruptedException {
+        var busGroup = BusGroup.create("DispatchCacheTests.testQueryCacheExpiry");
+        QueryBus<String, Integer> queryBus = QueryBus.create(busGroup, "query");
+        var queryCache = DispatchCache.firstNonNull(queryBus, 16, Duration.ofMillis(50));
+        var calls = new AtomicInteger();
+        queryBus.addListener(query -> {
+            calls.incrementAndGet();
+            return query.isEmpty() ? null : query.length();
+        });
+
+        Assertions.assertNull(queryCache.dispatch(""));
+        Assertions.assertNull(queryCache.dispatch(""), "Null answers should be cached");
+        Assertions.assertEquals(3, queryCache.dispatch("foo"));
+        Assertions.assertEquals(2, calls.get());
+
+        Thread.sleep(100);
+        Assertions.assertEquals(3, queryCache.dispatch("foo"));
+        Assertions.assertEquals(3, calls.get(), "Expired outcomes should be recomputed");
+
+        busGroup.dispose();
+    }
+}
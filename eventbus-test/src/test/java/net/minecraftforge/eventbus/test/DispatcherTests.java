@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.CoalescingDispatcher;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.EventMailbox;
+import net.minecraftforge.eventbus.api.bus.PartitionedDispatcher;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class DispatcherTests {
+    /**
+     * Tests that a {@link PartitionedDispatcher} posts events with the same key in the order they were dispatched.
+     */
+    @Test
+    public void testPartitionedDispatcherPreservesPerKeyOrder() throws InterruptedException {
+        record TestEvent(int key, int sequence) implements RecordEvent {
+            static final EventBus<TestEvent> BUS = EventBus.create(TestEvent.class);
+        }
+
+        final int keys = 16;
+        final int eventsPerKey = 1_000;
+
+        var seen = new ArrayList<List<Integer>>(keys);
+        for (int i = 0; i < keys; i++) {
+            seen.add(new ArrayList<>());
+        }
+
+        var remaining = new CountDownLatch(keys * eventsPerKey);
+        var listener = TestEvent.BUS.addListener(event -> {
+            var sequences = seen.get(event.key());
+            synchronized (sequences) {
+                sequences.add(event.sequence());
+            }
+            remaining.countDown();
+        });
+
+        var executor = Executors.newFixedThreadPool(4);
+        try (var dispatcher = PartitionedDispatcher.create(TestEvent.BUS, 4, TestEvent::key, executor)) {
+            for (int sequence = 0; sequence < eventsPerKey; sequence++) {
+                for (int key = 0; key < keys; key++) {
+                    dispatcher.dispatch(new TestEvent(key, sequence));
+                }
+            }
+
+            Assertions.assertTrue(remaining.await(10, TimeUnit.SECONDS), "All dispatched events should be posted");
+        } finally {
+            executor.shutdown();
+            TestEvent.BUS.removeListener(listener);
+        }
+
+        for (var sequences : seen) {
+            synchronized (sequences) {
+                Assertions.assertEquals(eventsPerKey, sequences.size(), "Every event for each key should be posted once");
+                for (int i = 0; i < eventsPerKey; i++) {
+                    Assertions.assertEquals(i, sequences.get(i), "Events for the same key should be posted in order");
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that a closed {@link PartitionedDispatcher} rejects new events.
+     */
+    @Test
+    public void testPartitionedDispatcherRejectsAfterClose() {
+        record TestEvent() implements RecordEvent {
+            static final EventBus<TestEvent> BUS = EventBus.create(TestEvent.class);
+        }
+
+        var dispatcher = PartitionedDispatcher.create(TestEvent.BUS, 2, event -> 0, Runnable::run);
+        dispatcher.close();
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> dispatcher.dispatch(new TestEvent()),
+                "Dispatching to a closed PartitionedDispatcher should throw"
+        );
+    }
+
+    /**
+     * Tests that a {@link PartitionedDispatcher} can't be created for thread-confined buses, and that an event whose lane
+     * the executor rejected is never posted.
+     */
+    @Test
+    public void testPartitionedDispatcherRejections() {
+        record TestEvent(int sequence) implements RecordEvent {
+            static final BusGroup CONFINED_GROUP = BusGroup.create(
+                    "DispatcherTests.testPartitionedDispatcherRejections", BusGroup.Option.THREAD_CONFINED);
+            static final EventBus<TestEvent> CONFINED_BUS = EventBus.create(CONFINED_GROUP, TestEvent.class);
+            static final EventBus<TestEvent> BUS = EventBus.create(TestEvent.class);
+        }
+
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> PartitionedDispatcher.create(TestEvent.CONFINED_BUS, 2, TestEvent::sequence, Runnable::run),
+                "Thread-confined buses should be rejected"
+        );
+        TestEvent.CONFINED_GROUP.dispose();
+
+        var posted = new ArrayList<Integer>();
+        var listener = TestEvent.BUS.addListener(event -> posted.add(event.sequence()));
+        var rejecting = new boolean[] { true };
+        var dispatcher = PartitionedDispatcher.create(TestEvent.BUS, 1, TestEvent::sequence, task -> {
+            if (rejecting[0])
+                throw new RejectedExecutionException();
+
+            task.run();
+        });
+
+        Assertions.assertThrows(RejectedExecutionException.class, () -> dispatcher.dispatch(new TestEvent(0)));
+        rejecting[0] = false;
+        dispatcher.dispatch(new TestEvent(1));
+        Assertions.assertEquals(List.of(1), posted, "The rejected event should not be posted later");
+
+        dispatcher.close();
+        TestEvent.BUS.removeListener(listener);
+    }
+
+    /**
+     * Tests that events submitted to an {@link EventMailbox} from other threads are only posted when the owner thread
+     * drains it, in the order they were submitted.
+     */
+    @Test
+    public void testMailboxHandoff() throws InterruptedException {
+        record TestEvent(int sequence) implements RecordEvent {
+            static final BusGroup TEST_GROUP = BusGroup.create("DispatcherTests.testMailboxHandoff");
+            static final EventBus<TestEvent> BUS = EventBus.create(TEST_GROUP, TestEvent.class);
+        }
+
+        var owner = Thread.currentThread();
+        var posted = new ArrayList<Integer>();
+        TestEvent.BUS.addListener(event -> {
+            Assertions.assertSame(owner, Thread.currentThread(), "Events should only be posted on the owner thread");
+            posted.add(event.sequence());
+        });
+
+        var mailbox = EventMailbox.create(TestEvent.TEST_GROUP, owner, 128);
+        var worker = new Thread(() -> {
+            for (int i = 0; i < 128; i++) {
+                if (!mailbox.submit(TestEvent.BUS, new TestEvent(i)))
+                    throw new IllegalStateException("The mailbox should not be full yet");
+            }
+        });
+        worker.start();
+        worker.join();
+
+        Assertions.assertTrue(posted.isEmpty(), "Submitted events should not be posted until the mailbox is drained");
+        Assertions.assertEquals(128, mailbox.size(), "All submitted events should be queued");
+        Assertions.assertFalse(
+                CompletableFuture.supplyAsync(() -> mailbox.submit(TestEvent.BUS, new TestEvent(-1))).join(),
+                "Submitting to a full mailbox should fail"
+        );
+
+        Assertions.assertEquals(10, mailbox.drain(10), "Draining should be bounded by the given max");
+        Assertions.assertEquals(118, mailbox.drain(Integer.MAX_VALUE), "The rest of the queued events should be drained");
+        Assertions.assertEquals(128, posted.size(), "All submitted events should have been posted");
+        for (int i = 0; i < posted.size(); i++) {
+            Assertions.assertEquals(i, posted.get(i), "Events should be posted in the order they were submitted");
+        }
+
+        mailbox.submit(TestEvent.BUS, new TestEvent(128));
+        Assertions.assertEquals(129, posted.size(), "Events submitted on the owner thread should be posted immediately");
+
+        var drainFailure = new AtomicReference<Throwable>();
+        var drainer = new Thread(() -> mailbox.drain(1));
+        drainer.setUncaughtExceptionHandler((thread, throwable) -> drainFailure.set(throwable));
+        drainer.start();
+        drainer.join();
+        Assertions.assertInstanceOf(
+                IllegalStateException.class,
+                drainFailure.get(),
+                "Draining from a thread other than the owner should throw"
+        );
+
+        TestEvent.TEST_GROUP.dispose();
+    }
+
+    /**
+     * Tests that an {@link EventMailbox} can't hand off events to thread-confined buses.
+     */
+    @Test
+    public void testMailboxRejectsThreadConfinedBuses() {
+        record TestEvent() implements RecordEvent {
+            static final BusGroup CONFINED_GROUP = BusGroup.create(
+                    "DispatcherTests.testMailboxRejectsThreadConfinedBuses.confined", BusGroup.Option.THREAD_CONFINED);
+            static final EventBus<TestEvent> CONFINED_BUS = EventBus.create(CONFINED_GROUP, TestEvent.class);
+            static final BusGroup TEST_GROUP = BusGroup.create("DispatcherTests.testMailboxRejectsThreadConfinedBuses");
+        }
+
+        var owner = Thread.currentThread();
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> EventMailbox.create(TestEvent.CONFINED_GROUP, owner, 16),
+                "Thread-confined BusGroups should be rejected"
+        );
+
+        var mailbox = EventMailbox.create(TestEvent.TEST_GROUP, owner, 16);
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> mailbox.submit(TestEvent.CONFINED_BUS, new TestEvent()),
+                "Thread-confined EventBuses should be rejected"
+        );
+
+        TestEvent.CONFINED_GROUP.dispose();
+        TestEvent.TEST_GROUP.dispose();
+    }
+
+    /**
+     * Tests that a {@link CoalescingDispatcher} only posts the latest event per key on flush.
+     */
+    @Test
+    public void testCoalescingDispatcher() {
+        record TestEvent(String subject, int value) implements RecordEvent {
+            static final EventBus<TestEvent> BUS = EventBus.create(TestEvent.class);
+        }
+
+        var posted = new ArrayList<TestEvent>();
+        var listener = TestEvent.BUS.addListener(posted::add);
+
+        var latest = CoalescingDispatcher.create(TestEvent.BUS, TestEvent::subject);
+        for (int i = 0; i < 100; i++) {
+            latest.dispatch(new TestEvent("a", i));
+            latest.dispatch(new TestEvent("b", -i));
+        }
+
+        Assertions.assertTrue(posted.isEmpty(), "Events should not be posted until flushed");
+        Assertions.assertEquals(2, latest.size(), "Only one event per key should be buffered");
+        Assertions.assertEquals(2, latest.flush(), "One event per key should be posted on flush");
+        Assertions.assertTrue(posted.contains(new TestEvent("a", 99)), "The latest event for key a should be posted");
+        Assertions.assertTrue(posted.contains(new TestEvent("b", -99)), "The latest event for key b should be posted");
+        Assertions.assertEquals(0, latest.flush(), "Flushing again should not post anything");
+
+        posted.clear();
+        var summed = CoalescingDispatcher.create(TestEvent.BUS, TestEvent::subject,
+                (older, newer) -> new TestEvent(older.subject(), older.value() + newer.value()));
+        for (int i = 1; i <= 10; i++) {
+            summed.dispatch(new TestEvent("a", i));
+        }
+        summed.flush();
+        Assertions.assertEquals(List.of(new TestEvent("a", 55)), posted, "Events should be merged with the merger");
+
+        TestEvent.BUS.removeListener(listener);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.EventJournal;
+import net.minecraftforge.eventbus.api.bus.ReplayBuffer;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class EventJournalTests {
+    record JournalTestEvent(int id, String name) implements RecordEvent {}
+
+    static final ReplayBuffer.Codec<JournalTestEvent> CODEC = new ReplayBuffer.Codec<>() {
+        @Override
+        public int maxEncodedSize() {
+            return Integer.BYTES + Short.BYTES + 32;
+        }
+
+        @Override
+        public void encode(JournalTestEvent event, ByteBuffer buffer) {
+            buffer.putInt(event.id());
+            var name = event.name().getBytes();
+            buffer.putShort((short) name.length).put(name);
+        }
+
+        @Override
+        public JournalTestEvent decode(ByteBuffer buffer) {
+            int id = buffer.getInt();
+            var name = new byte[buffer.getShort()];
+            buffer.get(name);
+            return new JournalTestEvent(id, new String(name));
+        }
+    };
+
+    /**
+     * Tests that events appended to a journal across several segments can be replayed into another BusGroup in order,
+     * and that reopening the journal appends after the existing segments.
+     */
+    @Test
+    public void testJournalReplay() throws IOException {
+        var directory = Files.createTempDirectory("testJournalReplay");
+        var busGroup = BusGroup.create("testJournalReplay");
+        try {
+            var eventBus = EventBus.create(busGroup, JournalTestEvent.class);
+            eventBus.addListener(event -> {});
+
+            // Small segments, so that the events span several of them
+            try (var journal = EventJournal.open(eventBus, directory, CODEC, 256, Duration.ofMillis(10))) {
+                for (int i = 0; i < 50; i++) {
+                    eventBus.post(new JournalTestEvent(i, "event " + i));
+                }
+                Assertions.assertEquals(50, journal.appended());
+            }
+            eventBus.post(new JournalTestEvent(-1, "not journaled"));
+
+            try (var journal = EventJournal.open(eventBus, directory, CODEC, 256, Duration.ofMillis(10))) {
+                eventBus.post(new JournalTestEvent(50, "event 50"));
+            }
+
+            var recoveryGroup = BusGroup.create("testJournalReplayRecovery");
+            var recoveryBus = EventBus.create(recoveryGroup, JournalTestEvent.class);
+            var recovered = new ArrayList<JournalTestEvent>();
+            recoveryBus.addListener(recovered::add);
+
+            Assertions.assertEquals(51, EventJournal.replay(directory, CODEC, recoveryBus));
+            for (int i = 0; i <= 50; i++) {
+                Assertions.assertEquals(new JournalTestEvent(i, "event " + i), recovered.get(i));
+            }
+            recoveryGroup.dispose();
+        } finally {
+            busGroup.dispose();
+            deleteRecursively(directory);
+        }
+    }
+
+    /**
+     * Tests that a journal that was never closed can still be read, and that reading stops cleanly at a record that was
+     * torn by a crash rather than failing or returning a corrupt event.
+     */
+    @Test
+    public void testJournalCrashConsistency() throws IOException {
+        var directory = Files.createTempDirectory("testJournalCrashConsistency");
+        var busGroup = BusGroup.create("testJournalCrashConsistency");
+        try {
+            var eventBus = EventBus.create(busGroup, JournalTestEvent.class);
+            eventBus.addListener(event -> {});
+
+            // Simulates a JVM crash by never closing the journal - the mapped pages are still visible to readers
+            var journal = EventJournal.open(eventBus, directory, CODEC);
+            for (int i = 0; i < 10; i++) {
+                eventBus.post(new JournalTestEvent(i, "event " + i));
+            }
+            Assertions.assertEquals(10, read(directory).size(), "Appended events should be readable without closing");
+            journal.close();
+
+            // Simulates a machine crash where the last record's payload was only partially written back to disk
+            List<Path> segments;
+            try (var files = Files.list(directory)) {
+                segments = files.sorted().toList();
+            }
+            var lastSegment = segments.getLast();
+            int lastRecordStart = 0;
+            try (var channel = FileChannel.open(lastSegment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                var header = ByteBuffer.allocate(Integer.BYTES);
+                for (int i = 0; i < 9; i++) {
+                    channel.read(header.clear(), lastRecordStart);
+                    lastRecordStart += header.flip().getInt();
+                }
+                channel.write(ByteBuffer.wrap(new byte[] { 'X' }), lastRecordStart + 2 * Integer.BYTES + Integer.BYTES + Short.BYTES);
+            }
+            var events = read(directory);
+            Assertions.assertEquals(9, events.size(), "Reading should stop at the torn record");
+            Assertions.assertEquals(new JournalTestEvent(8, "event 8"), events.getLast());
+
+            // Simulates a crash while the record size was being written, leaving garbage after the last record
+            try (var channel = FileChannel.open(lastSegment, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, Integer.MAX_VALUE), lastRecordStart);
+            }
+            Assertions.assertEquals(9, read(directory).size(), "Reading should stop at an impossible record size");
+        } finally {
+            busGroup.dispose();
+            deleteRecursively(directory);
+        }
+    }
+
+    /**
+     * Tests that an event that doesn't fit in the codec's maximum size is skipped without affecting the events around
+     * it, even when the segment has room for it.
+     */
+    @Test
+    public void testJournalSkipsOversizedEvents() throws IOException {
+        var directory = Files.createTempDirectory("testJournalSkipsOversizedEvents");
+        var busGroup = BusGroup.create("testJournalSkipsOversizedEvents");
+        try {
+            var eventBus = EventBus.create(busGroup, JournalTestEvent.class);
+            eventBus.addListener(event -> {});
+
+            try (var journal = EventJournal.open(eventBus, directory, CODEC)) {
+                eventBus.post(new JournalTestEvent(0, "event 0"));
+                eventBus.post(new JournalTestEvent(1, "a name far longer than the thirty-two bytes the codec allows"));
+                eventBus.post(new JournalTestEvent(2, "event 2"));
+                Assertions.assertEquals(2, journal.appended());
+            }
+
+            Assertions.assertEquals(
+                    List.of(new JournalTestEvent(0, "event 0"), new JournalTestEvent(2, "event 2")),
+                    read(directory)
+            );
+        } finally {
+            busGroup.dispose();
+            deleteRecursively(directory);
+        }
+    }
+
+    private static List<JournalTestEvent> read(Path directory) throws IOException {
+        var events = new ArrayList<JournalTestEvent>();
+        EventJournal.read(directory, CODEC, events::add);
+        return events;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (var files = Files.walk(directory)) {
+            for (var path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
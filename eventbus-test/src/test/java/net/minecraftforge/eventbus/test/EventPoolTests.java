@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.EventPool;
+import net.minecraftforge.eventbus.api.event.MutableEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Poolable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class EventPoolTests {
+    static final class PooledEvent extends MutableEvent implements Poolable {
+        int value;
+
+        @Override
+        public void reset() {
+            value = 0;
+        }
+    }
+
+    /**
+     * Tests that each post through an {@link EventPool} sees the value set by its initializer, and that the instance is
+     * reset and marked as released afterwards.
+     */
+    @Test
+    public void testPostInitializesAndReleases() {
+        var busGroup = BusGroup.create("EventPoolTests.testPostInitializesAndReleases");
+        var bus = EventBus.create(busGroup, PooledEvent.class);
+        var pool = EventPool.create(bus, PooledEvent::new);
+
+        var sum = new AtomicInteger();
+        var retained = new AtomicReference<PooledEvent>();
+        bus.addListener(event -> {
+            Assertions.assertFalse(event.isReleased(), "Borrowed instances should not be marked as released");
+            sum.addAndGet(event.value);
+            retained.set(event);
+        });
+
+        for (int i = 1; i <= 3; i++) {
+            int value = i;
+            pool.post(event -> event.value = value);
+        }
+        Assertions.assertEquals(6, sum.get(), "Each post should see the value set by its initializer");
+        Assertions.assertEquals(0, retained.get().value, "Released instances should be reset");
+        Assertions.assertTrue(retained.get().isReleased(), "Retained instances should be marked as released");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that released instances are reused for later posts, unless strict runtime checks are enabled.
+     */
+    @Test
+    public void testReleasedInstancesAreReused() {
+        var busGroup = BusGroup.create("EventPoolTests.testReleasedInstancesAreReused");
+        var bus = EventBus.create(busGroup, PooledEvent.class);
+        var pool = EventPool.create(bus, PooledEvent::new);
+        bus.addListener(event -> {});
+
+        for (int i = 0; i < 3; i++) {
+            pool.post(event -> {});
+        }
+
+        // Strict runtime checks stop released instances from being reused so that retained references stay released
+        long expectedAllocations = Boolean.getBoolean("eventbus.api.strictRuntimeChecks") ? 3 : 1;
+        Assertions.assertEquals(expectedAllocations, pool.allocations());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that releasing the same instance twice throws.
+     */
+    @Test
+    public void testDoubleReleaseThrows() {
+        var busGroup = BusGroup.create("EventPoolTests.testDoubleReleaseThrows");
+        var pool = EventPool.create(EventBus.create(busGroup, PooledEvent.class), PooledEvent::new);
+
+        var event = pool.borrow();
+        pool.release(event);
+        Assertions.assertThrows(IllegalStateException.class, () -> pool.release(event));
+
+        busGroup.dispose();
+    }
+}
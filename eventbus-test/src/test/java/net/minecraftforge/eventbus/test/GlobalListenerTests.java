@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.CancellableEventBus;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GlobalListenerTests {
+    record FirstGlobalEvent() implements RecordEvent {}
+    record SecondGlobalEvent(boolean cancel) implements Cancellable, RecordEvent {}
+    record LaterGlobalEvent() implements RecordEvent {}
+
+    /**
+     * Tests that a global listener sees events posted to every bus in its BusGroup, including buses without listeners,
+     * without those buses' monitors being called.
+     */
+    @Test
+    public void testSeesEveryBus() {
+        var busGroup = BusGroup.create("GlobalListenerTests.testSeesEveryBus");
+        var firstBus = EventBus.create(busGroup, FirstGlobalEvent.class);
+        var secondBus = CancellableEventBus.create(busGroup, SecondGlobalEvent.class);
+        firstBus.addListener(event -> {});
+        var monitorCalls = new AtomicInteger();
+        secondBus.addListener((event, wasCancelled) -> monitorCalls.incrementAndGet());
+
+        var seen = new ArrayList<String>();
+        busGroup.addGlobalListener((event, wasCancelled) -> seen.add(event.getClass().getSimpleName() + '=' + wasCancelled));
+
+        firstBus.post(new FirstGlobalEvent());
+        secondBus.post(new SecondGlobalEvent(true));
+        Assertions.assertEquals(List.of("FirstGlobalEvent=false", "SecondGlobalEvent=false"), seen);
+        Assertions.assertEquals(0, monitorCalls.get(), "Monitors shouldn't be called on buses without other listeners");
+        Assertions.assertFalse(secondBus.hasListeners(), "Global listeners don't count as having listeners");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a global listener is told whether the event was cancelled, after the bus's own monitors.
+     */
+    @Test
+    public void testCancellation() {
+        var busGroup = BusGroup.create("GlobalListenerTests.testCancellation");
+        var secondBus = CancellableEventBus.create(busGroup, SecondGlobalEvent.class);
+        var monitorCalls = new AtomicInteger();
+        secondBus.addListener((event, wasCancelled) -> monitorCalls.incrementAndGet());
+
+        var seen = new ArrayList<String>();
+        busGroup.addGlobalListener((event, wasCancelled) -> seen.add(event.getClass().getSimpleName() + '=' + wasCancelled));
+
+        secondBus.addListener(SecondGlobalEvent::cancel);
+        Assertions.assertTrue(secondBus.post(new SecondGlobalEvent(true)));
+        Assertions.assertEquals(List.of("SecondGlobalEvent=true"), seen);
+        Assertions.assertEquals(1, monitorCalls.get());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a global listener sees events posted to buses created after it was added.
+     */
+    @Test
+    public void testBusesCreatedLater() {
+        var busGroup = BusGroup.create("GlobalListenerTests.testBusesCreatedLater");
+        var seen = new ArrayList<String>();
+        busGroup.addGlobalListener((event, wasCancelled) -> seen.add(event.getClass().getSimpleName() + '=' + wasCancelled));
+
+        var laterBus = EventBus.create(busGroup, LaterGlobalEvent.class);
+        laterBus.post(new LaterGlobalEvent());
+        Assertions.assertEquals(List.of("LaterGlobalEvent=false"), seen, "Buses created later should be covered");
+        Assertions.assertEquals("empty+monitors(1)", laterBus.describeInvoker().strategy());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a global listener stops once removed.
+     */
+    @Test
+    public void testRemoval() {
+        var busGroup = BusGroup.create("GlobalListenerTests.testRemoval");
+        var firstBus = EventBus.create(busGroup, FirstGlobalEvent.class);
+        var laterBus = EventBus.create(busGroup, LaterGlobalEvent.class);
+        firstBus.addListener(event -> {});
+
+        var seen = new ArrayList<String>();
+        var globalListener = busGroup.addGlobalListener((event, wasCancelled) -> seen.add(event.getClass().getSimpleName()));
+        firstBus.post(new FirstGlobalEvent());
+        Assertions.assertEquals(List.of("FirstGlobalEvent"), seen);
+
+        busGroup.unregister(List.of(globalListener));
+        seen.clear();
+        firstBus.post(new FirstGlobalEvent());
+        laterBus.post(new LaterGlobalEvent());
+        Assertions.assertEquals(List.of(), seen);
+        Assertions.assertEquals("noOp", laterBus.describeInvoker().strategy());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that global listeners belong to the BusGroup rather than its name, so a new group with the same name has
+     * none.
+     */
+    @Test
+    public void testNotKeptByReusedName() {
+        var seen = new ArrayList<String>();
+        var busGroup = BusGroup.create("GlobalListenerTests.testNotKeptByReusedName");
+        busGroup.addGlobalListener((event, wasCancelled) -> seen.add("disposed"));
+        busGroup.dispose();
+
+        var reusedGroup = BusGroup.create("GlobalListenerTests.testNotKeptByReusedName");
+        var reusedBus = EventBus.create(reusedGroup, FirstGlobalEvent.class);
+        reusedBus.post(new FirstGlobalEvent());
+        Assertions.assertEquals(List.of(), seen);
+        Assertions.assertEquals("noOp", reusedBus.describeInvoker().strategy());
+
+        reusedGroup.dispose();
+    }
+}
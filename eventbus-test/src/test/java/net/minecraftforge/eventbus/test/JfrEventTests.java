@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.CancellableEventBus;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+public class JfrEventTests {
+    record JfrTestEvent(boolean cancel) implements Cancellable, RecordEvent {}
+
+    /**
+     * Tests that posts are only instrumented while a recording is running, and that the recorded post and invoker
+     * rebuild events describe the bus they came from.
+     */
+    @Test
+    public void testJfrEvents() throws IOException {
+        var file = Files.createTempFile("testJfrEvents", ".jfr");
+        var busGroup = BusGroup.create("testJfrEvents");
+        try {
+            var eventBus = CancellableEventBus.create(busGroup, JfrTestEvent.class);
+            eventBus.addListener(JfrTestEvent::cancel);
+            eventBus.post(new JfrTestEvent(false)); // built without instrumentation, as no recording is running
+
+            List<RecordedEvent> recordedEvents;
+            try (var recording = new Recording()) {
+                recording.enable("net.minecraftforge.eventbus.EventBusPost").withoutThreshold();
+                recording.enable("net.minecraftforge.eventbus.InvokerRebuild").withoutThreshold();
+                recording.start();
+
+                Assertions.assertFalse(eventBus.post(new JfrTestEvent(false)));
+                Assertions.assertTrue(eventBus.post(new JfrTestEvent(true)));
+
+                recording.stop();
+                recording.dump(file);
+                recordedEvents = RecordingFile.readAllEvents(file);
+            }
+
+            var posts = recordedEvents.stream()
+                    .filter(event -> event.getEventType().getName().equals("net.minecraftforge.eventbus.EventBusPost"))
+                    .filter(event -> "testJfrEvents".equals(event.getString("busGroup")))
+                    .toList();
+            Assertions.assertEquals(2, posts.size(), "Both posts during the recording should be instrumented");
+            Assertions.assertEquals(JfrTestEvent.class.getName(), posts.getFirst().getClass("eventType").getName());
+            Assertions.assertFalse(posts.getFirst().getBoolean("cancelled"));
+            Assertions.assertTrue(posts.getLast().getBoolean("cancelled"));
+
+            var rebuild = recordedEvents.stream()
+                    .filter(event -> event.getEventType().getName().equals("net.minecraftforge.eventbus.InvokerRebuild"))
+                    .filter(event -> "testJfrEvents".equals(event.getString("busGroup")))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("The invoker should be rebuilt when the recording starts"));
+            Assertions.assertEquals(1, rebuild.getInt("listenerCount"));
+            Assertions.assertEquals("direct", rebuild.getString("strategy"));
+
+            // Once the recording has stopped, the invoker is rebuilt without instrumentation
+            Assertions.assertTrue(eventBus.post(new JfrTestEvent(true)));
+        } finally {
+            busGroup.dispose();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Tests that the buses of a thread-confined BusGroup, which the recording listener can't invalidate, still pick up
+     * a recording starting and stopping on their next post.
+     */
+    @Test
+    public void testThreadConfined() throws IOException {
+        var file = Files.createTempFile("testThreadConfined", ".jfr");
+        var busGroup = BusGroup.create("JfrEventTests.testThreadConfined", BusGroup.Option.THREAD_CONFINED, BusGroup.Option.METRICS);
+        try {
+            var eventBus = CancellableEventBus.create(busGroup, JfrTestEvent.class);
+            eventBus.addListener(JfrTestEvent::cancel);
+            eventBus.post(new JfrTestEvent(false)); // built before the recording starts
+            Assertions.assertEquals(1, busGroup.metrics().getFirst().invokerRebuilds());
+
+            List<RecordedEvent> recordedEvents;
+            try (var recording = new Recording()) {
+                recording.enable("net.minecraftforge.eventbus.EventBusPost").withoutThreshold();
+                recording.start();
+
+                Assertions.assertTrue(eventBus.post(new JfrTestEvent(true)));
+                Assertions.assertEquals(2, busGroup.metrics().getFirst().invokerRebuilds(), "Should be rebuilt with instrumentation");
+
+                recording.stop();
+                recording.dump(file);
+                recordedEvents = RecordingFile.readAllEvents(file);
+            }
+
+            var posts = recordedEvents.stream()
+                    .filter(event -> event.getEventType().getName().equals("net.minecraftforge.eventbus.EventBusPost"))
+                    .filter(event -> "JfrEventTests.testThreadConfined".equals(event.getString("busGroup")))
+                    .toList();
+            Assertions.assertEquals(1, posts.size(), "The post during the recording should be instrumented");
+
+            Assertions.assertTrue(eventBus.post(new JfrTestEvent(true)));
+            Assertions.assertEquals(3, busGroup.metrics().getFirst().invokerRebuilds(), "Should be rebuilt without instrumentation");
+            Assertions.assertTrue(eventBus.post(new JfrTestEvent(true)));
+            Assertions.assertEquals(3, busGroup.metrics().getFirst().invokerRebuilds(), "Should only be rebuilt once per change");
+        } finally {
+            busGroup.dispose();
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.CancellableEventBus;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class LazyPostingTests {
+    /**
+     * Tests that {@link EventBus#post(Supplier)} and {@link EventBus#fire(Supplier)} don't create the event when there
+     * are no listeners.
+     */
+    @Test
+    public void testEventIsNotCreatedWithoutListeners() {
+        record TestEvent() implements RecordEvent {
+            static final EventBus<TestEvent> BUS = EventBus.create(TestEvent.class);
+        }
+
+        var created = new AtomicInteger();
+        TestEvent.BUS.post(() -> {
+            created.incrementAndGet();
+            return new TestEvent();
+        });
+        Assertions.assertNull(TestEvent.BUS.fire(() -> {
+            created.incrementAndGet();
+            return new TestEvent();
+        }), "fire should return null when there are no listeners");
+        Assertions.assertEquals(0, created.get(), "The event should not be created when there are no listeners");
+    }
+
+    /**
+     * Tests that {@link EventBus#post(Supplier)} and {@link EventBus#fire(Supplier)} create the event once per post when
+     * there are listeners.
+     */
+    @Test
+    public void testEventIsCreatedOncePerPost() {
+        record TestEvent() implements RecordEvent {
+            static final EventBus<TestEvent> BUS = EventBus.create(TestEvent.class);
+        }
+
+        var created = new AtomicInteger();
+        var called = new AtomicInteger();
+        TestEvent.BUS.addListener(event -> called.incrementAndGet());
+        TestEvent.BUS.post(() -> {
+            created.incrementAndGet();
+            return new TestEvent();
+        });
+        Assertions.assertNotNull(TestEvent.BUS.fire(TestEvent::new), "fire should return the event when there are listeners");
+        Assertions.assertEquals(1, created.get(), "The event should be created once per post when there are listeners");
+        Assertions.assertEquals(2, called.get(), "The listener should be called for each post");
+    }
+
+    /**
+     * Tests that {@link EventBus#post(Supplier)} reports cancellation on a {@link CancellableEventBus}, and never
+     * cancels without listeners.
+     */
+    @Test
+    public void testCancellableLazyPosting() {
+        record TestEvent() implements Cancellable, RecordEvent {
+            static final CancellableEventBus<TestEvent> BUS = CancellableEventBus.create(TestEvent.class);
+        }
+
+        Assertions.assertFalse(TestEvent.BUS.post(TestEvent::new), "Nothing should cancel the event without listeners");
+        TestEvent.BUS.addListener(event -> true);
+        Assertions.assertTrue(TestEvent.BUS.post(TestEvent::new), "The listener should cancel the event");
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.ListenerProfiler;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.api.listener.SubscribeEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+public class ListenerProfilerTests {
+    record ProfiledEvent() implements RecordEvent {}
+
+    /**
+     * Registered by the tests to check that listeners from methods are identified by the method.
+     */
+    static final class ProfiledListeners {
+        @SubscribeEvent
+        static void onProfiledEvent(ProfiledEvent event) {
+            long end = System.nanoTime() + 1_000_000;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        }
+
+        @SubscribeEvent(priority = Priority.MONITOR)
+        static void monitorProfiledEvent(ProfiledEvent event) {}
+    }
+
+    /**
+     * Registers the {@link ProfiledListeners} and a lambda listener, then posts ten events while profiling.
+     */
+    private static List<ListenerProfiler.ListenerStats> profile(BusGroup busGroup) {
+        var eventBus = EventBus.create(busGroup, ProfiledEvent.class);
+        busGroup.register(MethodHandles.lookup(), ProfiledListeners.class);
+        eventBus.addListener(Priority.HIGH, event -> {});
+        eventBus.post(new ProfiledEvent());
+
+        try (var profiler = ListenerProfiler.enable(busGroup)) {
+            for (int i = 0; i < 10; i++) {
+                eventBus.post(new ProfiledEvent());
+            }
+            return profiler.snapshot();
+        }
+    }
+
+    /**
+     * Tests that a ListenerProfiler times each listener only while it's enabled.
+     */
+    @Test
+    public void testTimesOnlyWhileEnabled() {
+        var busGroup = BusGroup.create("ListenerProfilerTests.testTimesOnlyWhileEnabled");
+        var eventBus = EventBus.create(busGroup, ProfiledEvent.class);
+        eventBus.addListener(event -> {});
+        eventBus.post(new ProfiledEvent()); // not timed before enabling
+
+        List<ListenerProfiler.ListenerStats> stats;
+        try (var profiler = ListenerProfiler.enable(busGroup)) {
+            for (int i = 0; i < 10; i++) {
+                eventBus.post(new ProfiledEvent());
+            }
+            stats = profiler.snapshot();
+        }
+        eventBus.post(new ProfiledEvent()); // not timed after closing
+
+        Assertions.assertEquals(1, stats.size());
+        var listenerStats = stats.getFirst();
+        Assertions.assertEquals(10, listenerStats.calls());
+        Assertions.assertEquals(ProfiledEvent.class, listenerStats.eventType());
+        Assertions.assertTrue(listenerStats.p50Nanos() <= listenerStats.p99Nanos());
+        Assertions.assertTrue(listenerStats.p99Nanos() <= listenerStats.maxNanos());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a bus can't be profiled twice at once.
+     */
+    @Test
+    public void testOneProfilerAtATime() {
+        var busGroup = BusGroup.create("ListenerProfilerTests.testOneProfilerAtATime");
+        var eventBus = EventBus.create(busGroup, ProfiledEvent.class);
+
+        try (var ignored = ListenerProfiler.enable(busGroup)) {
+            Assertions.assertThrows(IllegalStateException.class, () -> ListenerProfiler.enable(eventBus));
+        }
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a ListenerProfiler sorts the slowest listener first and reports at least the time it spent.
+     */
+    @Test
+    public void testSlowestListenerFirst() {
+        var busGroup = BusGroup.create("ListenerProfilerTests.testSlowestListenerFirst");
+        var stats = profile(busGroup);
+
+        Assertions.assertEquals(3, stats.size());
+        var slowest = stats.getFirst();
+        Assertions.assertEquals(ProfiledListeners.class.getName(), slowest.declaringClass());
+        Assertions.assertEquals("onProfiledEvent", slowest.methodName());
+        Assertions.assertTrue(slowest.p50Nanos() >= 1_000_000, "The median should be at least the listener's spin time");
+        Assertions.assertTrue(slowest.totalNanos() >= 10_000_000);
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a ListenerProfiler identifies each listener by the method or class it came from.
+     */
+    @Test
+    public void testListenerSources() {
+        var busGroup = BusGroup.create("ListenerProfilerTests.testListenerSources");
+        var stats = profile(busGroup);
+
+        Assertions.assertTrue(stats.stream().anyMatch(listenerStats -> listenerStats.methodName().equals("monitorProfiledEvent")
+                && listenerStats.priority() == Priority.MONITOR));
+        Assertions.assertTrue(stats.stream().anyMatch(listenerStats -> listenerStats.methodName().equals("lambda")
+                && listenerStats.declaringClass().equals(ListenerProfilerTests.class.getName())));
+
+        busGroup.dispose();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.CancellableEventBus;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class MetricsTests {
+    record MetricsTestEvent(boolean cancel) implements Cancellable, RecordEvent {}
+
+    /**
+     * Tests that {@link BusGroup#metrics()} is empty for a BusGroup created without the metrics option.
+     */
+    @Test
+    public void testNoMetricsWithoutOption() {
+        var busGroup = BusGroup.create("MetricsTests.testNoMetricsWithoutOption");
+        CancellableEventBus.create(busGroup, MetricsTestEvent.class).post(new MetricsTestEvent(false));
+        Assertions.assertEquals(List.of(), busGroup.metrics());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a BusGroup created with the metrics option counts posts, cancellations, posts without listeners and
+     * invoker rebuilds.
+     */
+    @Test
+    public void testCounters() {
+        var busGroup = BusGroup.create("MetricsTests.testCounters", BusGroup.Option.METRICS);
+        var eventBus = CancellableEventBus.create(busGroup, MetricsTestEvent.class);
+        eventBus.post(new MetricsTestEvent(true));
+
+        eventBus.addListener(MetricsTestEvent::cancel);
+        eventBus.addListener((event, wasCancelled) -> {});
+        Assertions.assertTrue(eventBus.post(new MetricsTestEvent(true)));
+        Assertions.assertFalse(eventBus.post(new MetricsTestEvent(false)));
+
+        var metrics = busGroup.metrics();
+        Assertions.assertEquals(1, metrics.size());
+        var busMetrics = metrics.getFirst();
+        Assertions.assertEquals(MetricsTestEvent.class, busMetrics.eventType());
+        Assertions.assertEquals(2, busMetrics.listenerCount());
+        Assertions.assertEquals(3, busMetrics.posts());
+        Assertions.assertEquals(1, busMetrics.postsWithoutListeners());
+        Assertions.assertEquals(1, busMetrics.cancellations());
+        Assertions.assertEquals(2, busMetrics.invokerRebuilds(), "Should rebuild once before and once after adding listeners");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that hasListeners() is unaffected by the metrics option and doesn't count monitoring listeners.
+     */
+    @Test
+    public void testHasListeners() {
+        var busGroup = BusGroup.create("MetricsTests.testHasListeners", BusGroup.Option.METRICS);
+        var eventBus = CancellableEventBus.create(busGroup, MetricsTestEvent.class);
+        Assertions.assertFalse(eventBus.hasListeners());
+
+        var listener = eventBus.addListener(MetricsTestEvent::cancel);
+        eventBus.addListener((event, wasCancelled) -> {});
+        Assertions.assertTrue(eventBus.hasListeners());
+
+        eventBus.removeListener(listener);
+        Assertions.assertFalse(eventBus.hasListeners(), "A monitoring listener alone doesn't count as having listeners");
+        Assertions.assertEquals(1, busGroup.metrics().getFirst().listenerCount());
+
+        busGroup.dispose();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class PostLatencyTests {
+    record LatencyEvent(long spinNanos) implements RecordEvent {}
+
+    /**
+     * Creates a bus with a listener that spins for as long as each event asks it to.
+     */
+    private static EventBus<LatencyEvent> createSpinningBus(BusGroup busGroup) {
+        var eventBus = EventBus.create(busGroup, LatencyEvent.class);
+        eventBus.addListener(event -> {
+            long end = System.nanoTime() + event.spinNanos();
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        });
+        return eventBus;
+    }
+
+    /**
+     * Tests that post latencies aren't recorded for a BusGroup created without the POST_LATENCY option.
+     */
+    @Test
+    public void testNoLatenciesWithoutOption() {
+        var busGroup = BusGroup.create("PostLatencyTests.testNoLatenciesWithoutOption", BusGroup.Option.METRICS);
+        EventBus.create(busGroup, LatencyEvent.class).post(new LatencyEvent(0));
+        Assertions.assertEquals(List.of(), busGroup.drainPostLatencies());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a BusGroup created with the POST_LATENCY option records how long posts take from any thread.
+     */
+    @Test
+    public void testRecordsFromAnyThread() throws InterruptedException {
+        var busGroup = BusGroup.create("PostLatencyTests.testRecordsFromAnyThread", BusGroup.Option.POST_LATENCY);
+        var eventBus = createSpinningBus(busGroup);
+
+        for (int i = 0; i < 1000; i++) {
+            eventBus.post(new LatencyEvent(0));
+        }
+        eventBus.post(new LatencyEvent(10_000_000));
+
+        var otherThread = new Thread(() -> {
+            for (int i = 0; i < 100; i++) {
+                eventBus.post(new LatencyEvent(0));
+            }
+        });
+        otherThread.start();
+        otherThread.join();
+
+        var postLatency = busGroup.drainPostLatencies().getFirst();
+        Assertions.assertEquals(LatencyEvent.class, postLatency.eventType());
+        Assertions.assertEquals(1101, postLatency.posts());
+        Assertions.assertTrue(postLatency.maxNanos() >= 10_000_000);
+        Assertions.assertTrue(postLatency.p50Nanos() < 10_000_000);
+        Assertions.assertTrue(postLatency.p50Nanos() <= postLatency.p99Nanos());
+        Assertions.assertTrue(postLatency.p99Nanos() <= postLatency.p999Nanos());
+        Assertions.assertTrue(postLatency.p999Nanos() <= postLatency.maxNanos());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that posts without listeners aren't timed, and that the POST_LATENCY option implies METRICS.
+     */
+    @Test
+    public void testPostsWithoutListeners() {
+        var busGroup = BusGroup.create("PostLatencyTests.testPostsWithoutListeners", BusGroup.Option.POST_LATENCY);
+        var eventBus = EventBus.create(busGroup, LatencyEvent.class);
+        eventBus.post(new LatencyEvent(0)); // not timed without listeners
+        eventBus.addListener(event -> {});
+        eventBus.post(new LatencyEvent(0));
+
+        Assertions.assertEquals(1, busGroup.drainPostLatencies().getFirst().posts());
+        Assertions.assertEquals(2, busGroup.metrics().getFirst().posts(), "POST_LATENCY should imply METRICS");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that each drain only covers the posts since the previous one.
+     */
+    @Test
+    public void testDrainResets() {
+        var busGroup = BusGroup.create("PostLatencyTests.testDrainResets", BusGroup.Option.POST_LATENCY);
+        var eventBus = createSpinningBus(busGroup);
+        for (int i = 0; i < 10; i++) {
+            eventBus.post(new LatencyEvent(0));
+        }
+
+        Assertions.assertEquals(10, busGroup.drainPostLatencies().getFirst().posts());
+        Assertions.assertEquals(0, busGroup.drainPostLatencies().getFirst().posts(), "Draining should reset the histogram");
+        eventBus.post(new LatencyEvent(0));
+        Assertions.assertEquals(1, busGroup.drainPostLatencies().getFirst().posts());
+
+        busGroup.dispose();
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.IntEventBus;
+import net.minecraftforge.eventbus.api.bus.LongEventBus;
+import net.minecraftforge.eventbus.api.bus.ObjIntEventBus;
+import net.minecraftforge.eventbus.api.listener.ObjIntPredicate;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.ObjIntConsumer;
+
+public class PrimitiveEventBusTests {
+    /**
+     * Tests that an {@link IntEventBus} calls its listeners in priority order, stops on cancellation and always calls
+     * monitors.
+     */
+    @Test
+    public void testPriorityOrderAndCancellation() {
+        var busGroup = BusGroup.create("PrimitiveEventBusTests.testPriorityOrderAndCancellation");
+        var intBus = IntEventBus.create(busGroup, "damage");
+        var calls = new ArrayList<String>();
+
+        Assertions.assertFalse(intBus.hasListeners(), "The IntEventBus should not have listeners yet");
+        intBus.addListener(Priority.LOW, (IntConsumer) value -> calls.add("low " + value));
+        intBus.addListener(Priority.HIGH, (IntPredicate) value -> {
+            calls.add("high " + value);
+            return value < 0;
+        });
+        intBus.addListener(Priority.MONITOR, (IntConsumer) value -> calls.add("monitor " + value));
+        Assertions.assertTrue(intBus.hasListeners(), "The IntEventBus should have listeners");
+
+        Assertions.assertFalse(intBus.post(5), "Positive values should not be cancelled");
+        Assertions.assertEquals(List.of("high 5", "low 5", "monitor 5"), calls);
+
+        calls.clear();
+        Assertions.assertTrue(intBus.post(-1), "Negative values should be cancelled");
+        Assertions.assertEquals(List.of("high -1", "monitor -1"), calls, "Cancelling should skip later listeners but not monitors");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that removed listeners are no longer called.
+     */
+    @Test
+    public void testRemovedListenersAreNotCalled() {
+        var busGroup = BusGroup.create("PrimitiveEventBusTests.testRemovedListenersAreNotCalled");
+        var intBus = IntEventBus.create(busGroup, "damage");
+        var calls = new ArrayList<String>();
+
+        intBus.addListener((IntConsumer) value -> calls.add("listener " + value));
+        var monitor = intBus.addListener(Priority.MONITOR, (IntConsumer) value -> calls.add("monitor " + value));
+        intBus.removeListener(monitor);
+        intBus.post(1);
+        Assertions.assertEquals(List.of("listener 1"), calls, "Removed listeners should not be called");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that creating a primitive bus with a name that's already in use returns the existing bus of the same kind,
+     * and throws for a different kind.
+     */
+    @Test
+    public void testBusNames() {
+        var busGroup = BusGroup.create("PrimitiveEventBusTests.testBusNames");
+        var intBus = IntEventBus.create(busGroup, "damage");
+
+        Assertions.assertSame(intBus, IntEventBus.create(busGroup, "damage"), "Creating a bus with the same name should return the existing one");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LongEventBus.create(busGroup, "damage"));
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that cancelling listeners can't be added as monitors.
+     */
+    @Test
+    public void testMonitorsCannotCancel() {
+        var busGroup = BusGroup.create("PrimitiveEventBusTests.testMonitorsCannotCancel");
+        var intBus = IntEventBus.create(busGroup, "damage");
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> intBus.addListener(Priority.MONITOR, (IntPredicate) value -> true));
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a {@link LongEventBus} passes the full long value to its listeners.
+     */
+    @Test
+    public void testLongEventBus() {
+        var busGroup = BusGroup.create("PrimitiveEventBusTests.testLongEventBus");
+        var longBus = LongEventBus.create(busGroup, "ticks");
+
+        var total = new AtomicLong();
+        longBus.addListener(total::addAndGet);
+        longBus.post(1L << 40);
+        Assertions.assertEquals(1L << 40, total.get());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that an {@link ObjIntEventBus} passes both values to its listeners and stops on cancellation.
+     */
+    @Test
+    public void testObjIntEventBus() {
+        var busGroup = BusGroup.create("PrimitiveEventBusTests.testObjIntEventBus");
+        ObjIntEventBus<String> objIntBus = ObjIntEventBus.create(busGroup, "named");
+
+        var named = new AtomicReference<String>();
+        objIntBus.addListener((ObjIntConsumer<String>) (subject, value) -> named.set(subject + value));
+        objIntBus.addListener(Priority.HIGH, (ObjIntPredicate<String>) (subject, value) -> subject.isEmpty());
+        Assertions.assertFalse(objIntBus.post("foo", 3));
+        Assertions.assertEquals("foo3", named.get());
+        Assertions.assertTrue(objIntBus.post("", 4), "Empty subjects should be cancelled");
+        Assertions.assertEquals("foo3", named.get(), "Cancelling should skip later listeners");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that primitive buses follow the lifecycle of their BusGroup.
+     */
+    @Test
+    public void testShutdownAndStartup() {
+        var busGroup = BusGroup.create("PrimitiveEventBusTests.testShutdownAndStartup");
+        var intBus = IntEventBus.create(busGroup, "damage");
+        var calls = new ArrayList<Integer>();
+        intBus.addListener((IntConsumer) calls::add);
+
+        busGroup.shutdown();
+        intBus.post(2);
+        Assertions.assertTrue(calls.isEmpty(), "Listeners should not be called after shutdown");
+
+        busGroup.startup();
+        intBus.post(2);
+        Assertions.assertEquals(List.of(2), calls, "Listeners should be called after startup");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that consumers mixed in between cancelling listeners are called in priority order, and skipped once an
+     * earlier listener cancels.
+     */
+    @Test
+    public void testConsumersBetweenCancellingListeners() {
+        var busGroup = BusGroup.create("PrimitiveEventBusTests.testConsumersBetweenCancellingListeners");
+        var intBus = IntEventBus.create(busGroup, "mixed");
+        var calls = new ArrayList<String>();
+        intBus.addListener(Priority.HIGHEST, (IntConsumer) value -> calls.add("a"));
+        intBus.addListener(Priority.HIGH, (IntConsumer) value -> calls.add("b"));
+        intBus.addListener((IntPredicate) value -> {
+            calls.add("c");
+            return value == 1;
+        });
+        intBus.addListener(Priority.LOW, (IntConsumer) value -> calls.add("d"));
+        intBus.addListener(Priority.LOWEST, (IntPredicate) value -> {
+            calls.add("e");
+            return value == 2;
+        });
+
+        Assertions.assertFalse(intBus.post(0));
+        Assertions.assertEquals(List.of("a", "b", "c", "d", "e"), calls);
+
+        calls.clear();
+        Assertions.assertTrue(intBus.post(1));
+        Assertions.assertEquals(List.of("a", "b", "c"), calls);
+
+        calls.clear();
+        Assertions.assertTrue(intBus.post(2));
+        Assertions.assertEquals(List.of("a", "b", "c", "d", "e"), calls);
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that cancellation-aware monitors are told whether the event was cancelled, alongside plain monitors.
+     */
+    @Test
+    public void testMonitorsSeeCancellation() {
+        var busGroup = BusGroup.create("PrimitiveEventBusTests.testMonitorsSeeCancellation");
+        var calls = new ArrayList<String>();
+
+        var intBus = IntEventBus.create(busGroup, "damage");
+        intBus.addListener((IntPredicate) value -> value < 0);
+        intBus.addListener((value, cancelled) -> calls.add("monitor " + cancelled));
+        intBus.addListener(Priority.MONITOR, (IntConsumer) value -> calls.add("plain monitor"));
+        intBus.post(1);
+        intBus.post(-1);
+        Assertions.assertEquals(List.of("monitor false", "plain monitor", "monitor true", "plain monitor"), calls);
+
+        var longBus = LongEventBus.create(busGroup, "ticks");
+        longBus.addListener((LongPredicate) value -> value < 0);
+        longBus.addListener((value, cancelled) -> calls.add(value + " " + cancelled));
+        calls.clear();
+        longBus.post(-1L);
+        longBus.post(1L << 40);
+        Assertions.assertEquals(List.of("-1 true", (1L << 40) + " false"), calls);
+
+        ObjIntEventBus<String> objIntBus = ObjIntEventBus.create(busGroup, "named");
+        objIntBus.addListener((ObjIntPredicate<String>) (subject, value) -> subject.isEmpty());
+        objIntBus.addListener((subject, value, cancelled) -> calls.add(subject + value + ' ' + cancelled));
+        calls.clear();
+        objIntBus.post("", 1);
+        objIntBus.post("foo", 2);
+        Assertions.assertEquals(List.of("1 true", "foo2 false"), calls);
+
+        busGroup.dispose();
+    }
+}
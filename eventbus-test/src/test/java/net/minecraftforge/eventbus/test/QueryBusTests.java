@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.DoubleQueryBus;
+import net.minecraftforge.eventbus.api.bus.IntEventBus;
+import net.minecraftforge.eventbus.api.bus.IntQueryBus;
+import net.minecraftforge.eventbus.api.bus.QueryBus;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class QueryBusTests {
+    /**
+     * Tests that query buses answer with the identity when they have no listeners.
+     */
+    @Test
+    public void testNoListeners() {
+        var busGroup = BusGroup.create("QueryBusTests.testNoListeners");
+        QueryBus<String, String> queryBus = QueryBus.create(busGroup, "query");
+        IntQueryBus<String> intQueryBus = IntQueryBus.create(busGroup, "intQuery");
+
+        Assertions.assertNull(queryBus.firstNonNull("foo"), "No listener should answer without listeners");
+        Assertions.assertEquals("", queryBus.reduce("foo", "", String::concat));
+        Assertions.assertEquals(0, intQueryBus.sum("foo"));
+        Assertions.assertEquals(-1, intQueryBus.max("foo", -1), "The identity should be returned without listeners");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a {@link QueryBus} asks its listeners in priority order, short-circuits on the first non-null answer
+     * and combines answers in priority order.
+     */
+    @Test
+    public void testObjectQueries() {
+        var busGroup = BusGroup.create("QueryBusTests.testObjectQueries");
+        QueryBus<String, String> queryBus = QueryBus.create(busGroup, "query");
+
+        var calls = new ArrayList<String>();
+        queryBus.addListener(Priority.LOW, query -> {
+            calls.add("low");
+            return "low";
+        });
+        queryBus.addListener(Priority.HIGH, query -> {
+            calls.add("high");
+            return null;
+        });
+        queryBus.addListener(query -> {
+            calls.add("normal");
+            return query.isEmpty() ? null : query;
+        });
+        Assertions.assertEquals("low", queryBus.firstNonNull(""), "Null answers should be skipped");
+        Assertions.assertEquals(List.of("high", "normal", "low"), calls);
+
+        calls.clear();
+        Assertions.assertEquals("foo", queryBus.firstNonNull("foo"));
+        Assertions.assertEquals(List.of("high", "normal"), calls, "Listeners after the first answer should be skipped");
+        Assertions.assertEquals("[foo|low", queryBus.reduce("foo", "[", (a, b) -> a.length() > 1 ? a + '|' + b : a + b),
+                "Answers should be combined in priority order, skipping nulls");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests the reductions of {@link IntQueryBus} and {@link DoubleQueryBus}, with enough listeners to use the looping
+     * invokers.
+     */
+    @Test
+    public void testNumericQueries() {
+        var busGroup = BusGroup.create("QueryBusTests.testNumericQueries");
+        IntQueryBus<String> intQueryBus = IntQueryBus.create(busGroup, "intQuery");
+        DoubleQueryBus<String> doubleQueryBus = DoubleQueryBus.create(busGroup, "doubleQuery");
+
+        for (int i = 1; i <= 5; i++) {
+            int bonus = i;
+            intQueryBus.addListener(query -> query.length() * bonus);
+            doubleQueryBus.addListener(query -> bonus * 0.5);
+        }
+        Assertions.assertEquals(3 * 15, intQueryBus.sum("foo"));
+        Assertions.assertEquals(15, intQueryBus.max("foo", 0));
+        Assertions.assertEquals(-1, intQueryBus.min("foo", -1));
+        Assertions.assertEquals(120, intQueryBus.reduce("a", 1, (a, b) -> a * b), "Five listeners should use the looping invoker");
+        Assertions.assertEquals(7.5, doubleQueryBus.sum("foo"));
+        Assertions.assertEquals(0.5, doubleQueryBus.min("foo", Double.MAX_VALUE));
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that monitors can't answer queries, and that query buses share their names with primitive buses.
+     */
+    @Test
+    public void testRestrictions() {
+        var busGroup = BusGroup.create("QueryBusTests.testRestrictions");
+        QueryBus<String, String> queryBus = QueryBus.create(busGroup, "query");
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> queryBus.addListener(Priority.MONITOR, query -> query),
+                "Monitors should not be able to answer queries");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IntEventBus.create(busGroup, "query"),
+                "Query buses should share their names with primitive buses");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that query buses follow the lifecycle of their BusGroup.
+     */
+    @Test
+    public void testShutdownAndStartup() {
+        var busGroup = BusGroup.create("QueryBusTests.testShutdownAndStartup");
+        QueryBus<String, String> queryBus = QueryBus.create(busGroup, "query");
+        IntQueryBus<String> intQueryBus = IntQueryBus.create(busGroup, "intQuery");
+        DoubleQueryBus<String> doubleQueryBus = DoubleQueryBus.create(busGroup, "doubleQuery");
+        queryBus.addListener(query -> query);
+        intQueryBus.addListener(String::length);
+        doubleQueryBus.addListener(query -> 7.5);
+
+        busGroup.shutdown();
+        Assertions.assertEquals(0, intQueryBus.sum("foo"), "Listeners should not be asked after shutdown");
+        Assertions.assertNull(queryBus.firstNonNull("foo"));
+
+        busGroup.startup();
+        Assertions.assertEquals(7.5, doubleQueryBus.sum("foo"), "Listeners should be asked after startup");
+
+        busGroup.dispose();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.ReplayBuffer;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplayBufferTests {
+    record ReplayTestEvent(int value, long timestamp) implements RecordEvent {}
+
+    private static final ReplayBuffer.Codec<ReplayTestEvent> CODEC = new ReplayBuffer.Codec<>() {
+        @Override
+        public int maxEncodedSize() {
+            return Integer.BYTES + Long.BYTES;
+        }
+
+        @Override
+        public void encode(ReplayTestEvent event, ByteBuffer buffer) {
+            buffer.putInt(event.value()).putLong(event.timestamp());
+        }
+
+        @Override
+        public ReplayTestEvent decode(ByteBuffer buffer) {
+            return new ReplayTestEvent(buffer.getInt(), buffer.getLong());
+        }
+    };
+
+    /**
+     * Tests that a ReplayBuffer keeps only the most recent events, oldest first.
+     */
+    @Test
+    public void testKeepsMostRecentEvents() {
+        var busGroup = BusGroup.create("ReplayBufferTests.testKeepsMostRecentEvents");
+        var bus = EventBus.create(busGroup, ReplayTestEvent.class);
+        var replayBuffer = ReplayBuffer.attach(bus, 4, CODEC);
+        bus.addListener(event -> {});
+
+        Assertions.assertTrue(replayBuffer.dump().isEmpty());
+        for (int i = 0; i < 6; i++) {
+            bus.post(new ReplayTestEvent(i, i * 1000L));
+        }
+        Assertions.assertEquals(6, replayBuffer.recorded());
+        Assertions.assertEquals(
+                List.of(new ReplayTestEvent(2, 2000), new ReplayTestEvent(3, 3000), new ReplayTestEvent(4, 4000), new ReplayTestEvent(5, 5000)),
+                replayBuffer.dump(),
+                "Only the most recent events should be kept, oldest first"
+        );
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a ReplayBuffer can replay its events to another bus.
+     */
+    @Test
+    public void testReplay() {
+        var busGroup = BusGroup.create("ReplayBufferTests.testReplay");
+        var bus = EventBus.create(busGroup, ReplayTestEvent.class);
+        var replayBuffer = ReplayBuffer.attach(bus, 4, CODEC);
+        bus.addListener(event -> {});
+        for (int i = 0; i < 6; i++) {
+            bus.post(new ReplayTestEvent(i, i * 1000L));
+        }
+
+        var replayBusGroup = BusGroup.create("ReplayBufferTests.testReplay.replay");
+        var replayBus = EventBus.create(replayBusGroup, ReplayTestEvent.class);
+        var replayed = new ArrayList<ReplayTestEvent>();
+        replayBus.addListener(replayed::add);
+        Assertions.assertEquals(4, replayBuffer.replay(replayBus));
+        Assertions.assertEquals(replayBuffer.dump(), replayed);
+
+        replayBusGroup.dispose();
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a ReplayBuffer stops recording once detached.
+     */
+    @Test
+    public void testDetach() {
+        var busGroup = BusGroup.create("ReplayBufferTests.testDetach");
+        var bus = EventBus.create(busGroup, ReplayTestEvent.class);
+        var replayBuffer = ReplayBuffer.attach(bus, 4, CODEC);
+        bus.addListener(event -> {});
+        bus.post(new ReplayTestEvent(1, 1000));
+        Assertions.assertEquals(1, replayBuffer.recorded());
+
+        replayBuffer.detach();
+        bus.post(new ReplayTestEvent(2, 2000));
+        Assertions.assertEquals(1, replayBuffer.recorded(), "Events should not be recorded after detaching");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a post that laps another still writing to the same slot is skipped, rather than encoded into the same
+     * bytes at the same time.
+     */
+    @Test
+    public void testLappedSlotSkipped() throws InterruptedException {
+        var encoding = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var encodeCalls = new AtomicInteger();
+        var blockingCodec = new ReplayBuffer.Codec<ReplayTestEvent>() {
+            @Override
+            public int maxEncodedSize() {
+                return CODEC.maxEncodedSize();
+            }
+
+            @Override
+            public void encode(ReplayTestEvent event, ByteBuffer buffer) {
+                encodeCalls.incrementAndGet();
+                if (event.value() == 0) {
+                    encoding.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+                CODEC.encode(event, buffer);
+            }
+
+            @Override
+            public ReplayTestEvent decode(ByteBuffer buffer) {
+                return CODEC.decode(buffer);
+            }
+        };
+
+        var busGroup = BusGroup.create("ReplayBufferTests.testLappedSlotSkipped");
+        var bus = EventBus.create(busGroup, ReplayTestEvent.class);
+        var replayBuffer = ReplayBuffer.attach(bus, 1, blockingCodec);
+        bus.addListener(event -> {});
+
+        var slowPoster = new Thread(() -> bus.post(new ReplayTestEvent(0, 0)));
+        slowPoster.start();
+        encoding.await();
+
+        bus.post(new ReplayTestEvent(1, 1000)); // laps the slow poster in a ring of one slot
+        Assertions.assertEquals(1, encodeCalls.get(), "The lapping post shouldn't encode into the slot being written");
+        release.countDown();
+        slowPoster.join();
+
+        Assertions.assertEquals(2, replayBuffer.recorded());
+        Assertions.assertEquals(List.of(), replayBuffer.dump(), "The slot holds an event older than the ring covers");
+        bus.post(new ReplayTestEvent(2, 2000));
+        Assertions.assertEquals(List.of(new ReplayTestEvent(2, 2000)), replayBuffer.dump(), "The slot should be reusable");
+
+        busGroup.dispose();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.ResultEventBus;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResultEventTests {
+    record ResultTestEvent() implements RecordEvent, HasResult {}
+
+    /**
+     * Tests that postForResult returns {@link HasResult.Result#DEFAULT} without listeners, and when no listener returns a
+     * result.
+     */
+    @Test
+    public void testDefaultResult() {
+        var busGroup = BusGroup.create("ResultEventTests.testDefaultResult");
+        var bus = ResultEventBus.create(busGroup, ResultTestEvent.class);
+
+        Assertions.assertEquals(HasResult.Result.DEFAULT, bus.postForResult(new ResultTestEvent()),
+                "The result should be DEFAULT without listeners");
+
+        var calls = new ArrayList<String>();
+        var consumer = bus.addListener(event -> { calls.add("consumer"); });
+        var abstain = bus.addListener(event -> HasResult.Result.DEFAULT);
+        Assertions.assertEquals(HasResult.Result.DEFAULT, bus.postForResult(new ResultTestEvent()),
+                "The result should be DEFAULT when no listener returns a result");
+        Assertions.assertEquals(List.of("consumer"), calls);
+
+        bus.removeListener(consumer);
+        bus.removeListener(abstain);
+        Assertions.assertFalse(bus.hasListeners());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that the first non-default result returned by a listener is returned by postForResult, that listeners after
+     * it are skipped and that monitors are still called.
+     */
+    @Test
+    public void testFirstResultWins() {
+        var busGroup = BusGroup.create("ResultEventTests.testFirstResultWins");
+        var bus = ResultEventBus.create(busGroup, ResultTestEvent.class);
+
+        var calls = new ArrayList<String>();
+        bus.addListener(event -> { calls.add("consumer"); });
+        bus.addListener(Priority.HIGHEST, event -> {
+            calls.add("abstain");
+            return HasResult.Result.DEFAULT;
+        });
+        var deny = bus.addListener(Priority.HIGH, event -> {
+            calls.add("deny");
+            return HasResult.Result.DENY;
+        });
+        bus.addListener(Priority.LOW, event -> {
+            calls.add("allow");
+            return HasResult.Result.ALLOW;
+        });
+        bus.addListener(Priority.MONITOR, event -> { calls.add("monitor"); });
+
+        Assertions.assertEquals(HasResult.Result.DENY, bus.postForResult(new ResultTestEvent()));
+        Assertions.assertEquals(List.of("abstain", "deny", "monitor"), calls,
+                "Listeners after the first non-default result should be skipped, but monitors should still be called");
+
+        bus.removeListener(deny);
+        calls.clear();
+        Assertions.assertEquals(HasResult.Result.ALLOW, bus.postForResult(new ResultTestEvent()));
+        Assertions.assertEquals(List.of("abstain", "consumer", "allow", "monitor"), calls);
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests enough listeners to use the looping invokers, both with and without listeners that can decide the result.
+     */
+    @Test
+    public void testManyListeners() {
+        var busGroup = BusGroup.create("ResultEventTests.testManyListeners");
+        var bus = ResultEventBus.create(busGroup, ResultTestEvent.class);
+
+        var calls = new ArrayList<String>();
+        for (int i = 0; i < 5; i++) {
+            int index = i;
+            bus.addListener(event -> { calls.add("consumer" + index); });
+        }
+        Assertions.assertEquals(HasResult.Result.DEFAULT, bus.postForResult(new ResultTestEvent()));
+        Assertions.assertEquals(5, calls.size());
+
+        bus.addListener(Priority.LOWEST, event -> HasResult.Result.ALLOW);
+        calls.clear();
+        Assertions.assertEquals(HasResult.Result.ALLOW, bus.postForResult(new ResultTestEvent()));
+        Assertions.assertEquals(5, calls.size());
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that events which are also cancellable can't have a result bus.
+     */
+    @Test
+    public void testCancellableEventsAreRejected() {
+        record CancellableResultEvent() implements RecordEvent, HasResult, Cancellable {}
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ResultEventBus.create(CancellableResultEvent.class),
+                "Events that are also cancellable shouldn't get a result bus");
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.SlowListenerWatchdog;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SlowListenerWatchdogTests {
+    record WatchedEvent(long spinNanos) implements RecordEvent {}
+
+    private static final SlowListenerWatchdog.Settings SETTINGS = new SlowListenerWatchdog.Settings(Duration.ofMillis(20), 1, 4);
+
+    /**
+     * Adds a listener that spins for as long as each event asks it to.
+     */
+    private static EventListener addSpinningListener(EventBus<WatchedEvent> eventBus, AtomicInteger calls) {
+        return eventBus.addListener(event -> {
+            calls.incrementAndGet();
+            long end = System.nanoTime() + event.spinNanos();
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        });
+    }
+
+    /**
+     * Tests that a BusGroup can't be watched twice at once.
+     */
+    @Test
+    public void testOneWatchdogAtATime() {
+        var busGroup = BusGroup.create("SlowListenerWatchdogTests.testOneWatchdogAtATime");
+        EventBus.create(busGroup, WatchedEvent.class);
+
+        try (var ignored = SlowListenerWatchdog.enable(busGroup, SETTINGS, report -> {})) {
+            Assertions.assertThrows(IllegalStateException.class,
+                    () -> SlowListenerWatchdog.enable(busGroup, SETTINGS, report -> {}));
+        }
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a SlowListenerWatchdog reports a listener whose average degrades once, with enough information to
+     * identify it.
+     */
+    @Test
+    public void testAverageDegraded() {
+        var busGroup = BusGroup.create("SlowListenerWatchdogTests.testAverageDegraded");
+        var eventBus = EventBus.create(busGroup, WatchedEvent.class);
+        var listener = addSpinningListener(eventBus, new AtomicInteger());
+
+        // Warm up the listener so that JIT compilation doesn't skew the usual average
+        for (int i = 0; i < 256; i++) {
+            eventBus.post(new WatchedEvent(50_000));
+        }
+
+        var reports = new ArrayList<SlowListenerWatchdog.Report>();
+        try (var watchdog = SlowListenerWatchdog.enable(busGroup, SETTINGS, reports::add)) {
+            // Long enough that scheduling noise doesn't dominate the usual average
+            for (int i = 0; i < 32; i++) {
+                eventBus.post(new WatchedEvent(50_000));
+            }
+            // a preempted call may exceed the threshold even when quick, so only the degradation reports are checked
+            Assertions.assertTrue(
+                    reports.stream().noneMatch(report -> report.kind() == SlowListenerWatchdog.Report.Kind.AVERAGE_DEGRADED),
+                    "Quick calls shouldn't be reported as degraded"
+            );
+            reports.clear();
+
+            // Slower, but still under the threshold
+            for (int i = 0; i < 32; i++) {
+                eventBus.post(new WatchedEvent(1_000_000));
+            }
+            // a preempted call may also exceed the threshold, so only the degradation reports are counted
+            var degradedReports = reports.stream()
+                    .filter(report -> report.kind() == SlowListenerWatchdog.Report.Kind.AVERAGE_DEGRADED)
+                    .toList();
+            Assertions.assertEquals(1, degradedReports.size(), "A degraded average should be reported once");
+            var degraded = degradedReports.getFirst();
+            Assertions.assertSame(listener, degraded.listener());
+            Assertions.assertEquals(WatchedEvent.class, degraded.eventType());
+            Assertions.assertEquals(SlowListenerWatchdogTests.class.getName(), degraded.declaringClass());
+            Assertions.assertEquals("lambda", degraded.methodName());
+        }
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a SlowListenerWatchdog reports a listener that exceeds the threshold, and that the reported listener
+     * can be removed.
+     */
+    @Test
+    public void testThresholdExceeded() {
+        var busGroup = BusGroup.create("SlowListenerWatchdogTests.testThresholdExceeded");
+        var eventBus = EventBus.create(busGroup, WatchedEvent.class);
+        var calls = new AtomicInteger();
+        var listener = addSpinningListener(eventBus, calls);
+
+        var reports = new ArrayList<SlowListenerWatchdog.Report>();
+        try (var watchdog = SlowListenerWatchdog.enable(busGroup, SETTINGS, reports::add)) {
+            eventBus.post(new WatchedEvent(40_000_000));
+            var exceeded = reports.stream()
+                    .filter(report -> report.kind() == SlowListenerWatchdog.Report.Kind.THRESHOLD_EXCEEDED)
+                    .findFirst()
+                    .orElseThrow();
+            Assertions.assertSame(listener, exceeded.listener());
+            Assertions.assertTrue(exceeded.nanos() >= 40_000_000);
+
+            busGroup.unregister(List.of(exceeded.listener()));
+            calls.set(0);
+            eventBus.post(new WatchedEvent(0));
+            Assertions.assertEquals(0, calls.get(), "The reported listener should be removable");
+        }
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that the settings reject a threshold that isn't positive.
+     */
+    @Test
+    public void testInvalidSettings() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SlowListenerWatchdog.Settings(Duration.ZERO));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.CancellableEventBus;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.event.InheritableEvent;
+import net.minecraftforge.eventbus.api.event.MutableEvent;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.Sticky;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class StickyEventTests {
+    record StickyTestEvent(int stage) implements Cancellable, RecordEvent, Sticky {}
+
+    /**
+     * Tests that nothing is delivered to listeners added before the first post.
+     */
+    @Test
+    public void testNothingDeliveredBeforeFirstPost() {
+        var busGroup = BusGroup.create("StickyEventTests.testNothingDeliveredBeforeFirstPost");
+        var bus = CancellableEventBus.create(busGroup, StickyTestEvent.class);
+        var calls = new ArrayList<String>();
+        bus.addListener(Priority.HIGH, event -> { calls.add("first " + event.stage()); });
+        Assertions.assertTrue(calls.isEmpty(), "Nothing should be delivered before the first post");
+
+        bus.post(new StickyTestEvent(1));
+        bus.post(() -> new StickyTestEvent(2));
+        Assertions.assertEquals(List.of("first 1", "first 2"), calls);
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that the latest sticky event is delivered to listeners added after it was posted, without calling the
+     * listeners that already received it again.
+     */
+    @Test
+    public void testLatestEventDeliveredToNewListeners() {
+        var busGroup = BusGroup.create("StickyEventTests.testLatestEventDeliveredToNewListeners");
+        var bus = CancellableEventBus.create(busGroup, StickyTestEvent.class);
+        var calls = new ArrayList<String>();
+        bus.addListener(Priority.HIGH, event -> { calls.add("first " + event.stage()); });
+        bus.post(new StickyTestEvent(1));
+        bus.post(new StickyTestEvent(2));
+
+        calls.clear();
+        bus.addListener(event -> { calls.add("early " + event.stage()); });
+        bus.addListener(event -> {
+            calls.add("late " + event.stage());
+            return true;
+        });
+        Assertions.assertEquals(List.of("early 2", "late 2"), calls,
+                "Only the newly added listener should receive the latest event");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that sticky events are still posted to every listener as usual.
+     */
+    @Test
+    public void testStickyEventsArePostedAsUsual() {
+        var busGroup = BusGroup.create("StickyEventTests.testStickyEventsArePostedAsUsual");
+        var bus = CancellableEventBus.create(busGroup, StickyTestEvent.class);
+        var calls = new ArrayList<String>();
+        bus.addListener(Priority.HIGH, event -> { calls.add("first " + event.stage()); });
+        bus.addListener(event -> { calls.add("early " + event.stage()); });
+        bus.addListener(event -> {
+            calls.add("late " + event.stage());
+            return true;
+        });
+
+        Assertions.assertTrue(bus.post(new StickyTestEvent(3)));
+        Assertions.assertEquals(3, calls.size(), "Sticky events should be posted to every listener as usual");
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that a child bus's sticky event is delivered to a listener inherited from the parent bus without holding the
+     * parent's lock, so that the listener can have other threads add listeners to the parent.
+     */
+    @Test
+    public void testInheritedStickyEventsAreDeliveredOutsideLock() {
+        class ParentEvent extends MutableEvent implements InheritableEvent {}
+        class ChildEvent extends ParentEvent implements Sticky {}
+
+        var busGroup = BusGroup.create("StickyEventTests.testInheritedStickyEventsAreDeliveredOutsideLock");
+        var parentBus = EventBus.create(busGroup, ParentEvent.class);
+        var childBus = EventBus.create(busGroup, ChildEvent.class);
+        childBus.post(new ChildEvent());
+
+        var otherThreadAdded = new AtomicBoolean();
+        parentBus.addListener(event -> {
+            var thread = new Thread(() -> parentBus.addListener(parentEvent -> {}));
+            thread.start();
+            try {
+                thread.join(5_000);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            otherThreadAdded.set(!thread.isAlive());
+        });
+
+        Assertions.assertTrue(otherThreadAdded.get(), "The parent's lock should not be held while delivering sticky events");
+        busGroup.dispose();
+    }
+}
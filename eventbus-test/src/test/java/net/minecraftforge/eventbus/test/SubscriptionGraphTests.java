@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.CancellableEventBus;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.ListenerProfiler;
+import net.minecraftforge.eventbus.api.event.InheritableEvent;
+import net.minecraftforge.eventbus.api.event.MutableEvent;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SubscriptionGraphTests {
+    static class ParentGraphEvent extends MutableEvent implements InheritableEvent {}
+    static final class ChildGraphEvent extends ParentGraphEvent {}
+    record CancellableGraphEvent() implements Cancellable, RecordEvent {}
+
+    /**
+     * Adds a parent bus, a child bus that inherits its listener and a bus with an always-cancelling listener to the
+     * group, then posts to the child bus while profiling.
+     */
+    private static void populate(BusGroup busGroup) {
+        var parentBus = EventBus.create(busGroup, ParentGraphEvent.class);
+        var childBus = EventBus.create(busGroup, ChildGraphEvent.class);
+        var cancellableBus = CancellableEventBus.create(busGroup, CancellableGraphEvent.class);
+        parentBus.addListener(Priority.HIGH, event -> {});
+        childBus.addListener(event -> {});
+        cancellableBus.addListener(Priority.LOW, true, event -> {});
+
+        try (var profiler = ListenerProfiler.enable(busGroup)) {
+            childBus.post(new ChildGraphEvent());
+        }
+    }
+
+    /**
+     * Tests that the exported JSON graph lists each bus with its children, listeners and post counts.
+     */
+    @Test
+    public void testJson() {
+        var busGroup = BusGroup.create("SubscriptionGraphTests.testJson", BusGroup.Option.METRICS);
+        populate(busGroup);
+
+        var json = busGroup.exportSubscriptionGraph(BusGroup.GraphFormat.JSON);
+        Assertions.assertTrue(json.startsWith("{\n  \"busGroup\": \"SubscriptionGraphTests.testJson\""), json);
+        Assertions.assertTrue(json.contains("\"children\": [\"" + ChildGraphEvent.class.getName() + "\"]"), json);
+        Assertions.assertTrue(json.contains("\"alwaysCancelling\": true"), json);
+        Assertions.assertTrue(json.contains("\"posts\": 1,"), json);
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that inherited listeners are listed in the order they're called, and that their profiled times are only
+     * listed on the bus they were added to.
+     */
+    @Test
+    public void testInheritedListeners() {
+        var busGroup = BusGroup.create("SubscriptionGraphTests.testInheritedListeners");
+        populate(busGroup);
+
+        var json = busGroup.exportSubscriptionGraph(BusGroup.GraphFormat.JSON);
+        // The inherited listener is called first on the child bus, but its time is only listed on the parent bus
+        var childSection = json.substring(json.indexOf("\"eventType\": \"" + ChildGraphEvent.class.getName()));
+        int inherited = childSection.indexOf("\"inheritedFrom\": \"" + ParentGraphEvent.class.getName() + '"');
+        Assertions.assertTrue(inherited >= 0 && inherited < childSection.indexOf("\"priority\": 0"), json);
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that profiled listener times are included while the profiler is enabled.
+     */
+    @Test
+    public void testProfiledTimes() {
+        var busGroup = BusGroup.create("SubscriptionGraphTests.testProfiledTimes");
+        var parentBus = EventBus.create(busGroup, ParentGraphEvent.class);
+        var childBus = EventBus.create(busGroup, ChildGraphEvent.class);
+        parentBus.addListener(Priority.HIGH, event -> {});
+        childBus.addListener(event -> {});
+
+        String json;
+        try (var profiler = ListenerProfiler.enable(busGroup)) {
+            childBus.post(new ChildGraphEvent());
+            json = busGroup.exportSubscriptionGraph(BusGroup.GraphFormat.JSON);
+        }
+        Assertions.assertEquals(2, json.split("\"calls\": 1,", -1).length - 1, json);
+
+        busGroup.dispose();
+    }
+
+    /**
+     * Tests that the exported DOT graph marks inherited listeners, child buses and always-cancelling listeners.
+     */
+    @Test
+    public void testDot() {
+        var busGroup = BusGroup.create("SubscriptionGraphTests.testDot");
+        populate(busGroup);
+
+        var dot = busGroup.exportSubscriptionGraph(BusGroup.GraphFormat.DOT);
+        Assertions.assertTrue(dot.startsWith("digraph \"SubscriptionGraphTests.testDot\" {"), dot);
+        Assertions.assertTrue(dot.contains("style=dashed"), dot);
+        Assertions.assertTrue(dot.contains("label=\"inherited by\""), dot);
+        Assertions.assertTrue(dot.contains("always cancelling"), dot);
+
+        busGroup.dispose();
+    }
+}
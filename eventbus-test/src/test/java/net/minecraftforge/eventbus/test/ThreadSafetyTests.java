@@ -4,12 +4,17 @@
  */
 package net.minecraftforge.eventbus.test;
 
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.CancellableEventBus;
 import net.minecraftforge.eventbus.api.bus.EventBus;
 import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.SelfDestructing;
 import net.minecraftforge.eventbus.internal.EventBusImpl;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.invoke.MutableCallSite;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -17,8 +22,10 @@ import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 public class ThreadSafetyTests {
     private static final class ThreadedListeners {
@@ -174,4 +181,96 @@ public class ThreadSafetyTests {
     public void testParallelEvents() {
         ParallelEvents.test();
     }
+
+    /**
+     * Tests that buses in a {@link BusGroup.Option#THREAD_CONFINED thread-confined} BusGroup behave the same as shared
+     * ones when used from their owner thread, while skipping volatile invoker publication.
+     */
+    @Test
+    public void testThreadConfinedBusGroup() {
+        record TestEvent() implements RecordEvent {
+            static final BusGroup TEST_GROUP = BusGroup.create("ThreadSafetyTests.testThreadConfinedBusGroup", BusGroup.Option.THREAD_CONFINED);
+            static final EventBus<TestEvent> BUS = EventBus.create(TEST_GROUP, TestEvent.class);
+        }
+
+        var busInternals = (EventBusImpl<?>) TestEvent.BUS;
+        Assertions.assertSame(Thread.currentThread(), busInternals.ownerThread(), "The creating thread should own the bus");
+        Assertions.assertInstanceOf(MutableCallSite.class, busInternals.invokerCallSite(), "The invoker should not be volatile");
+
+        var counter = new AtomicLong();
+        var listener = TestEvent.BUS.addListener(event -> counter.incrementAndGet());
+        TestEvent.BUS.post(new TestEvent());
+        Assertions.assertEquals(1, counter.get(), "Listener should have been called");
+
+        TestEvent.TEST_GROUP.shutdown();
+        TestEvent.BUS.post(new TestEvent());
+        Assertions.assertEquals(1, counter.get(), "Listener should not have been called after shutdown");
+
+        TestEvent.TEST_GROUP.startup();
+        TestEvent.BUS.post(new TestEvent());
+        Assertions.assertEquals(2, counter.get(), "Listener should have been called after startup");
+
+        TestEvent.BUS.removeListener(listener);
+        TestEvent.BUS.post(new TestEvent());
+        Assertions.assertEquals(2, counter.get(), "Listener should not have been called after removal");
+        Assertions.assertFalse(TestEvent.BUS.hasListeners(), "Bus should no longer have listeners");
+
+        TestEvent.TEST_GROUP.dispose();
+    }
+
+    /**
+     * Tests that {@link EventBus#postAllParallel(List, ForkJoinPool)} posts every event once and reduces the
+     * cancellation results.
+     */
+    @Test
+    public void testPostAllParallel() {
+        record TestEvent(int value) implements RecordEvent {
+            static final EventBus<TestEvent> BUS = EventBus.create(TestEvent.class);
+        }
+        record CancellableTestEvent(int value) implements Cancellable, RecordEvent {
+            static final CancellableEventBus<CancellableTestEvent> BUS = CancellableEventBus.create(CancellableTestEvent.class);
+        }
+
+        var events = IntStream.range(0, 10_000).mapToObj(TestEvent::new).toList();
+        var cancellableEvents = IntStream.range(0, 10_000).mapToObj(CancellableTestEvent::new).toList();
+        var pool = new ForkJoinPool(4);
+
+        var sum = new AtomicLong();
+        var listener = TestEvent.BUS.addListener(event -> sum.addAndGet(event.value()));
+        Assertions.assertEquals(0, TestEvent.BUS.postAllParallel(events, pool), "Non-cancellable events can't be cancelled");
+        Assertions.assertEquals(49_995_000L, sum.get(), "Every event should have been posted exactly once");
+        TestEvent.BUS.removeListener(listener);
+
+        var cancellingListener = CancellableTestEvent.BUS.addListener(event -> event.value() % 2 == 0);
+        Assertions.assertEquals(
+                5_000,
+                CancellableTestEvent.BUS.postAllParallel(cancellableEvents, pool),
+                "The number of cancelled events should be returned"
+        );
+        CancellableTestEvent.BUS.removeListener(cancellingListener);
+
+        pool.shutdown();
+    }
+
+    /**
+     * Tests that {@link EventBus#postAllParallel(List, ForkJoinPool)} rejects self-destructing events rather than
+     * delivering the whole batch while the bus is disposed of.
+     */
+    @Test
+    public void testPostAllParallelSelfDestructing() {
+        record TestEvent() implements SelfDestructing, RecordEvent {
+            static final EventBus<TestEvent> BUS = EventBus.create(TestEvent.class);
+        }
+
+        var counter = new AtomicLong();
+        TestEvent.BUS.addListener(event -> counter.incrementAndGet());
+        var pool = new ForkJoinPool(4);
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> TestEvent.BUS.postAllParallel(List.of(new TestEvent(), new TestEvent()), pool)
+        );
+        Assertions.assertEquals(0, counter.get(), "No events should have been posted");
+
+        pool.shutdown();
+    }
 }
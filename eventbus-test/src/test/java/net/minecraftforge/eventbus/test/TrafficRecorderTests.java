@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.test;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.CancellableEventBus;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.TrafficRecorder;
+import net.minecraftforge.eventbus.api.event.InheritableEvent;
+import net.minecraftforge.eventbus.api.event.MutableEvent;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+public class TrafficRecorderTests {
+    record PlainTrafficEvent() implements RecordEvent {}
+    record CancellableTrafficEvent() implements Cancellable, RecordEvent {}
+    static class ParentTrafficEvent extends MutableEvent implements InheritableEvent {}
+    static final class ChildTrafficEvent extends ParentTrafficEvent {}
+
+    /**
+     * Tests that a trace records the posted event types in order with their characteristics and listener counts, and
+     * that a post to a child event's bus is only recorded once despite the recorder also listening to its parent.
+     */
+    @Test
+    public void testTrafficRecorder() throws IOException {
+        var file = Files.createTempFile("testTrafficRecorder", ".ebtrace");
+        var busGroup = BusGroup.create("testTrafficRecorder");
+        try {
+            var plainBus = EventBus.create(busGroup, PlainTrafficEvent.class);
+            var cancellableBus = CancellableEventBus.create(busGroup, CancellableTrafficEvent.class);
+            var parentBus = EventBus.create(busGroup, ParentTrafficEvent.class);
+            var childBus = EventBus.create(busGroup, ChildTrafficEvent.class);
+            plainBus.addListener(event -> {});
+            plainBus.addListener(event -> {});
+            cancellableBus.addListener(event -> {});
+            parentBus.addListener(event -> {});
+            childBus.addListener(event -> {});
+
+            try (var recorder = TrafficRecorder.start(busGroup, file)) {
+                plainBus.post(new PlainTrafficEvent());
+                cancellableBus.post(new CancellableTrafficEvent());
+                childBus.post(new ChildTrafficEvent());
+                plainBus.post(new PlainTrafficEvent());
+                Assertions.assertEquals(4, recorder.recorded());
+            }
+            plainBus.post(new PlainTrafficEvent()); // not recorded after closing
+
+            var trace = TrafficRecorder.read(file);
+            var posts = trace.posts();
+            Assertions.assertEquals(4, posts.size());
+            Assertions.assertEquals(0, posts.get(0).interArrivalNanos());
+            Assertions.assertEquals(posts.get(0).eventType(), posts.get(3).eventType());
+
+            var plainType = trace.eventTypes().get(posts.get(0).eventType());
+            Assertions.assertEquals(new TrafficRecorder.EventType(PlainTrafficEvent.class.getName(), false, false), plainType);
+            Assertions.assertEquals(2, posts.get(0).listenerCount());
+
+            var cancellableType = trace.eventTypes().get(posts.get(1).eventType());
+            Assertions.assertEquals(new TrafficRecorder.EventType(CancellableTrafficEvent.class.getName(), true, false), cancellableType);
+            Assertions.assertEquals(1, posts.get(1).listenerCount());
+
+            var childType = trace.eventTypes().get(posts.get(2).eventType());
+            Assertions.assertEquals(ChildTrafficEvent.class.getName(), childType.name());
+            Assertions.assertEquals(2, posts.get(2).listenerCount(), "The child's bus should count its parent's listener");
+        } finally {
+            busGroup.dispose();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Tests that posts of subclasses without a bus of their own, such as anonymous subclasses, are recorded once against
+     * the bus they were posted to.
+     */
+    @Test
+    public void testSubclassesWithoutBus() throws IOException {
+        var file = Files.createTempFile("testSubclassesWithoutBus", ".ebtrace");
+        var busGroup = BusGroup.create("testSubclassesWithoutBus");
+        try {
+            var parentBus = EventBus.create(busGroup, ParentTrafficEvent.class);
+            var childBus = EventBus.create(busGroup, ChildTrafficEvent.class);
+            parentBus.addListener(event -> {});
+            childBus.addListener(event -> {});
+
+            try (var recorder = TrafficRecorder.start(busGroup, file)) {
+                parentBus.post(new ParentTrafficEvent() {});
+                childBus.post(new ChildTrafficEvent());
+                Assertions.assertEquals(2, recorder.recorded());
+            }
+
+            var trace = TrafficRecorder.read(file);
+            var posts = trace.posts();
+            Assertions.assertEquals(ParentTrafficEvent.class.getName(), trace.eventTypes().get(posts.get(0).eventType()).name());
+            Assertions.assertEquals(ChildTrafficEvent.class.getName(), trace.eventTypes().get(posts.get(1).eventType()).name());
+        } finally {
+            busGroup.dispose();
+            Files.deleteIfExists(file);
+        }
+    }
+}
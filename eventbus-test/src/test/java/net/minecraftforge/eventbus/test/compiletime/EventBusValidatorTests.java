@@ -34,6 +34,13 @@ public class EventBusValidatorTests {
             }
         """);
         assertThat(compilation).hadWarningContaining("should be CancellableEventBus");
+
+        compilation = compile("""
+            record ResultTestEvent() implements HasResult, RecordEvent {
+                static final EventBus<ResultTestEvent> BUS = EventBus.create(ResultTestEvent.class);
+            }
+        """);
+        assertThat(compilation).hadWarningContaining("should be a ResultEventBus");
     }
 
     /**
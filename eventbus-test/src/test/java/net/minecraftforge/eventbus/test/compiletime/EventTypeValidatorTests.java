@@ -34,6 +34,47 @@ public class EventTypeValidatorTests {
         assertThat(compilation).succeededWithoutWarnings();
     }
 
+    /**
+     * Tests that compile-time validation throws an error for Poolable on classes that do not extend MutableEvent.
+     */
+    @Test
+    public void testPoolableValidation() {
+        var compilation = compile("record RecordTestEvent() implements RecordEvent, Poolable { public void reset() {} }");
+        assertThat(compilation).hadErrorContaining("implements Poolable but is not a mutable event");
+
+        compilation = compile("final class ClassTestEvent extends MutableEvent implements Poolable { public void reset() {} }");
+        assertThat(compilation).succeededWithoutWarnings();
+    }
+
+    /**
+     * Tests that compile-time validation throws an error for events that implement both HasResult and Cancellable.
+     */
+    @Test
+    public void testHasResultValidation() {
+        var compilation = compile("record RecordTestEvent() implements RecordEvent, HasResult, Cancellable {}");
+        assertThat(compilation).hadErrorContaining("implements both HasResult and Cancellable");
+
+        compilation = compile("record RecordTestEvent() implements RecordEvent, HasResult {}");
+        assertThat(compilation).succeededWithoutWarnings();
+    }
+
+    /**
+     * Tests that compile-time validation throws an error for events that implement both Sticky and Poolable.
+     */
+    @Test
+    public void testStickyValidation() {
+        var compilation = compile("""
+            final class MutableTestEvent extends MutableEvent implements Sticky, Poolable {
+                @Override
+                public void reset() {}
+            }
+        """);
+        assertThat(compilation).hadErrorContaining("implements both Sticky and Poolable");
+
+        compilation = compile("record RecordTestEvent() implements RecordEvent, Sticky {}");
+        assertThat(compilation).succeededWithoutWarnings();
+    }
+
     /**
      * Tests that compile-time validation throws an error for InheritableEvent on classes that are not inheritable.
      */
@@ -55,6 +55,35 @@ public class SubscribeEventValidatorTests {
         assertThat(compilation).hadErrorContaining("expected void");
     }
 
+    /**
+     * Tests that compile-time validation of the return type on methods annotated with @SubscribeEvent for events with
+     * results works correctly.
+     */
+    @Test
+    public void testSubscribeEventReturnTypeResult() {
+        var compilation = compile("""
+            @SubscribeEvent
+            HasResult.Result invalidReturnType(EventWithData event) { return HasResult.Result.DEFAULT; }
+        """);
+        assertThat(compilation).hadErrorContaining("Result is only valid for events with results");
+
+        compilation = compile("""
+            record ResultTestEvent() implements RecordEvent, HasResult {}
+
+            @SubscribeEvent(priority = Priority.MONITOR)
+            HasResult.Result monitoringListener(ResultTestEvent event) { return HasResult.Result.DENY; }
+        """);
+        assertThat(compilation).hadErrorContaining("Monitoring listeners cannot change the result of events");
+
+        compilation = compile("""
+            record ResultTestEvent() implements RecordEvent, HasResult {}
+
+            @SubscribeEvent
+            HasResult.Result validListener(ResultTestEvent event) { return HasResult.Result.ALLOW; }
+        """);
+        assertThat(compilation).succeededWithoutWarnings();
+    }
+
     /**
      * Tests that compile-time validation of the return type on methods annotated with @SubscribeEvent for cancellable
      * events and listeners works correctly
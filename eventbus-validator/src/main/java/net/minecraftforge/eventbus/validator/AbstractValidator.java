@@ -10,7 +10,10 @@ import net.minecraftforge.eventbus.api.event.InheritableEvent;
 import net.minecraftforge.eventbus.api.event.MutableEvent;
 import net.minecraftforge.eventbus.api.event.RecordEvent;
 import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
 import net.minecraftforge.eventbus.api.event.characteristic.MonitorAware;
+import net.minecraftforge.eventbus.api.event.characteristic.Poolable;
+import net.minecraftforge.eventbus.api.event.characteristic.Sticky;
 
 import javax.annotation.processing.Completion;
 import javax.annotation.processing.ProcessingEnvironment;
@@ -40,6 +43,10 @@ abstract sealed class AbstractValidator implements Processor
 
         protected static TypeMirror cancellable;
         protected static TypeMirror monitorAware;
+        protected static TypeMirror poolable;
+        protected static TypeMirror hasResult;
+        protected static TypeMirror sticky;
+        protected static TypeMirror result;
     }
 
     protected static final class BusTypes {
@@ -80,6 +87,10 @@ abstract sealed class AbstractValidator implements Processor
         EventTypes.mutableEvent = elements.getTypeElement(MutableEvent.class.getCanonicalName()).asType();
         EventCharacteristics.cancellable = elements.getTypeElement(Cancellable.class.getCanonicalName()).asType();
         EventCharacteristics.monitorAware = elements.getTypeElement(MonitorAware.class.getCanonicalName()).asType();
+        EventCharacteristics.poolable = elements.getTypeElement(Poolable.class.getCanonicalName()).asType();
+        EventCharacteristics.hasResult = elements.getTypeElement(HasResult.class.getCanonicalName()).asType();
+        EventCharacteristics.sticky = elements.getTypeElement(Sticky.class.getCanonicalName()).asType();
+        EventCharacteristics.result = elements.getTypeElement(HasResult.Result.class.getCanonicalName()).asType();
         BusTypes.eventBus = types.erasure(elements.getTypeElement(EventBus.class.getCanonicalName()).asType());
         BusTypes.cancellableEventBus = types.erasure(elements.getTypeElement(CancellableEventBus.class.getCanonicalName()).asType());
     }
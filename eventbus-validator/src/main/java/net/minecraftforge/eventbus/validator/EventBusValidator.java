@@ -71,6 +71,11 @@ public final class EventBusValidator extends AbstractValidator {
                             """,
                             element
                     );
+                } else if (types.isAssignable(genericType, EventCharacteristics.hasResult)) {
+                    processingEnv.getMessager().printWarning(
+                            "EventBus field " + element + " should be a ResultEventBus because " + genericType + " implements HasResult",
+                            element
+                    );
                 }
             }
 
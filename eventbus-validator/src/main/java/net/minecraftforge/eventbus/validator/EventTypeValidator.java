@@ -35,6 +35,30 @@ public final class EventTypeValidator extends AbstractValidator {
                 );
             }
 
+            // Check that HasResult and Cancellable aren't combined, as the invoker can only return one or the other
+            if (typeUtils.isAssignable(rootType, EventCharacteristics.hasResult) && typeUtils.isAssignable(rootType, EventCharacteristics.cancellable)) {
+                processingEnv.getMessager().printError(
+                        "Event type " + rootType + " implements both HasResult and Cancellable",
+                        root
+                );
+            }
+
+            // Check that Sticky and Poolable aren't combined, as the retained instance would be reused by the pool
+            if (typeUtils.isAssignable(rootType, EventCharacteristics.sticky) && typeUtils.isAssignable(rootType, EventCharacteristics.poolable)) {
+                processingEnv.getMessager().printError(
+                        "Event type " + rootType + " implements both Sticky and Poolable",
+                        root
+                );
+            }
+
+            // Check that Poolable is only implemented on classes that extend MutableEvent
+            if (typeUtils.isAssignable(rootType, EventCharacteristics.poolable) && !typeUtils.isAssignable(rootType, EventTypes.mutableEvent)) {
+                processingEnv.getMessager().printError(
+                        "Event type " + rootType + " implements Poolable but is not a mutable event",
+                        root
+                );
+            }
+
             // Check that InheritableEvent is not directly implemented by classes that are not inheritable
             var rootElement = (TypeElement) root;
             if (typeUtils.isAssignable(rootType, EventTypes.inheritableEvent) // instanceof InheritableEvent
@@ -67,8 +67,9 @@ public final class SubscribeEventValidator extends AbstractValidator {
             error(method, "First parameter of a @SubscribeEvent method must be an event");
 
         var returnType = method.getReturnType();
-        if (returnType.getKind() != TypeKind.VOID && returnType.getKind() != TypeKind.BOOLEAN)
-            error(method, "Invalid return type: " + returnType + " (expected void or boolean)");
+        var returnsResult = types.isSameType(returnType, EventCharacteristics.result);
+        if (returnType.getKind() != TypeKind.VOID && returnType.getKind() != TypeKind.BOOLEAN && !returnsResult)
+            error(method, "Invalid return type: " + returnType + " (expected void, boolean or Result)");
 
         var firstParamExtendsCancellable = types.isAssignable(firstParamType, EventCharacteristics.cancellable);
         var subscribeEventAnnotation = method.getAnnotation(SubscribeEvent.class);
@@ -77,6 +78,12 @@ public final class SubscribeEventValidator extends AbstractValidator {
         if (isMonitoringPriority && (returnType.getKind() == TypeKind.BOOLEAN || subscribeEventAnnotation.alwaysCancelling()))
             error(method, "Monitoring listeners cannot cancel events");
 
+        if (isMonitoringPriority && returnsResult)
+            error(method, "Monitoring listeners cannot change the result of events");
+
+        if (returnsResult && !types.isAssignable(firstParamType, EventCharacteristics.hasResult))
+            error(method, "Return type Result is only valid for events with results");
+
         if (paramCount == 2) {
             if (!firstParamExtendsCancellable)
                 error(method, "Cancellation-aware monitoring listeners are only valid for cancellable events");
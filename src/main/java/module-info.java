@@ -7,6 +7,8 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 module net.minecraftforge.eventbus {
     requires java.logging;
+    requires static java.management;
+    requires static jdk.jfr;
     requires org.jspecify;
 
     exports net.minecraftforge.eventbus.api.bus;
@@ -6,12 +6,15 @@ package net.minecraftforge.eventbus.api.bus;
 
 import net.minecraftforge.eventbus.internal.Event;
 import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.ObjBooleanBiConsumer;
+import net.minecraftforge.eventbus.api.listener.Priority;
 import net.minecraftforge.eventbus.api.listener.SubscribeEvent;
 import net.minecraftforge.eventbus.internal.BusGroupImpl;
 
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * A collection of {@link EventBus} instances that are grouped together for easier management, allowing for bulk
@@ -47,6 +50,33 @@ public sealed interface BusGroup permits BusGroupImpl {
         return new BusGroupImpl(name, baseType);
     }
 
+    /**
+     * Creates a new BusGroup with the given name and options.
+     *
+     * @param name The unique name of the BusGroup
+     * @param options The options to create the BusGroup with
+     * @return A new BusGroup with the given name and options
+     * @throws IllegalArgumentException if the name is already in use by another BusGroup
+     * @see Option
+     */
+    static BusGroup create(String name, Option... options) {
+        return new BusGroupImpl(name, Event.class, options);
+    }
+
+    /**
+     * Creates a new BusGroup with the given name, base type and options.
+     *
+     * @param name The unique name of the BusGroup
+     * @param baseType The base type that all events in this BusGroup must extend or implement
+     * @param options The options to create the BusGroup with
+     * @return A new BusGroup with the given name, base type and options
+     * @throws IllegalArgumentException if the name is already in use by another BusGroup
+     * @see Option
+     */
+    static BusGroup create(String name, Class<?> baseType, Option... options) {
+        return new BusGroupImpl(name, baseType, options);
+    }
+
     /**
      * The unique name of this BusGroup.
      * <p>The uniqueness of this name is enforced when the bus group is {@linkplain #create(String) created}.</p>
@@ -130,4 +160,208 @@ public sealed interface BusGroup permits BusGroupImpl {
      *                  {@link #register(MethodHandles.Lookup, Class)} or {@link #register(MethodHandles.Lookup, Object)}
      */
     void unregister(Collection<EventListener> listeners);
+
+    /**
+     * Adds a listener that's called for every event posted to any EventBus in this BusGroup, including buses created
+     * afterwards, such as for tracing or debugging.
+     * <p>Like a {@link Priority#MONITOR} listener, it's called after all other listeners with whether the event was
+     * cancelled, and is always {@code false} for non-cancellable events. Unlike them, it's also called for events
+     * posted to buses without any other listeners.</p>
+     *
+     * <p>Global listeners are compiled into the invoker of each bus while present, so a BusGroup without any pays
+     * nothing for this feature. Adding or removing one rebuilds the invoker of every bus in the group on its next
+     * post.</p>
+     *
+     * @param listener Called with each posted event and whether it was cancelled
+     * @return A handle to the listener, which can be passed to {@link #removeGlobalListener(EventListener)} or
+     *         {@link #unregister(Collection)} to remove it
+     * @apiNote Global listeners don't count towards {@link EventBus#hasListeners()}, so events that callers skip
+     *          posting when a bus has no listeners aren't seen.
+     *          <p>This is an experimental feature that may be removed, renamed or otherwise changed without notice.</p>
+     */
+    EventListener addGlobalListener(ObjBooleanBiConsumer<Object> listener);
+
+    /**
+     * Removes a listener added with {@link #addGlobalListener(ObjBooleanBiConsumer)}. Does nothing if it isn't a
+     * global listener of this BusGroup.
+     *
+     * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+     */
+    void removeGlobalListener(EventListener listener);
+
+    /**
+     * The current metrics of each EventBus in this BusGroup, for exporters (such as JMX or periodic logging) to poll.
+     * <p>Each call takes a fresh snapshot. Counters are updated concurrently with posting, so a snapshot taken while
+     * events are being posted may be slightly behind.</p>
+     *
+     * @return The metrics of each EventBus, or an empty list if this BusGroup wasn't created with
+     *         {@link Option#METRICS}
+     * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+     */
+    List<EventBusMetrics> metrics();
+
+    /**
+     * The latency percentiles of the posts to each EventBus in this BusGroup since the previous call, for exporters to
+     * poll periodically.
+     * <p>Reading resets the histograms, so each post is only reported by a single call. Call this from a single
+     * exporter, as multiple callers would each see only part of the posts.</p>
+     *
+     * @return The post latencies of each EventBus, or an empty list if this BusGroup wasn't created with
+     *         {@link Option#POST_LATENCY}
+     * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+     */
+    List<PostLatency> drainPostLatencies();
+
+    /**
+     * {@linkplain EventBus#describeInvoker() Describes} the invoker of each EventBus in this BusGroup, for dumping
+     * alongside other diagnostics.
+     *
+     * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+     */
+    List<EventBus.InvokerDescription> describeInvokers();
+
+    /**
+     * Exports the subscription graph of this BusGroup, to find out which listeners dominate the cost of posting and
+     * which buses are never posted to.
+     * <p>The graph links each EventBus to its listeners in the order they're called, including the listeners it inherits
+     * from parent events. Each listener is described by its declaring class, method name, priority, shape (such as
+     * {@code consumer} or {@code predicate}) and whether it always cancels the event.</p>
+     *
+     * <p>The post counts of each bus are included if this BusGroup was created with {@link Option#METRICS}, and the
+     * call counts and cumulative time of each listener are included while its bus is being profiled with a
+     * {@link ListenerProfiler}. Profiled times are only listed on the bus the listener was added to, as inherited
+     * listeners share their timings with it.</p>
+     *
+     * @param format The format to export the graph in
+     * @return The graph in the given format, as a single string
+     * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+     */
+    String exportSubscriptionGraph(GraphFormat format);
+
+    /**
+     * A snapshot of the metrics of a single EventBus in a BusGroup created with {@link Option#METRICS}.
+     *
+     * @param eventType The type of event the bus is for
+     * @param listenerCount The number of listeners on the bus, including monitoring listeners
+     * @param posts The number of events posted to the bus, including those without listeners
+     * @param postsWithoutListeners The number of events posted while the bus had no listeners
+     * @param cancellations The number of posted events that were cancelled, always zero for non-cancellable events
+     * @param invokerRebuilds The number of times the bus's invoker was rebuilt after its listeners changed
+     * @param invokerRebuildNanos The total time spent rebuilding the bus's invoker
+     * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+     */
+    record EventBusMetrics(
+            Class<?> eventType,
+            int listenerCount,
+            long posts,
+            long postsWithoutListeners,
+            long cancellations,
+            long invokerRebuilds,
+            long invokerRebuildNanos
+    ) {}
+
+    /**
+     * The latencies of the posts to a single EventBus in a BusGroup created with {@link Option#POST_LATENCY}, since
+     * the previous {@linkplain #drainPostLatencies() drain}.
+     * <p>Percentiles are read from a log-linear histogram, so they're reported within 12.5% of the true value,
+     * rounded up.</p>
+     *
+     * @param eventType The type of event the bus is for
+     * @param posts The number of timed posts, which excludes posts while the bus had no listeners
+     * @param meanNanos The mean post duration, or zero if there were no timed posts
+     * @param p50Nanos The median post duration
+     * @param p90Nanos The 90th percentile post duration
+     * @param p99Nanos The 99th percentile post duration
+     * @param p999Nanos The 99.9th percentile post duration
+     * @param maxNanos The longest post duration
+     * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+     */
+    record PostLatency(
+            Class<?> eventType,
+            long posts,
+            long meanNanos,
+            long p50Nanos,
+            long p90Nanos,
+            long p99Nanos,
+            long p999Nanos,
+            long maxNanos
+    ) {}
+
+    /**
+     * The formats that the {@linkplain #exportSubscriptionGraph(GraphFormat) subscription graph} can be exported in.
+     *
+     * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+     */
+    enum GraphFormat {
+        /**
+         * A JSON object with the BusGroup's name, its global listeners and an array of its buses sorted by event
+         * type, each with its listeners in the order they're called and the event types of the buses that inherit
+         * them.
+         */
+        JSON,
+
+        /**
+         * A Graphviz DOT digraph with a box for each bus and a node for each listener. Edges from buses to listeners
+         * are labelled with the order they're called in, dashed for inherited listeners, and dotted edges link parent
+         * buses to the buses that inherit from them.
+         */
+        DOT
+    }
+
+    /**
+     * Options that change how the EventBus instances of a BusGroup behave, chosen when
+     * {@linkplain #create(String, Option...) creating} the BusGroup.
+     */
+    enum Option {
+        /**
+         * Confines all EventBus instances of the BusGroup to the thread that created it.
+         * <p>Thread-confined buses skip locking on registration and read their invoker without volatile semantics,
+         * giving the cheapest possible posting for single-threaded loops such as simulations.</p>
+         *
+         * <p>Using a thread-confined bus from any other thread is unsupported and may result in listeners being
+         * missed or corrupted backing lists. When the {@code eventbus.api.strictRuntimeChecks} system property is
+         * enabled, doing so throws an {@link IllegalStateException} instead.</p>
+         *
+         * @apiNote Creating the buses (such as in a {@code static final} field initialiser) may happen on any thread.
+         */
+        THREAD_CONFINED,
+
+        /**
+         * Counts posts, cancellations, posts without listeners and invoker rebuilds for each EventBus of the BusGroup,
+         * readable from {@link BusGroup#metrics()}.
+         * <p>Buses without this option post straight to their usual invoker. With it, the invoker is wrapped with
+         * {@link java.util.concurrent.atomic.LongAdder} counters that scale across cores, but still cost a few
+         * nanoseconds per post - see {@code BenchmarkMetrics} in {@code eventbus-jmh}.</p>
+         *
+         * @apiNote Buses without listeners can't skip calling the event factory of {@link EventBus#post(java.util.function.Supplier)}
+         *          while metrics are enabled, as the event is posted to count it.
+         *          <p>This is an experimental feature that may be removed, renamed or otherwise changed without
+         *          notice.</p>
+         */
+        METRICS,
+
+        /**
+         * Registers a {@link BusGroupMXBean} for the BusGroup with the platform MBeanServer, so that its buses can be
+         * inspected and controlled on a live process. It's unregistered when the BusGroup is {@linkplain #dispose()
+         * disposed}.
+         * <p>Combine with {@link #METRICS} to also expose post counts.</p>
+         * <p>Needs the {@code java.management} module, which this library only optionally depends on. Creating the BusGroup
+         * throws an {@link IllegalStateException} if it's missing.</p>
+         *
+         * @apiNote Can't be combined with {@link #THREAD_CONFINED}, as JMX operations are called from other threads.
+         *          <p>This is an experimental feature that may be removed, renamed or otherwise changed without
+         *          notice.</p>
+         */
+        JMX,
+
+        /**
+         * Records a histogram of how long each post takes for each EventBus of the BusGroup, readable from
+         * {@link BusGroup#drainPostLatencies()}. Implies {@link #METRICS}.
+         * <p>Each posting thread records to its own histogram, so posting threads don't contend with each other, at
+         * the cost of two {@link System#nanoTime()} calls per post. Posts to a bus without listeners aren't timed.</p>
+         *
+         * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+         */
+        POST_LATENCY
+    }
 }
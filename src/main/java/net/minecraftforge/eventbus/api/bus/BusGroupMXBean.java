@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The management interface of a BusGroup created with {@link BusGroup.Option#JMX}, registered with the platform
+ * MBeanServer as {@code net.minecraftforge.eventbus:type=BusGroup,name="<group name>"} so that buses can be inspected
+ * and controlled on a live process from tools such as JConsole or JDK Mission Control.
+ * <p>Maps are keyed by the name of each EventBus's event type.</p>
+ *
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ * @implNote Unlike the rest of the API, this interface isn't sealed as JMX clients implement it with proxies.
+ */
+public interface BusGroupMXBean {
+    /**
+     * @see BusGroup#name()
+     */
+    String getName();
+
+    /**
+     * The number of EventBus instances in the group.
+     */
+    int getBusCount();
+
+    /**
+     * The number of listeners on each EventBus, including monitoring listeners.
+     */
+    Map<String, Integer> getListenerCounts();
+
+    /**
+     * A description of the invoker each EventBus would build for its current listeners, such as {@code "direct"} or
+     * {@code "loop(6)"}.
+     */
+    Map<String, String> getInvokerStrategies();
+
+    /**
+     * The number of events posted to each EventBus, or an empty map if the group wasn't also created with
+     * {@link BusGroup.Option#METRICS}.
+     */
+    Map<String, Long> getPostCounts();
+
+    /**
+     * @see BusGroup#trim()
+     */
+    void trim();
+
+    /**
+     * @see BusGroup#shutdown()
+     */
+    void shutdown();
+
+    /**
+     * @see BusGroup#startup()
+     */
+    void startup();
+
+    /**
+     * Invalidates the invoker of each EventBus, so that they're rebuilt on their next post.
+     */
+    void rebuildInvokers();
+
+    /**
+     * Starts a {@link ListenerProfiler} for every EventBus in the group.
+     *
+     * @throws IllegalStateException if the group is already being profiled
+     */
+    void startProfiling();
+
+    /**
+     * Stops the profiler started by {@link #startProfiling()}, if any. Its results can still be read from
+     * {@link #getProfile()} until profiling is started again.
+     */
+    void stopProfiling();
+
+    /**
+     * Whether the group is currently being profiled from {@link #startProfiling()}.
+     */
+    boolean isProfiling();
+
+    /**
+     * The {@linkplain ListenerProfiler#snapshot() timings} of the last profiler started by {@link #startProfiling()},
+     * one line per listener, slowest in total first.
+     */
+    List<String> getProfile();
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.api.listener.SubscribeEvent;
+import net.minecraftforge.eventbus.internal.CancellableEventBusImpl;
+import net.minecraftforge.eventbus.internal.CancellationAttributionImpl;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Records which listener cancelled each event posted to a {@link CancellableEventBus}, to find out why an event was
+ * unexpectedly cancelled without attaching a debugger.
+ * <p>While attributing, the bus's invoker is rebuilt with a wrapper around each listener that can cancel the event.
+ * Closing the attribution restores the normal invoker, so a bus that isn't being attributed pays nothing for this
+ * feature.</p>
+ *
+ * <h2>Example</h2>
+ * {@snippet :
+ * try (var attribution = CancellationAttribution.enable(MyEvent.BUS)) {
+ *     if (MyEvent.BUS.post(new MyEvent()))
+ *         LOGGER.info("Cancelled by {}", attribution.lastCancelledBy());
+ * }
+ *}
+ *
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ */
+public sealed interface CancellationAttribution extends AutoCloseable permits CancellationAttributionImpl {
+    /**
+     * Starts attributing cancellations on the given EventBus.
+     *
+     * @throws IllegalStateException if the bus is already being attributed
+     */
+    static CancellationAttribution enable(CancellableEventBus<?> eventBus) {
+        return new CancellationAttributionImpl((CancellableEventBusImpl<?>) eventBus);
+    }
+
+    /**
+     * The listener that cancelled the most recent cancelled post on the current thread, or null if none have been
+     * cancelled on this thread since attribution started.
+     * <p>Call this right after a post that returned {@code true} to find out which listener cancelled it.</p>
+     */
+    @Nullable EventListener lastCancelledBy();
+
+    /**
+     * The number of events each listener has cancelled since attribution started or was last {@linkplain #reset()
+     * reset}, most cancellations first. Listeners that haven't cancelled any events are left out.
+     */
+    List<ListenerCancellations> snapshot();
+
+    /**
+     * Clears the counts recorded so far.
+     */
+    void reset();
+
+    /**
+     * Stops attributing and restores the normal invoker. The counts can still be read afterwards.
+     */
+    @Override
+    void close();
+
+    /**
+     * The cancellations of a single listener.
+     *
+     * @param listener The listener, which can be passed to {@link EventBus#removeListener(EventListener)}
+     * @param declaringClass The class that declares the listener. For listeners added directly as lambdas or method
+     *                       references, this is the class the lambda was written in.
+     * @param methodName The name of the {@link SubscribeEvent} method, or {@code "lambda"} for listeners added directly
+     * @param priority The listener's {@link Priority}
+     * @param cancellations The number of events the listener cancelled
+     */
+    record ListenerCancellations(
+            EventListener listener,
+            String declaringClass,
+            String methodName,
+            byte priority,
+            long cancellations
+    ) {}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.internal.CoalescingDispatcherImpl;
+import net.minecraftforge.eventbus.internal.Event;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Buffers high-frequency events by key so that only one event per key is posted to an {@link EventBus} on each
+ * {@link #flush()}.
+ * <p>This is useful for state-change events that may fire many times per tick for the same subject where only the
+ * final state matters, such as position updates.</p>
+ *
+ * <h2>Example</h2>
+ * {@snippet :
+ * var positions = CoalescingDispatcher.create(EntityMovedEvent.BUS, EntityMovedEvent::entity);
+ *
+ * // Many times per tick
+ * positions.dispatch(new EntityMovedEvent(entity, x, y, z));
+ *
+ * // Once per tick - posts only the latest EntityMovedEvent for each entity
+ * positions.flush();
+ *}
+ *
+ * @param <T> The type of event this dispatcher handles
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ */
+public sealed interface CoalescingDispatcher<T extends Event> permits CoalescingDispatcherImpl {
+    /**
+     * Creates a new CoalescingDispatcher where a later event replaces any buffered event with the same key.
+     *
+     * @param eventBus The EventBus to post events to on flush
+     * @param keyFunction A function returning the key to coalesce by, such as the entity the event is about
+     * @return A new CoalescingDispatcher
+     */
+    @SuppressWarnings("ClassEscapesDefinedScope") // E can be a subtype of Event which is publicly accessible
+    static <E extends Event> CoalescingDispatcher<E> create(EventBus<E> eventBus, Function<? super E, ?> keyFunction) {
+        return new CoalescingDispatcherImpl<>(eventBus, keyFunction, (older, newer) -> newer);
+    }
+
+    /**
+     * Creates a new CoalescingDispatcher where a later event is merged with any buffered event with the same key.
+     *
+     * @param eventBus The EventBus to post events to on flush
+     * @param keyFunction A function returning the key to coalesce by, such as the entity the event is about
+     * @param merger A function that combines the buffered event (first argument) with the newly dispatched event
+     *               (second argument) into the event to keep buffered
+     * @return A new CoalescingDispatcher
+     */
+    @SuppressWarnings("ClassEscapesDefinedScope") // E can be a subtype of Event which is publicly accessible
+    static <E extends Event> CoalescingDispatcher<E> create(EventBus<E> eventBus, Function<? super E, ?> keyFunction,
+                                                            BinaryOperator<E> merger) {
+        return new CoalescingDispatcherImpl<>(eventBus, keyFunction, merger);
+    }
+
+    /**
+     * Buffers the given event until the next {@link #flush()}, replacing or merging with any already buffered event
+     * that has the same key.
+     *
+     * @param event The instance of the event to buffer
+     */
+    void dispatch(T event);
+
+    /**
+     * Posts every buffered event to the EventBus and removes it from the buffer.
+     * <p>Events with different keys are not posted in any particular order. Events dispatched concurrently with a flush
+     * are either posted by that flush or kept for the next one.</p>
+     *
+     * @return The number of events that were posted
+     */
+    int flush();
+
+    /**
+     * The approximate number of events currently buffered.
+     */
+    int size();
+}
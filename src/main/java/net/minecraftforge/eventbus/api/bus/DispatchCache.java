@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
+import net.minecraftforge.eventbus.internal.DispatchCacheImpl;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.function.BinaryOperator;
+
+/**
+ * Memoises the outcome of posting pure events, such as whether a {@link Cancellable} event was cancelled or the answer
+ * to a {@link QueryBus} query, so that posting an equal event again returns the same outcome without calling any
+ * listeners.
+ * <p>This is only correct when the outcome depends solely on the event's record components, which are what
+ * {@link Record#equals(Object)} and {@link Record#hashCode()} compare, and when listeners have no side effects that
+ * need to happen on every post. Entries computed before the bus's listeners changed are never returned, so adding or
+ * removing a listener or shutting down the bus's {@link BusGroup} effectively invalidates the cache.</p>
+ * <p>The cache is bounded to a maximum number of entries and can optionally expire entries a fixed time after they
+ * were computed. When full, expired and invalidated entries are evicted first, followed by arbitrary entries.</p>
+ *
+ * <h2>Example</h2>
+ * {@snippet :
+ * record CanPlaceBlockEvent(BlockState state, BlockPos pos) implements Cancellable, RecordEvent {
+ *     static final CancellableEventBus<CanPlaceBlockEvent> BUS = CancellableEventBus.create(CanPlaceBlockEvent.class);
+ *     static final DispatchCache<CanPlaceBlockEvent, Boolean> CACHE = DispatchCache.cancellable(BUS, 4096, null);
+ * }
+ *
+ * boolean cancelled = CanPlaceBlockEvent.CACHE.dispatch(new CanPlaceBlockEvent(state, pos));
+ *}
+ *
+ * @param <K> The type of event or query, which is used as the key of the cache
+ * @param <V> The type of the cached outcome
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ */
+public sealed interface DispatchCache<K, V extends @Nullable Object> permits DispatchCacheImpl {
+    /**
+     * Creates a DispatchCache of whether events posted to the given CancellableEventBus were cancelled.
+     *
+     * @param eventBus The bus to post events to on cache misses
+     * @param maxSize The maximum number of cached outcomes
+     * @param expireAfterWrite How long an outcome is cached for after being computed, or {@code null} to only evict
+     *                         outcomes when the cache is full
+     * @return A new DispatchCache
+     * @throws IllegalArgumentException if the maximum size is less than 1 or the expiry isn't positive
+     */
+    static <T extends RecordEvent & Cancellable> DispatchCache<T, Boolean> cancellable(
+            CancellableEventBus<T> eventBus, int maxSize, @Nullable Duration expireAfterWrite) {
+        return DispatchCacheImpl.create(eventBus, eventBus::post, maxSize, expireAfterWrite);
+    }
+
+    /**
+     * Creates a DispatchCache of the results of events posted to the given ResultEventBus.
+     *
+     * @param eventBus The bus to post events to on cache misses
+     * @param maxSize The maximum number of cached outcomes
+     * @param expireAfterWrite How long an outcome is cached for after being computed, or {@code null} to only evict
+     *                         outcomes when the cache is full
+     * @return A new DispatchCache
+     * @throws IllegalArgumentException if the maximum size is less than 1 or the expiry isn't positive
+     */
+    static <T extends RecordEvent & HasResult> DispatchCache<T, HasResult.Result> results(
+            ResultEventBus<T> eventBus, int maxSize, @Nullable Duration expireAfterWrite) {
+        return DispatchCacheImpl.create(eventBus, eventBus::postForResult, maxSize, expireAfterWrite);
+    }
+
+    /**
+     * Creates a DispatchCache of the {@linkplain QueryBus#firstNonNull(Object) first non-null answers} to queries
+     * asked on the given QueryBus.
+     *
+     * @param queryBus The bus to ask on cache misses
+     * @param maxSize The maximum number of cached outcomes
+     * @param expireAfterWrite How long an outcome is cached for after being computed, or {@code null} to only evict
+     *                         outcomes when the cache is full
+     * @return A new DispatchCache
+     * @throws IllegalArgumentException if the maximum size is less than 1 or the expiry isn't positive
+     */
+    static <Q, R> DispatchCache<Q, @Nullable R> firstNonNull(
+            QueryBus<Q, R> queryBus, int maxSize, @Nullable Duration expireAfterWrite) {
+        return DispatchCacheImpl.create(queryBus, queryBus::firstNonNull, maxSize, expireAfterWrite);
+    }
+
+    /**
+     * Creates a DispatchCache of the {@linkplain QueryBus#reduce(Object, Object, BinaryOperator) reduced answers} to
+     * queries asked on the given QueryBus.
+     *
+     * @param queryBus The bus to ask on cache misses
+     * @param identity The identity to reduce from
+     * @param combiner Combines the result so far with the next answer
+     * @param maxSize The maximum number of cached outcomes
+     * @param expireAfterWrite How long an outcome is cached for after being computed, or {@code null} to only evict
+     *                         outcomes when the cache is full
+     * @return A new DispatchCache
+     * @throws IllegalArgumentException if the maximum size is less than 1 or the expiry isn't positive
+     */
+    static <Q, R> DispatchCache<Q, R> reduce(QueryBus<Q, R> queryBus, R identity, BinaryOperator<R> combiner,
+                                             int maxSize, @Nullable Duration expireAfterWrite) {
+        return DispatchCacheImpl.create(queryBus, query -> queryBus.reduce(query, identity, combiner), maxSize, expireAfterWrite);
+    }
+
+    /**
+     * Returns the cached outcome for the given event or query if there is one that is still valid, otherwise posts it
+     * to the bus and caches the outcome.
+     *
+     * @param key The event or query, which must not be mutated after being passed to this method
+     * @return The outcome of posting the event or asking the query
+     */
+    V dispatch(K key);
+
+    /**
+     * The number of times {@link #dispatch(Object)} returned a cached outcome.
+     */
+    long hits();
+
+    /**
+     * The number of times {@link #dispatch(Object)} had to post to the bus.
+     */
+    long misses();
+
+    /**
+     * The approximate number of cached outcomes, including any that have expired or been invalidated but not yet
+     * evicted.
+     */
+    int size();
+
+    /**
+     * Removes all cached outcomes. The hit and miss counters are not reset.
+     */
+    void clear();
+}
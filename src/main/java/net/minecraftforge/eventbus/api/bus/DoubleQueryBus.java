@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.internal.BusGroupImpl;
+import net.minecraftforge.eventbus.internal.DoubleQueryBusImpl;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A {@link QueryBus} whose listeners answer with a {@code double}, such as a modifier to add to an attribute, without boxing.
+ * <p>Every listener answers every query, so the answers are always {@linkplain #reduce(Object, double, DoubleBinaryOperator)
+ * reduced}, most commonly into their {@linkplain #sum(Object) sum}, {@linkplain #max(Object, double) maximum} or
+ * {@linkplain #min(Object, double) minimum}. Listeners that don't want to change the result should return the identity of
+ * the reduction, such as {@code 0.0} for sums.</p>
+ *
+ * @param <Q> The type of the query passed to listeners
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ * @see IntQueryBus
+ */
+public sealed interface DoubleQueryBus<Q> permits DoubleQueryBusImpl {
+    /**
+     * The name of this bus, which is unique to its BusGroup.
+     */
+    String name();
+
+    /**
+     * Adds a listener to this DoubleQueryBus with the default priority of {@link Priority#NORMAL}.
+     * @param listener The listener to add, which returns its answer to the query
+     * @return A reference that can be used to remove this listener later with {@link #removeListener(EventListener)}
+     */
+    EventListener addListener(ToDoubleFunction<Q> listener);
+
+    /**
+     * Adds a listener to this DoubleQueryBus with the given priority.
+     * @param priority The priority of this listener. Higher numbers are called first.
+     * @param listener The listener to add, which returns its answer to the query
+     * @return A reference that can be used to remove this listener later with {@link #removeListener(EventListener)}
+     * @throws IllegalArgumentException if the priority is {@link Priority#MONITOR}, as monitors cannot answer queries
+     */
+    EventListener addListener(byte priority, ToDoubleFunction<Q> listener);
+
+    /**
+     * Re-adds a listener to this DoubleQueryBus that was previously removed with {@link #removeListener(EventListener)}.
+     * @param listener The exact same reference returned by an {@code addListener} method
+     * @return The same reference that was passed in
+     */
+    EventListener addListener(EventListener listener);
+
+    /**
+     * Removes a listener from this DoubleQueryBus that was previously added with one of the {@code addListener} methods.
+     * @param listener The exact same reference returned by an {@code addListener} method
+     */
+    void removeListener(EventListener listener);
+
+    /**
+     * Asks every listener in priority order and combines their answers, starting from the identity.
+     * @param query The query to pass to listeners
+     * @param identity The value to start from, which is returned as-is if there are no listeners
+     * @param combiner Combines the result so far with the next answer
+     * @return The combined answers
+     */
+    double reduce(Q query, double identity, DoubleBinaryOperator combiner);
+
+    /**
+     * @param query The query to pass to listeners
+     * @return The sum of all answers, or {@code 0.0} if there are no listeners
+     */
+    double sum(Q query);
+
+    /**
+     * @param query The query to pass to listeners
+     * @param identity The lower bound of the result, which is returned as-is if there are no listeners
+     * @return The largest of the identity and all answers
+     */
+    double max(Q query, double identity);
+
+    /**
+     * @param query The query to pass to listeners
+     * @param identity The upper bound of the result, which is returned as-is if there are no listeners
+     * @return The smallest of the identity and all answers
+     */
+    double min(Q query, double identity);
+
+    /**
+     * @return {@code true} if there are any listeners registered to this DoubleQueryBus.
+     */
+    boolean hasListeners();
+
+    /**
+     * Creates a new DoubleQueryBus with the given name on the default {@link BusGroup}.
+     * <p>
+     *     <b>Important:</b> The returned DoubleQueryBus MUST be stored in a {@code static final} field - failing to do so
+     *     will severely hurt performance
+     * </p>
+     * @apiNote There can only be one DoubleQueryBus instance per name per BusGroup.
+     */
+    static <Q> DoubleQueryBus<Q> create(String name) {
+        return create(BusGroup.DEFAULT, name);
+    }
+
+    /**
+     * Creates a new DoubleQueryBus with the given name on the given {@link BusGroup}.
+     * <p>
+     *     <b>Important:</b> The returned DoubleQueryBus MUST be stored in a {@code static final} field - failing to do so
+     *     will severely hurt performance
+     * </p>
+     * @apiNote There can only be one DoubleQueryBus instance per name per BusGroup.
+     */
+    static <Q> DoubleQueryBus<Q> create(BusGroup busGroup, String name) {
+        return ((BusGroupImpl) busGroup).getOrCreatePrimitiveEventBus(DoubleQueryBusImpl.class, name);
+    }
+}
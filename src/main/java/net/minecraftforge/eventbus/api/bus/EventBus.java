@@ -6,19 +6,26 @@ package net.minecraftforge.eventbus.api.bus;
 
 import net.minecraftforge.eventbus.internal.Event;
 import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.SelfDestructing;
 import net.minecraftforge.eventbus.api.listener.EventListener;
 import net.minecraftforge.eventbus.api.listener.Priority;
 import net.minecraftforge.eventbus.internal.AbstractEventBusImpl;
 import net.minecraftforge.eventbus.internal.BusGroupImpl;
 import net.minecraftforge.eventbus.internal.EventBusImpl;
+import org.jspecify.annotations.Nullable;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * @see CancellableEventBus if your event type implements {@link Cancellable}
  * @param <T> The type of event this EventBus handles
  */
-public sealed interface EventBus<T extends Event> permits CancellableEventBus, AbstractEventBusImpl, EventBusImpl {
+public sealed interface EventBus<T extends Event>
+        permits CancellableEventBus, ResultEventBus, AbstractEventBusImpl, EventBusImpl {
     /**
      * Adds a listener to this EventBus with the default priority of {@link Priority#NORMAL}.
      * @param listener The listener to add
@@ -61,6 +68,47 @@ public sealed interface EventBus<T extends Event> permits CancellableEventBus, A
      */
     T fire(T event);
 
+    /**
+     * Posts an event that is only created if there are any listeners registered to this EventBus, as an alternative
+     * to manually guarding a {@link #post(Event)} call with {@link #hasListeners()}.
+     * {@snippet :
+     * MyEvent.BUS.post(() -> new MyEvent(expensiveToCompute()));
+     *}
+     *
+     * @param eventFactory Creates the instance of this event to post to listeners, called at most once
+     * @return {@code true} if the event implements {@link Cancellable} and the event was cancelled by a listener
+     * @implNote When this EventBus is stored in a {@code static final} field, the JIT is able to inline this method into
+     *           the caller and eliminate the allocation of the capturing lambda, so there's no cost to using this over a
+     *           manual guard. {@link net.minecraftforge.eventbus.api.event.characteristic.Sticky Sticky} events are
+     *           always created, so that they can be delivered to listeners added later.
+     */
+    boolean post(Supplier<T> eventFactory);
+
+    /**
+     * Fires an event that is only created if there are any listeners registered to this EventBus.
+     *
+     * @param eventFactory Creates the instance of this event to fire to listeners, called at most once
+     * @return The possibly mutated event instance after all applicable listeners have been called, or {@code null} if
+     *         there were no listeners and the event wasn't created
+     * @see #post(Supplier)
+     */
+    @Nullable T fire(Supplier<T> eventFactory);
+
+    /**
+     * Posts each of the given events in parallel on the given ForkJoinPool, returning once all of them have been posted.
+     * <p>The batch is recursively split across the pool's workers, with idle workers stealing work from busy ones.
+     * Events are not posted in any particular order relative to each other.</p>
+     *
+     * @param events The independent event instances to post to listeners
+     * @param pool The pool to post the events on
+     * @return The number of events that implement {@link Cancellable} and were cancelled by a listener
+     * @apiNote Calling this method is an opt-in that every listener on this EventBus is thread-safe, as each listener
+     *          may be called for different events on multiple threads at the same time.
+     * @throws IllegalStateException if this EventBus belongs to a {@link BusGroup.Option#THREAD_CONFINED thread-confined}
+     *         BusGroup, or its events are {@link SelfDestructing}
+     */
+    int postAllParallel(List<T> events, ForkJoinPool pool);
+
     /**
      * If making a new event instance is expensive, you can check against this method to avoid creating a new instance
      * unnecessarily.
@@ -70,6 +118,15 @@ public sealed interface EventBus<T extends Event> permits CancellableEventBus, A
      */
     boolean hasListeners();
 
+    /**
+     * Describes how this EventBus dispatches events to its current listeners, for diagnosing why posting to one bus
+     * is slower than another.
+     *
+     * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+     * @see BusGroup#describeInvokers()
+     */
+    InvokerDescription describeInvoker();
+
     /**
      * Creates a new EventBus for the given event type on the default {@link BusGroup}.
      * <p>
@@ -95,4 +152,48 @@ public sealed interface EventBus<T extends Event> permits CancellableEventBus, A
     static <E extends Event> EventBus<E> create(BusGroup busGroup, Class<E> eventType) {
         return ((BusGroupImpl) busGroup).getOrCreateEventBus(eventType);
     }
+
+    /**
+     * A description of the invoker an EventBus builds for its current listeners.
+     *
+     * @param eventType The type of event the bus is for
+     * @param strategy The shape of the invoker, such as {@code "direct"}, {@code "composed(2)"},
+     *                 {@code "unrolled(3)"} or {@code "loop(6)"}. Buses without listeners are {@code "noOp"}, or
+     *                 {@code "empty"} if metrics or global listeners need an invoker anyway. Cancellable buses whose
+     *                 listeners never decide whether to cancel are prefixed with {@code "noCancelChecks+"}, and
+     *                 invokers that also call monitoring listeners are suffixed with {@code "+monitors(n)"}.
+     * @param listenerCount The number of non-monitoring listeners
+     * @param unwrappedListenerCount The number of non-monitoring listeners that the invoker calls, which is lower than
+     *                               the listener count when an always-cancelling listener truncated the chain
+     * @param truncatedByAlwaysCancelling Whether listeners after an always-cancelling listener were left out of the
+     *                                    invoker, as they would never be called
+     * @param monitoringListenerCount The number of {@link Priority#MONITOR} listeners
+     * @param monitorMode How the invoker calls monitoring listeners
+     * @param builtAt When the current invoker was built, or null if it hasn't been built since the listeners last
+     *                changed or the bus was shut down
+     */
+    record InvokerDescription(
+            Class<?> eventType,
+            String strategy,
+            int listenerCount,
+            int unwrappedListenerCount,
+            boolean truncatedByAlwaysCancelling,
+            int monitoringListenerCount,
+            MonitorMode monitorMode,
+            @Nullable Instant builtAt
+    ) {
+        public enum MonitorMode {
+            /** There are no monitoring listeners, or none of the non-monitoring listeners for them to run after. */
+            NONE,
+
+            /** Monitoring listeners are called after the others. */
+            PLAIN,
+
+            /**
+             * Monitoring listeners are called after the others, with the event told that it's being monitored as it
+             * implements {@link net.minecraftforge.eventbus.api.event.characteristic.MonitorAware}.
+             */
+            MONITOR_AWARE
+        }
+    }
 }
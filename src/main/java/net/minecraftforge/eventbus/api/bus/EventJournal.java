@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.internal.EventJournalImpl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Appends the events posted to an {@link EventBus} to a durable, append-only journal on disk, for auditing or for
+ * recovering after a crash by replaying it into a {@link BusGroup}.
+ * <p>The journal is attached to the bus as a {@link Priority#MONITOR} listener, which encodes each event with a
+ * {@link ReplayBuffer.Codec} directly into a memory-mapped segment file. Posting threads never wait for the disk -
+ * a background thread flushes the segments to disk on a fixed interval, so every event appended during an interval is
+ * made durable by a single fsync (group commit). Events appended since the last flush may be lost if the machine
+ * crashes, but not if only the JVM does, as the operating system still writes back the mapped pages.</p>
+ * <p>Each record in a segment is prefixed with its length and a CRC-32 checksum, so {@linkplain #read(Path,
+ * ReplayBuffer.Codec, Consumer) reading} a journal stops cleanly at the first record that was only partially written
+ * before a crash.</p>
+ * <p>As with {@link ReplayBuffer}, events that don't fit in {@link ReplayBuffer.Codec#maxEncodedSize()} bytes are
+ * skipped, and any other exception thrown by the codec is thrown to the poster without journaling the event.</p>
+ *
+ * <h2>Example</h2>
+ * {@snippet :
+ * static final EventJournal<PlayerTradeEvent> TRADES = EventJournal.open(PlayerTradeEvent.BUS, Path.of("journal/trades"), CODEC);
+ *
+ * // After a crash, or offline in a separate process
+ * EventJournal.replay(Path.of("journal/trades"), CODEC, RECOVERY_BUS);
+ *}
+ *
+ * @param <T> The type of event being journaled
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ * @implNote Appends are serialised by a lock, held only while the event is encoded into the mapped segment. The
+ *           background thread also creates and maps the next segment ahead of time, so a full segment is replaced
+ *           without touching the file system on the posting thread. Each journal writes to new segments, so opening a
+ *           directory that already contains segments appends after them rather than overwriting them.
+ */
+public sealed interface EventJournal<T extends RecordEvent> extends AutoCloseable permits EventJournalImpl {
+    /**
+     * The default size of each segment file, 64 MiB.
+     */
+    int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    /**
+     * The default interval between flushes to disk.
+     */
+    Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(100);
+
+    /**
+     * Opens a journal with the {@linkplain #DEFAULT_SEGMENT_SIZE default segment size} and
+     * {@linkplain #DEFAULT_SYNC_INTERVAL default sync interval}.
+     *
+     * @see #open(EventBus, Path, ReplayBuffer.Codec, int, Duration)
+     */
+    static <T extends RecordEvent> EventJournal<T> open(EventBus<T> eventBus, Path directory, ReplayBuffer.Codec<T> codec) {
+        return open(eventBus, directory, codec, DEFAULT_SEGMENT_SIZE, DEFAULT_SYNC_INTERVAL);
+    }
+
+    /**
+     * Opens a journal in the given directory, creating it if necessary, and attaches it to the given EventBus.
+     *
+     * @param eventBus The EventBus to journal events from
+     * @param directory The directory to write segment files to
+     * @param codec Converts events to and from bytes
+     * @param segmentSize The size of each segment file in bytes
+     * @param syncInterval How often appended events are flushed to disk
+     * @return A new EventJournal, which is already journaling
+     * @throws IllegalArgumentException if a single event may not fit in a segment, or the sync interval isn't positive
+     * @throws UncheckedIOException if the directory or the first segment could not be created
+     */
+    static <T extends RecordEvent> EventJournal<T> open(EventBus<T> eventBus, Path directory, ReplayBuffer.Codec<T> codec,
+                                                        int segmentSize, Duration syncInterval) {
+        if (codec.maxEncodedSize() < 1 || segmentSize < EventJournalImpl.RECORD_HEADER_SIZE + codec.maxEncodedSize())
+            throw new IllegalArgumentException("Segment size " + segmentSize + " is too small for events of up to "
+                    + codec.maxEncodedSize() + " bytes");
+
+        if (syncInterval.isNegative() || syncInterval.isZero())
+            throw new IllegalArgumentException("Sync interval must be positive, got " + syncInterval);
+
+        return new EventJournalImpl<>(eventBus, directory, codec, segmentSize, syncInterval);
+    }
+
+    /**
+     * Reads every complete event in the journal in the given directory, in the order they were appended.
+     *
+     * @param directory The directory the journal was written to
+     * @param codec The codec the journal was written with
+     * @param action Called with each event
+     * @return The number of events read
+     * @throws IOException if the segment files could not be read
+     */
+    static <T extends RecordEvent> long read(Path directory, ReplayBuffer.Codec<T> codec, Consumer<? super T> action)
+            throws IOException {
+        return EventJournalImpl.read(directory, codec, action);
+    }
+
+    /**
+     * Posts every complete event in the journal in the given directory to the given EventBus, in the order they were
+     * appended.
+     *
+     * @param directory The directory the journal was written to
+     * @param codec The codec the journal was written with
+     * @param eventBus The EventBus to post the events to, which should not have this journal attached
+     * @return The number of events posted
+     * @throws IOException if the segment files could not be read
+     */
+    static <T extends RecordEvent> long replay(Path directory, ReplayBuffer.Codec<T> codec, EventBus<T> eventBus)
+            throws IOException {
+        return read(directory, codec, eventBus::post);
+    }
+
+    /**
+     * The directory the segment files are written to.
+     */
+    Path directory();
+
+    /**
+     * The number of events appended since this journal was opened.
+     */
+    long appended();
+
+    /**
+     * Flushes all appended events to disk, blocking until done.
+     *
+     * @throws UncheckedIOException if flushing failed
+     */
+    void sync();
+
+    /**
+     * Detaches the journal from its EventBus, flushes all appended events to disk and stops the background thread.
+     * Events posted afterwards are not journaled.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.internal.BusGroupImpl;
+import net.minecraftforge.eventbus.internal.Event;
+import net.minecraftforge.eventbus.internal.EventMailboxImpl;
+
+/**
+ * Hands off events posted from any thread to the {@linkplain #owner() owner thread} of a {@link BusGroup}, such as the
+ * main thread of a game loop.
+ * <p>Events {@linkplain #submit(EventBus, Event) submitted} on the owner thread are posted immediately. Events
+ * submitted on other threads are queued in a lock-free mailbox until the owner thread {@linkplain #drain(int) drains}
+ * it, at which point they are posted in the order they were queued.</p>
+ *
+ * <h2>Example</h2>
+ * {@snippet :
+ * // On startup
+ * static final EventMailbox MAILBOX = EventMailbox.create(MY_BUS_GROUP, Thread.currentThread(), 4096);
+ *
+ * // On a network thread
+ * MAILBOX.submit(PacketReceivedEvent.BUS, new PacketReceivedEvent(packet));
+ *
+ * // On the main thread, once per tick
+ * MAILBOX.drain(1024);
+ *}
+ *
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ * @implNote The mailbox is a fixed-size ring that stores the event and bus references directly, so queueing an event
+ *           doesn't allocate.
+ */
+public sealed interface EventMailbox permits EventMailboxImpl {
+    /**
+     * Creates a new EventMailbox for the given BusGroup.
+     *
+     * @param busGroup The BusGroup whose EventBus instances events will be submitted to
+     * @param owner The thread that posts the submitted events when draining the mailbox
+     * @param capacity The maximum number of events that can be queued at once, rounded up to the next power of two
+     * @return A new EventMailbox
+     * @throws IllegalArgumentException if the capacity is less than 1 or greater than 2<sup>30</sup>
+     * @throws IllegalStateException if the BusGroup is {@linkplain BusGroup.Option#THREAD_CONFINED thread-confined}, as
+     *                               the mailbox hands events over between threads
+     */
+    static EventMailbox create(BusGroup busGroup, Thread owner, int capacity) {
+        if (capacity < 1 || capacity > 1 << 30)
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30, got " + capacity);
+
+        if (((BusGroupImpl) busGroup).ownerThread() != null)
+            throw new IllegalStateException("Cannot hand off events between threads to the thread-confined BusGroup \""
+                    + busGroup.name() + '"');
+
+        return new EventMailboxImpl(busGroup.name(), owner, capacity);
+    }
+
+    /**
+     * The thread that posts the submitted events.
+     */
+    Thread owner();
+
+    /**
+     * Posts the event immediately if called from the {@linkplain #owner() owner thread}, otherwise queues it to be
+     * posted on the next {@link #drain(int)}.
+     *
+     * @param eventBus The EventBus to post the event to, which must belong to this mailbox's BusGroup
+     * @param event The instance of the event to post to listeners
+     * @return {@code true} if the event was posted or queued, {@code false} if the mailbox is full
+     * @throws IllegalStateException if the EventBus belongs to a thread-confined BusGroup
+     * @apiNote Whether a queued {@link net.minecraftforge.eventbus.api.event.characteristic.Cancellable} event was
+     *          cancelled is not reported back to the submitting thread. Use {@link EventBus#fire(Event)} inside a
+     *          listener or a {@link net.minecraftforge.eventbus.api.listener.Priority#MONITOR monitor} if you need it.
+     */
+    @SuppressWarnings("ClassEscapesDefinedScope") // T can be a subtype of Event which is publicly accessible
+    <T extends Event> boolean submit(EventBus<T> eventBus, T event);
+
+    /**
+     * Posts up to {@code max} queued events in the order they were submitted.
+     *
+     * @param max The maximum number of events to post, to bound the time spent draining
+     * @return The number of events that were posted
+     * @throws IllegalStateException if not called from the {@linkplain #owner() owner thread}
+     * @apiNote Exceptions thrown by listeners propagate to the caller. Events that were queued after the one whose
+     *          listener threw remain in the mailbox for the next drain.
+     */
+    int drain(int max);
+
+    /**
+     * The approximate number of events currently queued.
+     */
+    int size();
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.api.event.MutableEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.Poolable;
+import net.minecraftforge.eventbus.internal.EventPoolImpl;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Reuses instances of a {@link Poolable} event across posts to avoid allocating a new instance for each one.
+ * <p>Each thread has its own pool of up to {@code maxPooledPerThread} instances, so borrowing and releasing never
+ * contends with other threads. Once a thread's pool is empty, new instances are created with the factory.</p>
+ *
+ * <h2>Example</h2>
+ * {@snippet :
+ * static final EventPool<BlockUpdateEvent> POOL = EventPool.create(BlockUpdateEvent.BUS, BlockUpdateEvent::new);
+ *
+ * // Borrows an instance, initialises it, posts it and then releases it back to the pool
+ * POOL.post(event -> event.setPos(pos));
+ *}
+ *
+ * @param <T> The type of event being pooled
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ */
+public sealed interface EventPool<T extends MutableEvent & Poolable> permits EventPoolImpl {
+    /**
+     * The default maximum number of instances kept in each thread's pool.
+     */
+    int DEFAULT_MAX_POOLED_PER_THREAD = 16;
+
+    /**
+     * Creates a new EventPool for the given EventBus, keeping up to {@link #DEFAULT_MAX_POOLED_PER_THREAD} instances
+     * per thread.
+     *
+     * @see #create(EventBus, Supplier, int)
+     */
+    static <T extends MutableEvent & Poolable> EventPool<T> create(EventBus<T> eventBus, Supplier<T> factory) {
+        return create(eventBus, factory, DEFAULT_MAX_POOLED_PER_THREAD);
+    }
+
+    /**
+     * Creates a new EventPool for the given EventBus.
+     *
+     * @param eventBus The EventBus that pooled instances are posted to
+     * @param factory Creates new instances when the current thread's pool is empty
+     * @param maxPooledPerThread The maximum number of released instances kept for reuse by each thread
+     * @return A new EventPool
+     * @throws IllegalArgumentException if {@code maxPooledPerThread} is negative
+     */
+    static <T extends MutableEvent & Poolable> EventPool<T> create(EventBus<T> eventBus, Supplier<T> factory,
+                                                                    int maxPooledPerThread) {
+        if (maxPooledPerThread < 0)
+            throw new IllegalArgumentException("maxPooledPerThread cannot be negative, got " + maxPooledPerThread);
+
+        return new EventPoolImpl<>(eventBus, factory, maxPooledPerThread);
+    }
+
+    /**
+     * Borrows an instance from the current thread's pool, creating a new one if the pool is empty.
+     * <p>The instance must be {@linkplain #release(MutableEvent) released} by the same thread once it is no longer
+     * needed.</p>
+     */
+    T borrow();
+
+    /**
+     * {@linkplain Poolable#reset() Resets} the instance and returns it to the current thread's pool.
+     * <p>With strict runtime checks enabled, the instance is marked as released but not returned to the pool, so that
+     * it's never reused. See {@link Poolable} for what is and isn't detected.</p>
+     *
+     * @param event An instance previously returned by {@link #borrow()}
+     * @throws IllegalStateException if the instance has already been released
+     */
+    void release(T event);
+
+    /**
+     * Borrows an instance, initialises it, posts it to the EventBus and then releases it, even if a listener throws.
+     *
+     * @param initializer Sets the fields of the borrowed instance before it is posted
+     * @return {@code true} if the event implements {@link Cancellable} and the event was cancelled by a listener
+     */
+    boolean post(Consumer<? super T> initializer);
+
+    /**
+     * The total number of instances this pool has created with its factory across all threads, which stays flat once
+     * the pools have warmed up if every borrowed instance is released.
+     */
+    long allocations();
+}
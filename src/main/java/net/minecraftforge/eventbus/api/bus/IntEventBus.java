@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.IntBooleanBiConsumer;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.internal.BusGroupImpl;
+import net.minecraftforge.eventbus.internal.IntEventBusImpl;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * An event bus for events that consist of a single {@code int}, which are posted to listeners directly rather than
+ * being wrapped in an event object.
+ * <p>Use this instead of an {@link EventBus} with a single-field {@link RecordEvent} for very high-rate events where the
+ * allocation of the event instance would otherwise matter. Primitive buses support priorities, cancellation and
+ * {@linkplain Priority#MONITOR monitoring} listeners in the same way as a {@link CancellableEventBus}, and are started
+ * up, shut down and disposed of along with the rest of their {@link BusGroup}.</p>
+ * <p>As there is no event type to identify them by, primitive buses are identified by a name that is unique within
+ * their BusGroup.</p>
+ *
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ * @see LongEventBus
+ * @see ObjIntEventBus
+ */
+public sealed interface IntEventBus permits IntEventBusImpl {
+    /**
+     * The name of this bus, which is unique to its BusGroup.
+     */
+    String name();
+
+    /**
+     * Adds a listener to this IntEventBus with the default priority of {@link Priority#NORMAL}.
+     * @param listener The listener to add
+     * @return A reference that can be used to remove this listener later with {@link #removeListener(EventListener)}
+     */
+    EventListener addListener(IntConsumer listener);
+
+    /**
+     * Adds a listener to this IntEventBus with the given priority, which may be {@link Priority#MONITOR}.
+     * @param priority The priority of this listener. Higher numbers are called first.
+     * @param listener The listener to add
+     * @return A reference that can be used to remove this listener later with {@link #removeListener(EventListener)}
+     */
+    EventListener addListener(byte priority, IntConsumer listener);
+
+    /**
+     * Adds a possibly cancelling listener to this IntEventBus with the default priority of {@link Priority#NORMAL}.
+     * @param listener The listener to add, which returns {@code true} to cancel the event
+     * @return A reference that can be used to remove this listener later with {@link #removeListener(EventListener)}
+     */
+    EventListener addListener(IntPredicate listener);
+
+    /**
+     * Adds a possibly cancelling listener to this IntEventBus with the given priority.
+     * @param priority The priority of this listener. Higher numbers are called first.
+     * @param listener The listener to add, which returns {@code true} to cancel the event
+     * @return A reference that can be used to remove this listener later with {@link #removeListener(EventListener)}
+     * @throws IllegalArgumentException if the priority is {@link Priority#MONITOR}, as monitors cannot cancel events
+     */
+    EventListener addListener(byte priority, IntPredicate listener);
+
+    /**
+     * Adds a cancellation-aware monitoring listener to this IntEventBus.
+     * @param listener The listener to add, which is also given whether the event was cancelled
+     * @return A reference that can be used to remove this listener later with {@link #removeListener(EventListener)}
+     */
+    EventListener addListener(IntBooleanBiConsumer listener);
+
+    /**
+     * Re-adds a listener to this IntEventBus that was previously removed with {@link #removeListener(EventListener)}.
+     * @param listener The exact same reference returned by an {@code addListener} method
+     * @return The same reference that was passed in
+     */
+    EventListener addListener(EventListener listener);
+
+    /**
+     * Removes a listener from this IntEventBus that was previously added with one of the {@code addListener} methods.
+     * @param listener The exact same reference returned by an {@code addListener} method
+     */
+    void removeListener(EventListener listener);
+
+    /**
+     * @param value The value to post to listeners
+     * @return {@code true} if the event was cancelled by a listener
+     */
+    boolean post(int value);
+
+    /**
+     * @return {@code true} if there are any listeners registered to this IntEventBus.
+     */
+    boolean hasListeners();
+
+    /**
+     * Creates a new IntEventBus with the given name on the default {@link BusGroup}.
+     * <p>
+     *     <b>Important:</b> The returned IntEventBus MUST be stored in a {@code static final} field - failing to do so
+     *     will severely hurt performance
+     * </p>
+     * @apiNote There can only be one IntEventBus instance per name per BusGroup.
+     */
+    static IntEventBus create(String name) {
+        return create(BusGroup.DEFAULT, name);
+    }
+
+    /**
+     * Creates a new IntEventBus with the given name on the given {@link BusGroup}.
+     * <p>
+     *     <b>Important:</b> The returned IntEventBus MUST be stored in a {@code static final} field - failing to do so
+     *     will severely hurt performance
+     * </p>
+     * @apiNote There can only be one IntEventBus instance per name per BusGroup.
+     */
+    static IntEventBus create(BusGroup busGroup, String name) {
+        return ((BusGroupImpl) busGroup).getOrCreatePrimitiveEventBus(IntEventBusImpl.class, name);
+    }
+}
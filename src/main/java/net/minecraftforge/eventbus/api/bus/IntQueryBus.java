@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.internal.BusGroupImpl;
+import net.minecraftforge.eventbus.internal.IntQueryBusImpl;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link QueryBus} whose listeners answer with an {@code int}, such as a bonus to add to a stat, without boxing.
+ * <p>Every listener answers every query, so the answers are always {@linkplain #reduce(Object, int, IntBinaryOperator)
+ * reduced}, most commonly into their {@linkplain #sum(Object) sum}, {@linkplain #max(Object, int) maximum} or
+ * {@linkplain #min(Object, int) minimum}. Listeners that don't want to change the result should return the identity of
+ * the reduction, such as {@code 0} for sums.</p>
+ *
+ * @param <Q> The type of the query passed to listeners
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ * @see DoubleQueryBus
+ */
+public sealed interface IntQueryBus<Q> permits IntQueryBusImpl {
+    /**
+     * The name of this bus, which is unique to its BusGroup.
+     */
+    String name();
+
+    /**
+     * Adds a listener to this IntQueryBus with the default priority of {@link Priority#NORMAL}.
+     * @param listener The listener to add, which returns its answer to the query
+     * @return A reference that can be used to remove this listener later with {@link #removeListener(EventListener)}
+     */
+    EventListener addListener(ToIntFunction<Q> listener);
+
+    /**
+     * Adds a listener to this IntQueryBus with the given priority.
+     * @param priority The priority of this listener. Higher numbers are called first.
+     * @param listener The listener to add, which returns its answer to the query
+     * @return A reference that can be used to remove this listener later with {@link #removeListener(EventListener)}
+     * @throws IllegalArgumentException if the priority is {@link Priority#MONITOR}, as monitors cannot answer queries
+     */
+    EventListener addListener(byte priority, ToIntFunction<Q> listener);
+
+    /**
+     * Re-adds a listener to this IntQueryBus that was previously removed with {@link #removeListener(EventListener)}.
+     * @param listener The exact same reference returned by an {@code addListener} method
+     * @return The same reference that was passed in
+     */
+    EventListener addListener(EventListener listener);
+
+    /**
+     * Removes a listener from this IntQueryBus that was previously added with one of the {@code addListener} methods.
+     * @param listener The exact same reference returned by an {@code addListener} method
+     */
+    void removeListener(EventListener listener);
+
+    /**
+     * Asks every listener in priority order and combines their answers, starting from the identity.
+     * @param query The query to pass to listeners
+     * @param identity The value to start from, which is returned as-is if there are no listeners
+     * @param combiner Combines the result so far with the next answer
+     * @return The combined answers
+     */
+    int reduce(Q query, int identity, IntBinaryOperator combiner);
+
+    /**
+     * @param query The query to pass to listeners
+     * @return The sum of all answers, or {@code 0} if there are no listeners
+     */
+    int sum(Q query);
+
+    /**
+     * @param query The query to pass to listeners
+     * @param identity The lower bound of the result, which is returned as-is if there are no listeners
+     * @return The largest of the identity and all answers
+     */
+    int max(Q query, int identity);
+
+    /**
+     * @param query The query to pass to listeners
+     * @param identity The upper bound of the result, which is returned as-is if there are no listeners
+     * @return The smallest of the identity and all answers
+     */
+    int min(Q query, int identity);
+
+    /**
+     * @return {@code true} if there are any listeners registered to this IntQueryBus.
+     */
+    boolean hasListeners();
+
+    /**
+     * Creates a new IntQueryBus with the given name on the default {@link BusGroup}.
+     * <p>
+     *     <b>Important:</b> The returned IntQueryBus MUST be stored in a {@code static final} field - failing to do so
+     *     will severely hurt performance
+     * </p>
+     * @apiNote There can only be one IntQueryBus instance per name per BusGroup.
+     */
+    static <Q> IntQueryBus<Q> create(String name) {
+        return create(BusGroup.DEFAULT, name);
+    }
+
+    /**
+     * Creates a new IntQueryBus with the given name on the given {@link BusGroup}.
+     * <p>
+     *     <b>Important:</b> The returned IntQueryBus MUST be stored in a {@code static final} field - failing to do so
+     *     will severely hurt performance
+     * </p>
+     * @apiNote There can only be one IntQueryBus instance per name per BusGroup.
+     */
+    static <Q> IntQueryBus<Q> create(BusGroup busGroup, String name) {
+        return ((BusGroupImpl) busGroup).getOrCreatePrimitiveEventBus(IntQueryBusImpl.class, name);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.api.listener.SubscribeEvent;
+import net.minecraftforge.eventbus.internal.AbstractEventBusImpl;
+import net.minecraftforge.eventbus.internal.BusGroupImpl;
+import net.minecraftforge.eventbus.internal.ListenerProfilerImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures how long each listener on an {@link EventBus} takes, to find out which listener is responsible when posting
+ * an event is slow.
+ * <p>While profiling, the bus's invoker is rebuilt with a timing wrapper around each listener, which records into a
+ * lock-free histogram per listener. Closing the profiler restores the normal invoker, so a bus that isn't being
+ * profiled pays nothing for this feature.</p>
+ *
+ * <h2>Example</h2>
+ * {@snippet :
+ * try (var profiler = ListenerProfiler.enable(BusGroup.DEFAULT)) {
+ *     runSlowTick();
+ *     profiler.snapshot().forEach(System.out::println);
+ * }
+ *}
+ *
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ * @implNote Timing a listener costs two calls to {@link System#nanoTime()} and a few atomic increments per call, and
+ *           the wrappers prevent some of the invoker's usual optimisations, so the numbers are best compared relative
+ *           to each other. Durations are recorded to within 12.5% of their true value.
+ */
+public sealed interface ListenerProfiler extends AutoCloseable permits ListenerProfilerImpl {
+    /**
+     * Starts profiling the listeners on the given EventBus.
+     *
+     * @throws IllegalStateException if the bus is already being profiled
+     */
+    static ListenerProfiler enable(EventBus<?> eventBus) {
+        return new ListenerProfilerImpl(List.of((AbstractEventBusImpl<?, ?>) eventBus));
+    }
+
+    /**
+     * Starts profiling the listeners on every EventBus in the given BusGroup. Buses created afterwards aren't profiled.
+     *
+     * @throws IllegalStateException if any of the buses are already being profiled
+     */
+    static ListenerProfiler enable(BusGroup busGroup) {
+        var eventBuses = new ArrayList<AbstractEventBusImpl<?, ?>>();
+        for (var eventBus : ((BusGroupImpl) busGroup).eventBuses().values()) {
+            eventBuses.add((AbstractEventBusImpl<?, ?>) eventBus);
+        }
+        return new ListenerProfilerImpl(eventBuses);
+    }
+
+    /**
+     * The timings of every listener that has been called since profiling started or was last {@linkplain #reset()
+     * reset}, slowest in total first.
+     */
+    List<ListenerStats> snapshot();
+
+    /**
+     * Clears the timings recorded so far.
+     */
+    void reset();
+
+    /**
+     * Stops profiling and restores the normal invokers. The timings can still be read afterwards.
+     */
+    @Override
+    void close();
+
+    /**
+     * The timings of a single listener.
+     *
+     * @param eventType The type of event the listener was added for
+     * @param declaringClass The class that declares the listener. For listeners added directly as lambdas or method
+     *                       references, this is the class the lambda was written in.
+     * @param methodName The name of the {@link SubscribeEvent} method, or {@code "lambda"} for listeners added directly
+     * @param priority The listener's {@link Priority}
+     * @param calls The number of times the listener was called
+     * @param totalNanos The total time spent in the listener
+     * @param p50Nanos The median time per call
+     * @param p99Nanos The 99th percentile time per call
+     * @param maxNanos The longest single call
+     */
+    record ListenerStats(
+            Class<?> eventType,
+            String declaringClass,
+            String methodName,
+            byte priority,
+            long calls,
+            long totalNanos,
+            long p50Nanos,
+            long p99Nanos,
+            long maxNanos
+    ) {}
+}
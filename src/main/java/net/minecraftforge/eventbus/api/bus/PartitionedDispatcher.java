@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.internal.Event;
+import net.minecraftforge.eventbus.internal.PartitionedDispatcherImpl;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Posts events to an {@link EventBus} asynchronously across a fixed number of lanes.
+ * <p>Each event is assigned to a lane by hashing the key returned by the key extractor. All events that share the same
+ * key are posted in the order they were {@linkplain #dispatch(Event) dispatched}, while events in different lanes may be
+ * posted in parallel on the given {@link Executor}.</p>
+ *
+ * <h2>Example</h2>
+ * {@snippet :
+ * // Events for the same player are handled in order, different players are handled in parallel
+ * var dispatcher = PartitionedDispatcher.create(PlayerMoveEvent.BUS, 8, PlayerMoveEvent::player, executor);
+ * dispatcher.dispatch(new PlayerMoveEvent(player, x, y, z));
+ *}
+ *
+ * <p>Exceptions thrown by listeners are passed to the {@linkplain Thread.UncaughtExceptionHandler uncaught exception
+ * handler} of the thread running the lane, after which the lane continues with the next event.</p>
+ *
+ * @param <T> The type of event this dispatcher handles
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ */
+public sealed interface PartitionedDispatcher<T extends Event> extends AutoCloseable permits PartitionedDispatcherImpl {
+    /**
+     * Creates a new PartitionedDispatcher for the given EventBus.
+     *
+     * @param eventBus The EventBus to post events to
+     * @param lanes The number of lanes to partition events across. Events in the same lane are never posted in parallel.
+     * @param keyExtractor A function returning the key to partition by, such as the entity the event is about. The
+     *                     key's {@link Object#hashCode()} decides the lane.
+     * @param executor The executor that runs the lanes, such as a {@link java.util.concurrent.ForkJoinPool}
+     * @return A new PartitionedDispatcher
+     * @throws IllegalArgumentException if the number of lanes is less than 1
+     * @throws IllegalStateException if the EventBus belongs to a {@linkplain BusGroup.Option#THREAD_CONFINED
+     *                               thread-confined} BusGroup, as lanes post on the executor's threads
+     */
+    @SuppressWarnings("ClassEscapesDefinedScope") // E can be a subtype of Event which is publicly accessible
+    static <E extends Event> PartitionedDispatcher<E> create(EventBus<E> eventBus, int lanes,
+                                                             Function<? super E, ?> keyExtractor, Executor executor) {
+        if (lanes < 1)
+            throw new IllegalArgumentException("The number of lanes must be at least 1, got " + lanes);
+
+        return new PartitionedDispatcherImpl<>(eventBus, lanes, keyExtractor, executor);
+    }
+
+    /**
+     * Queues the given event to be posted on the lane assigned to its key.
+     *
+     * @param event The instance of this event to post to listeners
+     * @throws IllegalStateException if this dispatcher has been {@linkplain #close() closed}
+     * @throws java.util.concurrent.RejectedExecutionException if the executor rejected running the lane, in which case
+     *                                                         the event is not posted
+     */
+    void dispatch(T event);
+
+    /**
+     * The number of lanes events are partitioned across.
+     */
+    int lanes();
+
+    /**
+     * Stops accepting new events. Events that have already been dispatched will still be posted.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.api.event.MutableEvent;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.internal.BusGroupImpl;
+import net.minecraftforge.eventbus.internal.QueryBusImpl;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * A bus for asking listeners for values, such as additional drops for a block, where each listener returns its answer
+ * rather than adding it to a {@link java.util.List} on a {@link MutableEvent}.
+ * <p>The answers are either {@linkplain #reduce(Object, Object, BinaryOperator) reduced} into a single value in
+ * priority order, or the {@linkplain #firstNonNull(Object) first non-null answer} is taken and the remaining listeners
+ * are skipped. Listeners return {@code null} to abstain from answering a query.</p>
+ * <p>Query buses are identified by a name that is unique within their {@link BusGroup}, which they share with the
+ * primitive buses such as {@link IntEventBus}. They are started up, shut down and disposed of along with the rest of
+ * their BusGroup - a shut down query bus answers every query with the identity, or {@code null}.</p>
+ *
+ * <h2>Example</h2>
+ * {@snippet :
+ * static final QueryBus<BlockState, List<ItemStack>> EXTRA_DROPS = QueryBus.create("extraDrops");
+ *
+ * // Listeners
+ * EXTRA_DROPS.addListener(state -> state.is(Blocks.GRASS) ? List.of(new ItemStack(Items.WHEAT_SEEDS)) : null);
+ *
+ * // Querying
+ * var drops = EXTRA_DROPS.reduce(state, List.of(), (a, b) -> Stream.concat(a.stream(), b.stream()).toList());
+ *}
+ *
+ * @param <Q> The type of the query passed to listeners
+ * @param <R> The type of the answers returned by listeners
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ * @see IntQueryBus
+ * @see DoubleQueryBus
+ */
+public sealed interface QueryBus<Q, R> permits QueryBusImpl {
+    /**
+     * The name of this bus, which is unique to its BusGroup.
+     */
+    String name();
+
+    /**
+     * Adds a listener to this QueryBus with the default priority of {@link Priority#NORMAL}.
+     * @param listener The listener to add, which returns its answer to the query or {@code null} to abstain
+     * @return A reference that can be used to remove this listener later with {@link #removeListener(EventListener)}
+     */
+    EventListener addListener(Function<Q, @Nullable R> listener);
+
+    /**
+     * Adds a listener to this QueryBus with the given priority.
+     * @param priority The priority of this listener. Higher numbers are called first.
+     * @param listener The listener to add, which returns its answer to the query or {@code null} to abstain
+     * @return A reference that can be used to remove this listener later with {@link #removeListener(EventListener)}
+     * @throws IllegalArgumentException if the priority is {@link Priority#MONITOR}, as monitors cannot answer queries
+     */
+    EventListener addListener(byte priority, Function<Q, @Nullable R> listener);
+
+    /**
+     * Re-adds a listener to this QueryBus that was previously removed with {@link #removeListener(EventListener)}.
+     * @param listener The exact same reference returned by an {@code addListener} method
+     * @return The same reference that was passed in
+     */
+    EventListener addListener(EventListener listener);
+
+    /**
+     * Removes a listener from this QueryBus that was previously added with one of the {@code addListener} methods.
+     * @param listener The exact same reference returned by an {@code addListener} method
+     */
+    void removeListener(EventListener listener);
+
+    /**
+     * Asks every listener in priority order and combines their non-null answers, starting from the identity.
+     * @param query The query to pass to listeners
+     * @param identity The value to start from, which is returned as-is if no listener answers
+     * @param combiner Combines the result so far with the next answer
+     * @return The combined answers
+     */
+    R reduce(Q query, R identity, BinaryOperator<R> combiner);
+
+    /**
+     * Asks listeners in priority order until one of them answers, skipping the rest.
+     * @param query The query to pass to listeners
+     * @return The first non-null answer, or {@code null} if no listener answered
+     */
+    @Nullable R firstNonNull(Q query);
+
+    /**
+     * @return {@code true} if there are any listeners registered to this QueryBus.
+     */
+    boolean hasListeners();
+
+    /**
+     * Creates a new QueryBus with the given name on the default {@link BusGroup}.
+     * <p>
+     *     <b>Important:</b> The returned QueryBus MUST be stored in a {@code static final} field - failing to do so
+     *     will severely hurt performance
+     * </p>
+     * @apiNote There can only be one QueryBus instance per name per BusGroup.
+     */
+    static <Q, R> QueryBus<Q, R> create(String name) {
+        return create(BusGroup.DEFAULT, name);
+    }
+
+    /**
+     * Creates a new QueryBus with the given name on the given {@link BusGroup}.
+     * <p>
+     *     <b>Important:</b> The returned QueryBus MUST be stored in a {@code static final} field - failing to do so
+     *     will severely hurt performance
+     * </p>
+     * @apiNote There can only be one QueryBus instance per name per BusGroup.
+     */
+    static <Q, R> QueryBus<Q, R> create(BusGroup busGroup, String name) {
+        return ((BusGroupImpl) busGroup).getOrCreatePrimitiveEventBus(QueryBusImpl.class, name);
+    }
+}
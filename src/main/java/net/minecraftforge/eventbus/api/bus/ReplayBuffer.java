@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.internal.ReplayBufferImpl;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Records the last {@linkplain #capacity() N} events posted to an {@link EventBus} into a fixed-size ring outside the
+ * Java heap, so that they can be inspected or replayed when debugging an incident.
+ * <p>The buffer is attached to the bus as a {@link Priority#MONITOR} listener, which encodes each event's record
+ * components into its slot in the ring with a {@link Codec}. Recording doesn't allocate, so the buffer can be left
+ * attached in production without adding GC pressure. Events are only decoded back into instances when they are
+ * {@linkplain #dump() dumped} or {@linkplain #replay(EventBus) replayed}.</p>
+ *
+ * <h2>Example</h2>
+ * {@snippet :
+ * record BlockBrokenEvent(int x, int y, int z) implements RecordEvent { ... }
+ *
+ * static final ReplayBuffer<BlockBrokenEvent> REPLAY = ReplayBuffer.attach(BlockBrokenEvent.BUS, 1024, new Codec<>() {
+ *     public int maxEncodedSize() { return 3 * Integer.BYTES; }
+ *
+ *     public void encode(BlockBrokenEvent event, ByteBuffer buffer) {
+ *         buffer.putInt(event.x()).putInt(event.y()).putInt(event.z());
+ *     }
+ *
+ *     public BlockBrokenEvent decode(ByteBuffer buffer) {
+ *         return new BlockBrokenEvent(buffer.getInt(), buffer.getInt(), buffer.getInt());
+ *     }
+ * });
+ *
+ * // Later, when investigating
+ * REPLAY.dump().forEach(System.out::println);
+ *}
+ *
+ * @param <T> The type of event being recorded
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ * @implNote The ring is a direct {@link ByteBuffer} split into one slot of {@link Codec#maxEncodedSize()} bytes per
+ *           event. Events posted concurrently are recorded in the order their slots were claimed, and a slot that is
+ *           being overwritten while dumping is skipped rather than decoded half-written. If more posts than the
+ *           capacity are in flight at once, an event whose slot is still being written by an earlier post is skipped.
+ *           As with other monitoring listeners, events are only recorded while the bus has at least one
+ *           non-monitoring listener.
+ */
+public sealed interface ReplayBuffer<T extends RecordEvent> permits ReplayBufferImpl {
+    /**
+     * Converts events to and from the bytes stored in a {@link ReplayBuffer}.
+     *
+     * @param <T> The type of event
+     */
+    interface Codec<T extends RecordEvent> {
+        /**
+         * The maximum number of bytes {@link #encode(RecordEvent, ByteBuffer)} writes for any event, which is the size
+         * of each slot in the ring.
+         */
+        int maxEncodedSize();
+
+        /**
+         * Writes the event's components to the buffer using its relative {@code put} methods, starting at its current
+         * position. Must not allocate if recording is to stay allocation-free.
+         * <p>Events that don't fit in {@link #maxEncodedSize()} bytes, so that a {@code put} throws a
+         * {@link java.nio.BufferOverflowException}, are skipped rather than recorded. Any other exception is thrown
+         * to the poster, as with any other listener, and the event isn't recorded either. {@link EventJournal}
+         * handles codec failures the same way.</p>
+         */
+        void encode(T event, ByteBuffer buffer);
+
+        /**
+         * Reads an event written by {@link #encode(RecordEvent, ByteBuffer)} using the buffer's relative {@code get}
+         * methods, starting at its current position.
+         */
+        T decode(ByteBuffer buffer);
+    }
+
+    /**
+     * Creates a new ReplayBuffer and attaches it to the given EventBus.
+     *
+     * @param eventBus The EventBus to record events from
+     * @param capacity The number of most recent events to keep
+     * @param codec Converts events to and from bytes
+     * @return A new ReplayBuffer, which is already recording
+     * @throws IllegalArgumentException if the capacity or the codec's maximum encoded size is less than 1, or the ring
+     *                                  would be larger than 2 GiB
+     */
+    static <T extends RecordEvent> ReplayBuffer<T> attach(EventBus<T> eventBus, int capacity, Codec<T> codec) {
+        int slotSize = codec.maxEncodedSize();
+        if (capacity < 1 || slotSize < 1)
+            throw new IllegalArgumentException("Capacity and maxEncodedSize must be at least 1, got " + capacity + " and " + slotSize);
+
+        if ((long) capacity * slotSize > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("A ReplayBuffer of " + capacity + " slots of " + slotSize + " bytes is too large");
+
+        return new ReplayBufferImpl<>(eventBus, capacity, codec);
+    }
+
+    /**
+     * The maximum number of events this buffer keeps.
+     */
+    int capacity();
+
+    /**
+     * The total number of events recorded since this buffer was attached, including ones that have since been
+     * overwritten.
+     */
+    long recorded();
+
+    /**
+     * Decodes the events currently in the buffer.
+     *
+     * @return The recorded events, oldest first
+     */
+    List<T> dump();
+
+    /**
+     * Decodes the events currently in the buffer and posts them to the given EventBus, oldest first.
+     * <p>If the EventBus is the one this buffer is attached to, the replayed events are recorded again.</p>
+     *
+     * @param eventBus The EventBus to post the events to, such as a bus in a separate {@link BusGroup} for testing
+     * @return The number of events that were posted
+     */
+    int replay(EventBus<T> eventBus);
+
+    /**
+     * Stops recording by removing this buffer's listener from the EventBus. The recorded events can still be dumped
+     * and replayed afterwards.
+     */
+    void detach();
+}
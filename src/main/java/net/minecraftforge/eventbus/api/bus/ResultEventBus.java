@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.api.listener.ToResultFunction;
+import net.minecraftforge.eventbus.internal.BusGroupImpl;
+import net.minecraftforge.eventbus.internal.Event;
+import net.minecraftforge.eventbus.internal.ResultEventBusImpl;
+
+import java.util.function.Consumer;
+
+/**
+ * @see HasResult
+ * @param <T> The type of event this EventBus handles
+ */
+public sealed interface ResultEventBus<T extends Event & HasResult>
+        extends EventBus<T> permits ResultEventBusImpl {
+    /**
+     * Adds a listener that may decide the result of the event to this EventBus with the default priority of
+     * {@link Priority#NORMAL}.
+     * @param listener The listener to add, which returns {@link HasResult.Result#DEFAULT} to let later listeners decide
+     * @return A reference that can be used to remove this listener later with {@link #removeListener(EventListener)}
+     * @see #addListener(Consumer) For adding a listener that never decides the result
+     */
+    EventListener addListener(ToResultFunction<T> listener);
+
+    /**
+     * Adds a listener that may decide the result of the event to this EventBus with the given priority.
+     * @param priority The priority of this listener. Higher numbers are called first.
+     * @param listener The listener to add, which returns {@link HasResult.Result#DEFAULT} to let later listeners decide
+     * @return A reference that can be used to remove this listener later with {@link #removeListener(EventListener)}
+     * @throws IllegalArgumentException if the priority is {@link Priority#MONITOR}, as monitors cannot change the result
+     * @see Priority For common priority values
+     */
+    EventListener addListener(byte priority, ToResultFunction<T> listener);
+
+    /**
+     * @param event The instance of this event to post to listeners
+     * @return The result returned by the first listener to return a result other than {@link HasResult.Result#DEFAULT},
+     *         or {@code DEFAULT} if no listener did
+     */
+    HasResult.Result postForResult(T event);
+
+    /**
+     * Creates a new ResultEventBus for the given event type on the default {@link BusGroup}.
+     * <p>
+     *     <b>Important:</b> The returned EventBus MUST be stored in a {@code static final} field - failing to do so
+     *     will severely hurt performance
+     * </p>
+     * @apiNote There can only be one EventBus instance per event type per BusGroup.
+     */
+    @SuppressWarnings("ClassEscapesDefinedScope") // E can be a subtype of Event which is publicly accessible
+    static <T extends Event & HasResult> ResultEventBus<T> create(Class<T> eventType) {
+        return create(BusGroup.DEFAULT, eventType);
+    }
+
+    /**
+     * Creates a new ResultEventBus for the given event type on the given {@link BusGroup}.
+     * <p>
+     *     <b>Important:</b> The returned EventBus MUST be stored in a {@code static final} field - failing to do so
+     *     will severely hurt performance
+     * </p>
+     * @apiNote There can only be one EventBus instance per event type per BusGroup.
+     * @throws IllegalArgumentException if the event type is also {@link Cancellable}, as its bus would be a
+     *                                  {@link CancellableEventBus} instead
+     */
+    @SuppressWarnings("ClassEscapesDefinedScope") // E can be a subtype of Event which is publicly accessible
+    static <T extends Event & HasResult> ResultEventBus<T> create(BusGroup busGroup, Class<T> eventType) {
+        if (Cancellable.class.isAssignableFrom(eventType))
+            throw new IllegalArgumentException("Event type " + eventType + " implements both HasResult and Cancellable");
+
+        return (ResultEventBus<T>) ((BusGroupImpl) busGroup).getOrCreateEventBus(eventType);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.SubscribeEvent;
+import net.minecraftforge.eventbus.internal.BusGroupImpl;
+import net.minecraftforge.eventbus.internal.SlowListenerWatchdogImpl;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Watches the listeners of a {@link BusGroup} for slow calls, such as a listener doing blocking I/O on a tick thread,
+ * and reports them to a callback.
+ * <p>While watching, the invokers of the group's buses are rebuilt with a wrapper around each listener that times a
+ * sample of its calls. Closing the watchdog restores the normal invokers, so groups that aren't watched pay nothing for
+ * this feature.</p>
+ *
+ * <h2>Example</h2>
+ * {@snippet :
+ * var watchdog = SlowListenerWatchdog.enable(BusGroup.DEFAULT, new SlowListenerWatchdog.Settings(Duration.ofMillis(5)),
+ *         report -> {
+ *             LOGGER.warn("Removing slow listener {}", report);
+ *             BusGroup.DEFAULT.unregister(List.of(report.listener()));
+ *         });
+ *}
+ *
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ */
+public sealed interface SlowListenerWatchdog extends AutoCloseable permits SlowListenerWatchdogImpl {
+    /**
+     * Starts watching the listeners on every EventBus in the given BusGroup. Buses created afterwards aren't watched.
+     * <p>Reports are made synchronously on the thread that posted the event, right after the slow call returns. The
+     * reporter may remove the offending listener, which takes effect from the next post.</p>
+     *
+     * @throws IllegalStateException if any of the buses are already being watched
+     */
+    static SlowListenerWatchdog enable(BusGroup busGroup, Settings settings, Consumer<Report> reporter) {
+        return new SlowListenerWatchdogImpl((BusGroupImpl) busGroup, settings, Objects.requireNonNull(reporter));
+    }
+
+    /**
+     * Stops watching and restores the normal invokers.
+     */
+    @Override
+    void close();
+
+    /**
+     * @param threshold Sampled calls that take longer than this are reported as {@link Report.Kind#THRESHOLD_EXCEEDED}
+     * @param sampleInterval Times one in every this many calls of each listener, where 1 times every call. Higher
+     *                       values lower the overhead at the cost of possibly missing occasional slow calls.
+     * @param degradationFactor How many times slower than its usual average a listener's moving average needs to get
+     *                          to be reported as {@link Report.Kind#AVERAGE_DEGRADED}
+     */
+    record Settings(Duration threshold, int sampleInterval, double degradationFactor) {
+        public Settings {
+            if (threshold.isNegative() || threshold.isZero())
+                throw new IllegalArgumentException("Threshold must be positive");
+
+            if (sampleInterval < 1)
+                throw new IllegalArgumentException("Sample interval must be at least 1");
+
+            if (!(degradationFactor > 1))
+                throw new IllegalArgumentException("Degradation factor must be greater than 1");
+        }
+
+        /**
+         * Samples one in every 16 calls and reports listeners whose average becomes twice as slow.
+         */
+        public Settings(Duration threshold) {
+            this(threshold, 16, 2);
+        }
+    }
+
+    /**
+     * A report of a slow listener.
+     *
+     * @param kind Why the listener was reported
+     * @param listener The listener, which can be passed to {@link BusGroup#unregister(java.util.Collection)} to remove
+     *                 it
+     * @param eventType The type of event the listener was called for, which may be a subtype of the listener's own
+     *                  event type for inheritable events
+     * @param declaringClass The class that declares the listener. For listeners added directly as lambdas or method
+     *                       references, this is the class the lambda was written in.
+     * @param methodName The name of the {@link SubscribeEvent} method, or {@code "lambda"} for listeners added directly
+     * @param nanos How long the sampled call took
+     * @param averageNanos The listener's moving average over its sampled calls, including this one
+     */
+    record Report(
+            Kind kind,
+            EventListener listener,
+            Class<?> eventType,
+            String declaringClass,
+            String methodName,
+            long nanos,
+            long averageNanos
+    ) {
+        public enum Kind {
+            /** A single call took longer than the {@linkplain Settings#threshold() threshold}. */
+            THRESHOLD_EXCEEDED,
+
+            /**
+             * The moving average stayed more than {@linkplain Settings#degradationFactor() degradationFactor} times
+             * its usual average for 16 sampled calls in a row. Reported once until the average recovers.
+             */
+            AVERAGE_DEGRADED
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.bus;
+
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.internal.TrafficRecorderImpl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Records the shape of the traffic on a live {@link BusGroup} to a compact trace file, so that it can be replayed
+ * offline against freshly created buses when benchmarking changes to EventBus itself.
+ * <p>A trace doesn't contain the events themselves, only which event type was posted, how long after the previous post
+ * it was, and how many listeners its bus had at the time. See {@code BenchmarkTraceReplay} in the JMH benchmarks for a
+ * harness that replays a trace.</p>
+ *
+ * <h2>Example</h2>
+ * {@snippet :
+ * try (var recorder = TrafficRecorder.start(BusGroup.DEFAULT, Path.of("traffic.ebtrace"))) {
+ *     runServerFor(Duration.ofMinutes(5));
+ * }
+ *}
+ *
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ * @implNote The recorder is attached to each EventBus in the group as a {@link Priority#MONITOR} listener, which
+ *           writes a few bytes to a buffered stream under a lock. Only buses that already exist when recording starts
+ *           are recorded, and as with other monitoring listeners, posts to buses without any non-monitoring listeners
+ *           aren't seen. Primitive and query buses aren't recorded. Each post is recorded against the bus of the
+ *           closest event type that the posted instance is or extends, so that it isn't also recorded by the parent
+ *           buses whose listeners it reaches.
+ */
+public sealed interface TrafficRecorder extends AutoCloseable permits TrafficRecorderImpl {
+    /**
+     * Starts recording the traffic on every EventBus in the given BusGroup.
+     *
+     * @param busGroup The BusGroup to record
+     * @param file The trace file to write, which is replaced if it already exists
+     * @return A new TrafficRecorder, which is already recording
+     * @throws UncheckedIOException if the trace file could not be created
+     */
+    static TrafficRecorder start(BusGroup busGroup, Path file) {
+        return new TrafficRecorderImpl(busGroup, file);
+    }
+
+    /**
+     * Reads a trace file written by a TrafficRecorder.
+     *
+     * @param file The trace file
+     * @return The recorded trace
+     * @throws IOException if the file could not be read, or isn't a trace file
+     */
+    static Trace read(Path file) throws IOException {
+        return TrafficRecorderImpl.read(file);
+    }
+
+    /**
+     * The number of posts recorded so far.
+     */
+    long recorded();
+
+    /**
+     * Stops recording and flushes the trace file.
+     *
+     * @throws UncheckedIOException if writing to the trace file failed at any point while recording
+     */
+    @Override
+    void close();
+
+    /**
+     * A recorded trace.
+     *
+     * @param eventTypes The event types that were being recorded, indexed by {@link Post#eventType()}
+     * @param posts The recorded posts, in the order they happened
+     */
+    record Trace(List<EventType> eventTypes, List<Post> posts) {
+        public Trace {
+            eventTypes = List.copyOf(eventTypes);
+            posts = List.copyOf(posts);
+        }
+    }
+
+    /**
+     * An event type in a {@link Trace}.
+     *
+     * @param name The fully qualified name of the event class
+     * @param cancellable Whether the event is {@link Cancellable}
+     * @param hasResult Whether the event {@link HasResult}
+     */
+    record EventType(String name, boolean cancellable, boolean hasResult) {}
+
+    /**
+     * A single post in a {@link Trace}.
+     *
+     * @param eventType The index of the posted event's type in {@link Trace#eventTypes()}
+     * @param interArrivalNanos The time since the previous post in the trace, or zero for the first post
+     * @param listenerCount The number of listeners on the bus when the event was posted, excluding the recorder
+     */
+    record Post(int eventType, long interArrivalNanos, int listenerCount) {}
+}
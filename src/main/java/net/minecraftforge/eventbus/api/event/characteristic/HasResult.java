@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.event.characteristic;
+
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.ResultEventBus;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.internal.EventCharacteristic;
+
+/**
+ * Events with a result let listeners decide the outcome of the event by returning a {@link Result}, rather than by
+ * setting a mutable field on the event.
+ * <p>The first listener to return a result other than {@link Result#DEFAULT} wins, and the remaining listeners are
+ * skipped in the same way as when a {@link Cancellable} event is cancelled. {@linkplain Priority#MONITOR Monitoring}
+ * listeners are still called, but cannot change the result.</p>
+ * <p>As the result is passed between listeners by the invoker rather than stored on the event, this characteristic
+ * works on immutable {@link RecordEvent}s too.</p>
+ *
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ * @implNote This characteristic cannot be combined with {@link Cancellable}. If it is, an exception will be thrown
+ *           when attempting to create an associated {@link EventBus}.
+ * @see ResultEventBus
+ */
+public non-sealed interface HasResult extends EventCharacteristic {
+    enum Result {
+        /**
+         * The listener has no opinion on the outcome of the event, so the next listener decides.
+         */
+        DEFAULT,
+        ALLOW,
+        DENY
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.event.characteristic;
+
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.EventPool;
+import net.minecraftforge.eventbus.api.event.MutableEvent;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.internal.EventCharacteristic;
+import net.minecraftforge.eventbus.internal.MutableEventInternals;
+
+/**
+ * Poolable events can be borrowed from and released back to an {@link EventPool} to reuse instances across posts,
+ * rather than allocating a new instance each time the event is posted.
+ * <p>Listeners must not retain references to pooled events after they return, as the instance will be
+ * {@linkplain #reset() reset} and handed out again for a later post.</p>
+ * <p>Strict runtime checks only add use-after-release detection: released instances are never handed out again, so
+ * {@link #isReleased()} stays {@code true} for them, and posting one throws an exception. Other reads of a released
+ * instance aren't intercepted and simply see its reset state.</p>
+ *
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ * @implNote This characteristic is only supported for the {@link MutableEvent} base type at this time.
+ *           If combined with a different base type (such as {@link RecordEvent}), an exception will be thrown when
+ *           attempting to create an associated {@link EventBus}.
+ */
+public non-sealed interface Poolable extends EventCharacteristic {
+    /**
+     * Called when this instance is released back to its pool. Implementations should restore all fields to their
+     * initial state, including any cancellation or result state, and drop references to other objects so they can be
+     * garbage collected.
+     */
+    void reset();
+
+    /**
+     * @return {@code true} if this instance has been released back to its pool and should no longer be used
+     */
+    default boolean isReleased() {
+        assert this instanceof MutableEvent; // note: MutableEvent extends MutableEventInternals
+        return ((MutableEventInternals) this).isPoolReleased;
+    }
+}
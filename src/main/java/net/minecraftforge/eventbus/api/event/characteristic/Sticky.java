@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.event.characteristic;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.internal.EventCharacteristic;
+
+/**
+ * A sticky event's {@link EventBus} retains the most recently posted instance and delivers it to each listener as soon
+ * as it is added, so that listeners registered late still see the current state.
+ * <p>This is useful for lifecycle and configuration events that are posted once per stage, where listeners may be
+ * registered after the stage has already begun. Only the newly added listener is called - listeners that had already
+ * received the event are not called again.</p>
+ * <p>The retained instance is released when the EventBus is {@linkplain BusGroup#dispose() disposed}.</p>
+ *
+ * @apiNote This is an experimental feature that may be removed, renamed or otherwise changed without notice.
+ * @implNote Listeners receive the same instance that was posted, including any changes made to it by other listeners.
+ *           A listener that is added while the event is being posted may receive it twice: once from the post and
+ *           once when it is added. Poolable events cannot be sticky, as their instances are reused.
+ */
+public non-sealed interface Sticky extends EventCharacteristic {}
@@ -21,6 +21,10 @@ import java.util.function.Consumer;
  * various conversion operations to different lambda types.
  */
 public sealed interface EventListener permits EventListenerImpl {
+    /**
+     * The type of event this listener was added for, or the {@code Event} base type for listeners on primitive buses
+     * such as {@link net.minecraftforge.eventbus.api.bus.IntEventBus}.
+     */
     @SuppressWarnings("ClassEscapesDefinedScope") // ? can be a subtype of Event which is publicly accessible
     Class<? extends Event> eventType();
 
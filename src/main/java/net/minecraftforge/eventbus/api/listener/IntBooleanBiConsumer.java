@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.listener;
+
+import java.util.function.IntConsumer;
+
+/**
+ * An {@link IntConsumer} that also takes a primitive boolean, to avoid boxing.
+ */
+@FunctionalInterface
+public interface IntBooleanBiConsumer {
+    void accept(int value, boolean bool);
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.listener;
+
+import java.util.function.BiPredicate;
+
+/**
+ * A {@link BiPredicate} that takes an object and a primitive int, to avoid boxing.
+ */
+@FunctionalInterface
+public interface ObjIntPredicate<T> {
+    boolean test(T obj, int value);
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.api.listener;
+
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
+
+import java.util.function.Function;
+
+/**
+ * A {@link Function} that returns the {@link HasResult.Result} of an event.
+ */
+@FunctionalInterface
+public interface ToResultFunction<T> {
+    HasResult.Result apply(T event);
+}
@@ -4,28 +4,60 @@
  */
 package net.minecraftforge.eventbus.internal;
 
+import net.minecraftforge.eventbus.api.bus.BusGroup;
 import net.minecraftforge.eventbus.api.bus.EventBus;
 import net.minecraftforge.eventbus.api.event.InheritableEvent;
 import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
 import net.minecraftforge.eventbus.api.event.characteristic.MonitorAware;
+import net.minecraftforge.eventbus.api.event.characteristic.Poolable;
 import net.minecraftforge.eventbus.api.event.characteristic.SelfDestructing;
+import net.minecraftforge.eventbus.api.event.characteristic.Sticky;
 import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.ObjBooleanBiConsumer;
 import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.api.listener.ToResultFunction;
 import org.jspecify.annotations.Nullable;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MutableCallSite;
+import java.lang.invoke.VolatileCallSite;
 import java.lang.reflect.Modifier;
+import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public sealed interface AbstractEventBusImpl<T extends Event, I> extends EventBus<T>
-        permits CancellableEventBusImpl, EventBusImpl {
+        permits CancellableEventBusImpl, EventBusImpl, ResultEventBusImpl {
     //region Record component accessors
+    String busGroupName();
+    Class<T> eventType();
     ArrayList<EventListener> backingList();
     ArrayList<EventListener> monitorBackingList();
     List<AbstractEventBusImpl<?, ?>> children();
     AtomicBoolean shutdownFlag();
     AtomicBoolean alreadyInvalidated();
+    /** The wall-clock time in milliseconds that the current invoker was built at, or zero if it hasn't been built. */
+    AtomicLong invokerBuildTime();
+    /**
+     * The {@linkplain JfrEvents#recordingEpoch() recording epoch} that the current invoker was built in. Only used by
+     * thread-confined buses, as they're left out of {@link BusGroupImpl#invalidateAllInvokers()}.
+     */
+    AtomicInteger recordingEpoch();
     int eventCharacteristics();
+    /** Only present for {@link Sticky} events. */
+    @Nullable AtomicReference<@Nullable T> stickyEvent();
+    @Nullable Thread ownerThread();
+    /** Only present for buses in a BusGroup created with {@link BusGroup.Option#METRICS}. */
+    @Nullable BusMetrics metrics();
+    /** Shared by all buses in the same BusGroup. */
+    GlobalListeners globalListeners();
     //endregion
 
     static int computeEventCharacteristics(Class<?> eventType) {
@@ -43,6 +75,15 @@ public sealed interface AbstractEventBusImpl<T extends Event, I> extends EventBu
         if (InheritableEvent.class.isAssignableFrom(eventType))
             characteristics |= Constants.CHARACTERISTIC_INHERITABLE;
 
+        if (Poolable.class.isAssignableFrom(eventType))
+            characteristics |= Constants.CHARACTERISTIC_POOLABLE;
+
+        if (HasResult.class.isAssignableFrom(eventType))
+            characteristics |= Constants.CHARACTERISTIC_HAS_RESULT;
+
+        if (Sticky.class.isAssignableFrom(eventType))
+            characteristics |= Constants.CHARACTERISTIC_STICKY;
+
         return characteristics;
     }
 
@@ -61,43 +102,188 @@ public sealed interface AbstractEventBusImpl<T extends Event, I> extends EventBu
         return new ArrayList<>();
     }
 
+    static <T> @Nullable AtomicReference<@Nullable T> makeStickyEventReference(int eventCharacteristics) {
+        return Constants.isSticky(eventCharacteristics) ? new AtomicReference<>() : null;
+    }
+
+    /**
+     * Thread-confined buses are only ever touched by their owner thread, so the invoker doesn't need volatile
+     * publication and the backing lists don't need locking.
+     */
+    static CallSite makeInvokerCallSite(@Nullable Thread ownerThread, MethodHandle target) {
+        return ownerThread == null ? new VolatileCallSite(target) : new MutableCallSite(target);
+    }
+
+    /**
+     * @return {@code true} if this bus belongs to a {@link BusGroup.Option#THREAD_CONFINED thread-confined} BusGroup.
+     */
+    default boolean isThreadConfined() {
+        return ownerThread() != null;
+    }
+
+    /**
+     * @return Whether this bus needs an invoker even while it has no listeners, to count posts for its
+     *         {@link BusMetrics} or to call the {@linkplain GlobalListeners global listeners} of its BusGroup
+     */
+    default boolean invokesWithoutListeners() {
+        return metrics() != null || !globalListeners().isEmpty();
+    }
+
+    /**
+     * Under {@link Constants#STRICT_RUNTIME_CHECKS}, throws if this bus is thread-confined and is being used from a
+     * thread other than its owner.
+     */
+    default void checkOwnerThread() {
+        if (!Constants.STRICT_RUNTIME_CHECKS)
+            return;
+
+        var ownerThread = ownerThread();
+        if (ownerThread != null && ownerThread != Thread.currentThread())
+            throw new IllegalStateException("Thread-confined EventBus for " + eventType() + " owned by thread \""
+                    + ownerThread.getName() + "\" was used from thread \"" + Thread.currentThread().getName() + '"');
+    }
+
+    /**
+     * Under {@link Constants#STRICT_RUNTIME_CHECKS}, performs the {@link #checkOwnerThread()} check and throws if the
+     * event is a {@link Poolable} instance that has already been released back to its pool.
+     */
+    default void checkPost(T event) {
+        if (!Constants.STRICT_RUNTIME_CHECKS)
+            return;
+
+        checkOwnerThread();
+        if (Constants.isPoolable(eventCharacteristics()) && ((MutableEventInternals) event).isPoolReleased)
+            throw new IllegalStateException("Pooled event " + event + " was posted after being released back to its pool");
+    }
+
+    /**
+     * Retains the event for listeners added later if this is a {@link Sticky} event's bus. Called before the event is
+     * posted, so that a listener added concurrently with the post can't miss it.
+     */
+    default void retainIfSticky(T event) {
+        var stickyEvent = stickyEvent();
+        if (stickyEvent != null)
+            stickyEvent.setRelease(event);
+    }
+
+    /**
+     * Throws if this bus is thread-confined, for operations that inherently use other threads.
+     */
+    default void checkNotThreadConfined() {
+        if (isThreadConfined())
+            throw new IllegalStateException("Cannot post events on other threads to the thread-confined EventBus for " + eventType());
+    }
+
+    /**
+     * Checks that the batch can be posted in parallel, performing the {@link #checkPost(Event)} checks on each event
+     * up-front on the calling thread, as the workers call the invoker directly.
+     * <p>Self-destructing buses are rejected, as every worker would keep calling the invoker it was given while another
+     * disposes of the bus.</p>
+     */
+    default void checkPostAllParallel(List<T> events) {
+        checkNotThreadConfined();
+        if (Constants.isSelfDestructing(eventCharacteristics()))
+            throw new IllegalStateException("Cannot post events in parallel to the self-destructing EventBus for " + eventType());
+
+        if (Constants.STRICT_RUNTIME_CHECKS) {
+            for (var event : events) {
+                checkPost(event);
+            }
+        }
+    }
+
     @Override
     default EventListener addListener(EventListener listener) {
+        // The buses the listener was added to, which are given their sticky events once no lock is held anymore
+        var addedTo = new ArrayList<AbstractEventBusImpl<?, ?>>(1 + children().size());
+        addListener(listener, addedTo);
+        for (var eventBus : addedTo) {
+            var stickyEvent = eventBus.stickyEvent();
+            if (stickyEvent == null)
+                continue;
+
+            var event = stickyEvent.getAcquire();
+            if (event != null && !eventBus.isShutdown())
+                deliverStickyEvent(listener, event);
+        }
+        return listener;
+    }
+
+    private void addListener(EventListener listener, List<AbstractEventBusImpl<?, ?>> addedTo) {
+        if (isThreadConfined()) {
+            checkOwnerThread();
+            addListenerUnsynchronized(listener, addedTo);
+            return;
+        }
+
         synchronized (backingList()) {
-            boolean added = listener.priority() == Priority.MONITOR
-                    ? monitorBackingList().add(listener)
-                    : backingList().add(listener);
+            addListenerUnsynchronized(listener, addedTo);
+        }
+    }
 
-            if (added) {
-                invalidateInvoker();
+    /**
+     * Calls only the given listener with the retained sticky event, outside the lock so that the listener can add or
+     * remove listeners itself.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Event> void deliverStickyEvent(EventListener listener, T event) {
+        switch (listener) {
+            case EventListenerImpl.HasConsumer<?> consumerListener -> ((Consumer<T>) consumerListener.consumer()).accept(event);
+            case EventListenerImpl.HasPredicate<?> predicateListener -> ((Predicate<T>) predicateListener.predicate()).test(event);
+            case EventListenerImpl.ResultListener<?> resultListener -> ((ToResultFunction<T>) resultListener.function()).apply(event);
+            case EventListenerImpl.MonitoringListener<?> monitoringListener -> ((ObjBooleanBiConsumer<T>) monitoringListener.booleanBiConsumer()).accept(event, false);
+            default -> throw new IllegalStateException("Unexpected listener type: " + listener.getClass());
+        }
+    }
+
+    /**
+     * Children are added to while still holding this bus's lock, so that a concurrent removal can't miss them, but their
+     * sticky events are left to the caller.
+     */
+    private void addListenerUnsynchronized(EventListener listener, List<AbstractEventBusImpl<?, ?>> addedTo) {
+        boolean added = listener.priority() == Priority.MONITOR
+                ? monitorBackingList().add(listener)
+                : backingList().add(listener);
+
+        if (added) {
+            invalidateInvoker();
+            addedTo.add(this);
 
-                if (notInheritable())
-                    return listener;
+            if (notInheritable())
+                return;
 
-                for (var child : children()) {
-                    child.addListener(listener);
-                }
+            for (var child : children()) {
+                child.addListener(listener, addedTo);
             }
-            return listener;
         }
     }
 
     @Override
     default void removeListener(EventListener listener) {
+        if (isThreadConfined()) {
+            checkOwnerThread();
+            removeListenerUnsynchronized(listener);
+            return;
+        }
+
         synchronized (backingList()) {
-            boolean removed = listener.priority() == Priority.MONITOR
-                    ? monitorBackingList().remove(listener)
-                    : backingList().remove(listener);
+            removeListenerUnsynchronized(listener);
+        }
+    }
+
+    private void removeListenerUnsynchronized(EventListener listener) {
+        boolean removed = listener.priority() == Priority.MONITOR
+                ? monitorBackingList().remove(listener)
+                : backingList().remove(listener);
 
-            if (removed) {
-                invalidateInvoker();
+        if (removed) {
+            invalidateInvoker();
 
-                if (notInheritable())
-                    return;
+            if (notInheritable())
+                return;
 
-                for (var child : children()) {
-                    child.removeListener(listener);
-                }
+            for (var child : children()) {
+                child.removeListener(listener);
             }
         }
     }
@@ -109,10 +295,19 @@ public sealed interface AbstractEventBusImpl<T extends Event, I> extends EventBu
     @Nullable I maybeGetInvoker();
 
     /**
-     * Should only be called from inside a {@code synchronized(backingList)} block.
+     * Should only be called from inside a {@code synchronized(backingList)} block, or from the owner thread if this bus
+     * is {@linkplain #isThreadConfined() thread-confined}.
      */
     void invalidateInvoker();
 
+    /**
+     * @return Whether invalidating the invoker is currently blocked by {@link #shutdown()}. Thread-confined buses only
+     *         touch the flag from their owner thread, so it's read without any ordering for them.
+     */
+    default boolean isAlreadyInvalidated() {
+        return isThreadConfined() ? alreadyInvalidated().getPlain() : alreadyInvalidated().getAcquire();
+    }
+
     /**
      * Should only be called when the invoker returned by {@link #maybeGetInvoker()} is null, indicating that it has
      * been invalidated and needs to be rebuilt.
@@ -125,70 +320,172 @@ public sealed interface AbstractEventBusImpl<T extends Event, I> extends EventBu
      * @return The invoker, creating it if necessary. Never returns null.
      */
     default I getInvoker() {
+        if (Constants.JFR_AVAILABLE && isThreadConfined())
+            invalidateIfRecordingChanged();
+
         var invoker = maybeGetInvoker();
         if (invoker == null)
             invoker = buildInvoker();
 
         return invoker;
     }
+
+    /**
+     * Invalidates the invoker if a JFR recording has started or stopped since it was built, so that it's rebuilt with or
+     * without the instrumentation of {@link JfrEvents}. Only called from the owner thread of thread-confined buses, as
+     * other buses are invalidated by the recording listener itself.
+     */
+    private void invalidateIfRecordingChanged() {
+        int recordingEpoch = JfrEvents.recordingEpoch();
+        if (recordingEpoch().getPlain() != recordingEpoch) {
+            recordingEpoch().setPlain(recordingEpoch);
+            invalidateInvoker();
+        }
+    }
+
+    @Override
+    default EventBus.InvokerDescription describeInvoker() {
+        if (isThreadConfined()) {
+            checkOwnerThread();
+            return describeInvokerUnsynchronized();
+        }
+
+        synchronized (backingList()) {
+            return describeInvokerUnsynchronized();
+        }
+    }
+
+    private EventBus.InvokerDescription describeInvokerUnsynchronized() {
+        // sorted in the same way as when building, as the position of always-cancelling listeners matters. A copy is
+        // sorted so that describing doesn't reorder the bus's own list outside of building an invoker
+        var listeners = new ArrayList<>(backingList());
+        listeners.sort(Constants.PRIORITY_COMPARATOR);
+        long buildTime = invokerBuildTime().get();
+        return InvokerFactory.describeInvoker(eventType(), eventCharacteristics(), listeners,
+                GlobalListeners.monitorsOf(this), invokesWithoutListeners(),
+                buildTime == 0 ? null : Instant.ofEpochMilli(buildTime));
+    }
     //endregion
 
+    /**
+     * @return Whether this bus has been {@linkplain #shutdown() shut down}, read in the same way as
+     *         {@link #isAlreadyInvalidated()}
+     */
+    default boolean isShutdown() {
+        return isThreadConfined() ? shutdownFlag().getPlain() : shutdownFlag().getAcquire();
+    }
+
     default void startup() {
+        if (isThreadConfined()) {
+            if (!shutdownFlag().getPlain())
+                return;
+
+            shutdownFlag().setPlain(false);
+            startupUnsynchronized();
+            return;
+        }
+
         if (!shutdownFlag().compareAndSet(true, false))
             return;
 
         synchronized (backingList()) {
-            // Force invalidate the invoker to remove the no-op invoker that might've been set by shutdown()
-            // Note: Opaque suffices here as this write immediately precedes the read made in invalidateInvoker() inside
-            //       the same synchronised block
+            startupUnsynchronized();
+        }
+    }
+
+    private void startupUnsynchronized() {
+        // Force invalidate the invoker to remove the no-op invoker that might've been set by shutdown()
+        // Note: Opaque suffices here as this write immediately precedes the read made in invalidateInvoker() inside
+        //       the same synchronised block, and thread-confined buses only ever touch the flag from their owner thread
+        if (isThreadConfined())
+            alreadyInvalidated().setPlain(false);
+        else
             alreadyInvalidated().setOpaque(false);
-            invalidateInvoker();
 
-            children().forEach(AbstractEventBusImpl::startup);
-        }
+        invalidateInvoker();
+
+        children().forEach(AbstractEventBusImpl::startup);
     }
 
     default void shutdown() {
+        if (isThreadConfined()) {
+            if (shutdownFlag().getPlain())
+                return;
+
+            shutdownFlag().setPlain(true);
+            shutdownUnsynchronized();
+            return;
+        }
+
         if (!shutdownFlag().compareAndSet(false, true))
             return;
 
         synchronized (backingList()) {
-            // When shutdown, set the invoker to a no-op invoker and prevent it from being invalidated
-            // on calls to addListener() to keep the no-op invoker
-            setNoOpInvoker();
+            shutdownUnsynchronized();
+        }
+    }
+
+    private void shutdownUnsynchronized() {
+        // When shutdown, set the invoker to a no-op invoker and prevent it from being invalidated
+        // on calls to addListener() to keep the no-op invoker
+        setNoOpInvoker();
+        if (isThreadConfined())
+            alreadyInvalidated().setPlain(true);
+        else
             alreadyInvalidated().set(true);
 
-            children().forEach(AbstractEventBusImpl::shutdown);
-        }
+        children().forEach(AbstractEventBusImpl::shutdown);
     }
 
     default void dispose() {
         shutdown();
+        if (isThreadConfined()) {
+            disposeUnsynchronized();
+            return;
+        }
+
         synchronized (backingList()) {
-            backingList().clear();
-            monitorBackingList().clear();
+            disposeUnsynchronized();
+        }
+    }
 
-            backingList().trimToSize();
-            monitorBackingList().trimToSize();
+    private void disposeUnsynchronized() {
+        var stickyEvent = stickyEvent();
+        if (stickyEvent != null)
+            stickyEvent.set(null);
 
-            children().forEach(AbstractEventBusImpl::dispose);
+        backingList().clear();
+        monitorBackingList().clear();
 
-            if (children() instanceof ArrayList<?> childrenArrayList) {
-                childrenArrayList.clear();
-                childrenArrayList.trimToSize();
-            }
+        backingList().trimToSize();
+        monitorBackingList().trimToSize();
+
+        children().forEach(AbstractEventBusImpl::dispose);
+
+        if (children() instanceof ArrayList<?> childrenArrayList) {
+            childrenArrayList.clear();
+            childrenArrayList.trimToSize();
         }
     }
 
     default void trim() {
+        if (isThreadConfined()) {
+            trimUnsynchronized();
+            return;
+        }
+
         synchronized (backingList()) {
-            backingList().trimToSize();
-            monitorBackingList().trimToSize();
-            if (children() instanceof ArrayList<?> childrenArrayList)
-                childrenArrayList.trimToSize();
+            trimUnsynchronized();
         }
     }
 
+    private void trimUnsynchronized() {
+        backingList().trimToSize();
+        monitorBackingList().trimToSize();
+        if (children() instanceof ArrayList<?> childrenArrayList)
+            childrenArrayList.trimToSize();
+    }
+
     private boolean notInheritable() {
         return (eventCharacteristics() & Constants.CHARACTERISTIC_INHERITABLE) == 0;
     }
@@ -8,9 +8,13 @@ import net.minecraftforge.eventbus.api.bus.BusGroup;
 import net.minecraftforge.eventbus.api.bus.EventBus;
 import net.minecraftforge.eventbus.api.event.*;
 import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
 import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.ObjBooleanBiConsumer;
+import org.jspecify.annotations.Nullable;
 
 import java.lang.invoke.MethodHandles;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -18,58 +22,174 @@ import java.util.concurrent.ConcurrentHashMap;
 public record BusGroupImpl(
         String name,
         Class<?> baseType,
-        ConcurrentHashMap<Class<? extends Event>, EventBus<?>> eventBuses
+        ConcurrentHashMap<Class<? extends Event>, EventBus<?>> eventBuses,
+        ConcurrentHashMap<String, PrimitiveEventBusImpl<?>> primitiveEventBuses,
+        @Nullable Thread ownerThread,
+        boolean metricsEnabled,
+        boolean postLatencyEnabled,
+        GlobalListeners globalListeners
 ) implements BusGroup {
     private static final Set<String> BUS_GROUP_NAMES = ConcurrentHashMap.newKeySet();
 
-    public BusGroupImpl(String name, Class<?> baseType) {
-        this(name, baseType, new ConcurrentHashMap<>());
-    }
-
-    public BusGroupImpl {
-        if (!BUS_GROUP_NAMES.add(Objects.requireNonNull(name)))
+    /**
+     * The BusGroups that haven't been disposed yet, for {@link #invalidateAllInvokers()}. Held weakly so that groups
+     * which are dropped without being disposed can still be garbage collected.
+     * <p>Guarded by itself.</p>
+     */
+    private static final ArrayList<WeakReference<BusGroupImpl>> LIVE_BUS_GROUPS = new ArrayList<>();
+
+    public BusGroupImpl(String name, Class<?> baseType, Option... options) {
+        this(
+                Objects.requireNonNull(name),
+                baseType,
+                new ConcurrentHashMap<>(),
+                new ConcurrentHashMap<>(),
+                Arrays.asList(options).contains(Option.THREAD_CONFINED) ? Thread.currentThread() : null,
+                Arrays.asList(options).contains(Option.METRICS) || Arrays.asList(options).contains(Option.POST_LATENCY),
+                Arrays.asList(options).contains(Option.POST_LATENCY),
+                new GlobalListeners()
+        );
+
+        var optionList = Arrays.asList(options);
+        if (optionList.contains(Option.JMX) && ownerThread != null)
+            throw new IllegalArgumentException("BusGroup \"" + name + "\" can't be both thread-confined and managed over JMX");
+
+        if (optionList.contains(Option.JMX) && !Constants.JMX_AVAILABLE)
+            throw new IllegalStateException("BusGroup \"" + name + "\" can't be managed over JMX without the java.management module");
+
+        if (!BUS_GROUP_NAMES.add(name))
             throw new IllegalArgumentException("BusGroup name \"" + name + "\" is already in use");
+
+        if (optionList.contains(Option.JMX)) {
+            try {
+                BusGroupMXBeanImpl.register(this);
+            } catch (RuntimeException e) {
+                BUS_GROUP_NAMES.remove(name);
+                throw e;
+            }
+        }
+
+        synchronized (LIVE_BUS_GROUPS) {
+            LIVE_BUS_GROUPS.removeIf(busGroup -> busGroup.get() == null);
+            LIVE_BUS_GROUPS.add(new WeakReference<>(this));
+        }
     }
 
     @Override
     public void startup() {
         for (var eventBus : eventBuses.values())
             ((AbstractEventBusImpl<?, ?>) eventBus).startup();
+
+        for (var primitiveEventBus : primitiveEventBuses.values())
+            primitiveEventBus.startup();
     }
 
     @Override
     public void shutdown() {
+        var jfrEvent = JfrEvents.beginBusShutdown();
+
         for (var eventBus : eventBuses.values())
             ((AbstractEventBusImpl<?, ?>) eventBus).shutdown();
+
+        for (var primitiveEventBus : primitiveEventBuses.values())
+            primitiveEventBus.shutdown();
+
+        JfrEvents.commitBusShutdown(jfrEvent, name, eventBuses.size() + primitiveEventBuses.size());
     }
 
     @Override
     public void dispose() {
+        var jfrEvent = JfrEvents.beginBusDispose();
+        int busCount = eventBuses.size() + primitiveEventBuses.size();
+
         for (var eventBus : eventBuses.values())
             ((AbstractEventBusImpl<?, ?>) eventBus).dispose();
 
+        for (var primitiveEventBus : primitiveEventBuses.values())
+            primitiveEventBus.dispose();
+
         eventBuses.clear();
+        primitiveEventBuses.clear();
+        synchronized (LIVE_BUS_GROUPS) {
+            LIVE_BUS_GROUPS.removeIf(busGroup -> busGroup.get() == null || busGroup.get() == this);
+        }
+        if (Constants.JMX_AVAILABLE)
+            BusGroupMXBeanImpl.unregister(this);
+
         BUS_GROUP_NAMES.remove(name);
+        globalListeners.clear();
+
+        JfrEvents.commitBusDispose(jfrEvent, name, busCount);
     }
 
     @Override
     public void trim() {
         for (var eventBus : eventBuses.values())
             ((AbstractEventBusImpl<?, ?>) eventBus).trim();
+
+        for (var primitiveEventBus : primitiveEventBuses.values())
+            primitiveEventBus.trim();
     }
 
     @Override
     public Collection<EventListener> register(MethodHandles.Lookup callerLookup, Class<?> utilityClassWithStaticListeners) {
-        return Constants.STRICT_REGISTRATION_CHECKS
-                ? EventListenerFactory.registerStrict(this, callerLookup, utilityClassWithStaticListeners, null)
-                : EventListenerFactory.register(this, callerLookup, utilityClassWithStaticListeners, null);
+        return register(callerLookup, utilityClassWithStaticListeners, null);
     }
 
     @Override
     public Collection<EventListener> register(MethodHandles.Lookup callerLookup, Object listener) {
-        return Constants.STRICT_REGISTRATION_CHECKS
-                ? EventListenerFactory.registerStrict(this, callerLookup, listener.getClass(), listener)
-                : EventListenerFactory.register(this, callerLookup, listener.getClass(), listener);
+        return register(callerLookup, listener.getClass(), listener);
+    }
+
+    private Collection<EventListener> register(MethodHandles.Lookup callerLookup, Class<?> listenerClass,
+                                               @Nullable Object listenerInstance) {
+        var jfrEvent = JfrEvents.beginListenerRegistration();
+
+        var listeners = Constants.STRICT_REGISTRATION_CHECKS
+                ? EventListenerFactory.registerStrict(this, callerLookup, listenerClass, listenerInstance)
+                : EventListenerFactory.register(this, callerLookup, listenerClass, listenerInstance);
+
+        JfrEvents.commitListenerRegistration(jfrEvent, name, listenerClass, listeners.size());
+        return listeners;
+    }
+
+    @Override
+    public List<EventBusMetrics> metrics() {
+        if (!metricsEnabled)
+            return List.of();
+
+        var metrics = new ArrayList<EventBusMetrics>(eventBuses.size());
+        for (var eventBus : eventBuses.values()) {
+            var bus = (AbstractEventBusImpl<?, ?>) eventBus;
+            var busMetrics = bus.metrics();
+            if (busMetrics != null)
+                metrics.add(busMetrics.snapshot(bus));
+        }
+        return metrics;
+    }
+
+    @Override
+    public List<PostLatency> drainPostLatencies() {
+        if (!postLatencyEnabled)
+            return List.of();
+
+        var postLatencies = new ArrayList<PostLatency>(eventBuses.size());
+        for (var eventBus : eventBuses.values()) {
+            var bus = (AbstractEventBusImpl<?, ?>) eventBus;
+            var busMetrics = bus.metrics();
+            if (busMetrics != null && busMetrics.postLatency() != null)
+                postLatencies.add(busMetrics.postLatency().drain(bus.eventType()));
+        }
+        return postLatencies;
+    }
+
+    @Override
+    public List<EventBus.InvokerDescription> describeInvokers() {
+        var descriptions = new ArrayList<EventBus.InvokerDescription>(eventBuses.size());
+        for (var eventBus : eventBuses.values()) {
+            descriptions.add(eventBus.describeInvoker());
+        }
+        return descriptions;
     }
 
     @Override
@@ -79,11 +199,83 @@ public record BusGroupImpl(
                     "the BusGroup#register method.");
 
         for (var listener : listeners) {
+            if (listener instanceof EventListenerImpl.PrimitiveListener<?>)
+                throw new IllegalArgumentException("Listeners on primitive buses must be removed from the bus they were added to");
+
+            if (listener.eventType() == Event.class) {
+                removeGlobalListener(listener);
+                continue;
+            }
+
             getOrCreateEventBus(listener.eventType()).removeListener(listener);
         }
     }
 
+    @Override
+    public String exportSubscriptionGraph(GraphFormat format) {
+        return SubscriptionGraphExporter.export(this, format);
+    }
+
+    @Override
+    public EventListener addGlobalListener(ObjBooleanBiConsumer<Object> listener) {
+        var globalListener = new EventListenerImpl.MonitoringListener<>(Event.class, listener::accept);
+        synchronized (eventBuses) {
+            globalListeners.add(globalListener);
+            for (var eventBus : eventBuses.values()) {
+                TimedListeners.invalidateInvoker((AbstractEventBusImpl<?, ?>) eventBus);
+            }
+        }
+        return globalListener;
+    }
+
+    @Override
+    public void removeGlobalListener(EventListener listener) {
+        synchronized (eventBuses) {
+            if (!globalListeners.remove(listener))
+                return;
+
+            for (var eventBus : eventBuses.values()) {
+                TimedListeners.invalidateInvoker((AbstractEventBusImpl<?, ?>) eventBus);
+            }
+        }
+    }
+
     //region Internal access only
+    /**
+     * Invalidates the invokers of the EventBuses in every BusGroup, so that they're rebuilt on their next post.
+     * <p>Thread-confined BusGroups are skipped, as their buses can only be touched by their owner thread. Their buses
+     * check the {@linkplain JfrEvents#recordingEpoch() recording epoch} on their next post instead.</p>
+     */
+    static void invalidateAllInvokers() {
+        var busGroups = new ArrayList<BusGroupImpl>();
+        synchronized (LIVE_BUS_GROUPS) {
+            for (var iterator = LIVE_BUS_GROUPS.iterator(); iterator.hasNext(); ) {
+                var busGroup = iterator.next().get();
+                if (busGroup == null)
+                    iterator.remove();
+                else if (busGroup.ownerThread == null)
+                    busGroups.add(busGroup);
+            }
+        }
+
+        for (var busGroup : busGroups) {
+            busGroup.invalidateInvokers();
+        }
+    }
+
+    /**
+     * Invalidates the invokers of the EventBuses in this BusGroup, so that they're rebuilt on their next post.
+     * <p>Should not be called on thread-confined BusGroups from other threads.</p>
+     */
+    void invalidateInvokers() {
+        for (var eventBus : eventBuses.values()) {
+            var bus = (AbstractEventBusImpl<?, ?>) eventBus;
+            synchronized (bus.backingList()) {
+                bus.invalidateInvoker();
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends Event> EventBus<T> createEventBus(Class<T> eventType) {
         if (baseType != Event.class && !baseType.isAssignableFrom(eventType))
@@ -102,6 +294,15 @@ public record BusGroupImpl(
             if (Constants.isMonitorAware(characteristics) && !MutableEvent.class.isAssignableFrom(eventType))
                 throw new IllegalArgumentException("Event type " + eventType + " implements MonitorAware but is not a MutableEvent");
 
+            if (Constants.isPoolable(characteristics) && !MutableEvent.class.isAssignableFrom(eventType))
+                throw new IllegalArgumentException("Event type " + eventType + " implements Poolable but is not a MutableEvent");
+
+            if (Constants.hasResult(characteristics) && Constants.isCancellable(characteristics))
+                throw new IllegalArgumentException("Event type " + eventType + " implements both HasResult and Cancellable");
+
+            if (Constants.isSticky(characteristics) && Constants.isPoolable(characteristics))
+                throw new IllegalArgumentException("Event type " + eventType + " implements both Sticky and Poolable");
+
             if (Constants.isInheritable(characteristics) && (isRecord || Modifier.isFinal(eventType.getModifiers()))
                     && eventType.getSuperclass() == null) {
                 var interfaces = eventType.getInterfaces();
@@ -122,10 +323,14 @@ public record BusGroupImpl(
             }
         }
 
-        @SuppressWarnings("rawtypes")
-        var bus = Constants.isCancellable(characteristics)
-                ? new CancellableEventBusImpl<>(this.name, (Class) (Class<? extends Cancellable>) eventType, backingList, characteristics)
-                : new EventBusImpl<>(this.name, eventType, backingList, characteristics);
+        var metrics = metricsEnabled ? new BusMetrics(postLatencyEnabled) : null;
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        AbstractEventBusImpl<T, ?> bus = Constants.isCancellable(characteristics)
+                ? new CancellableEventBusImpl<>(this.name, (Class) (Class<? extends Cancellable>) eventType, backingList, characteristics, ownerThread, metrics, globalListeners)
+                : Constants.hasResult(characteristics)
+                        ? new ResultEventBusImpl<>(this.name, (Class) (Class<? extends HasResult>) eventType, backingList, characteristics, ownerThread, metrics, globalListeners)
+                        : new EventBusImpl<>(this.name, eventType, backingList, characteristics, ownerThread, metrics, globalListeners);
 
         if (Constants.isInheritable(characteristics)) {
             for (var parent : parents) {
@@ -146,9 +351,49 @@ public record BusGroupImpl(
 
         synchronized (eventBuses) {
             var existing = eventBuses.putIfAbsent(eventType, computedEventBus);
-            return existing == null ? computedEventBus : (EventBus<T>) existing;
+            if (existing != null)
+                return (EventBus<T>) existing;
+
+            // A global listener added between creating the bus and publishing it here wouldn't have invalidated it
+            var bus = (AbstractEventBusImpl<?, ?>) computedEventBus;
+            if (!globalListeners.isEmpty()) {
+                synchronized (bus.backingList()) {
+                    bus.invalidateInvoker();
+                }
+            }
+            return computedEventBus;
         }
     }
+
+    /**
+     * @param kind The implementation class of the primitive or query bus, such as {@link IntEventBusImpl}
+     * @param busName The name of the bus, which is unique within this BusGroup
+     */
+    @SuppressWarnings("unchecked")
+    public <B extends PrimitiveEventBusImpl<?>> B getOrCreatePrimitiveEventBus(Class<B> kind, String busName) {
+        var primitiveEventBus = primitiveEventBuses.computeIfAbsent(Objects.requireNonNull(busName), k -> {
+            if (kind == IntEventBusImpl.class)
+                return new IntEventBusImpl(name, busName, ownerThread);
+            else if (kind == LongEventBusImpl.class)
+                return new LongEventBusImpl(name, busName, ownerThread);
+            else if ((Class<?>) kind == QueryBusImpl.class) // widened as the generic kinds aren't directly comparable
+                return new QueryBusImpl<>(name, busName, ownerThread);
+            else if ((Class<?>) kind == IntQueryBusImpl.class)
+                return new IntQueryBusImpl<>(name, busName, ownerThread);
+            else if ((Class<?>) kind == DoubleQueryBusImpl.class)
+                return new DoubleQueryBusImpl<>(name, busName, ownerThread);
+            else if ((Class<?>) kind == ObjIntEventBusImpl.class)
+                return new ObjIntEventBusImpl<>(name, busName, ownerThread);
+            else
+                throw new IllegalArgumentException("Unknown kind of primitive bus: " + kind.getName());
+        });
+
+        if (!kind.isInstance(primitiveEventBus))
+            throw new IllegalArgumentException("Primitive bus \"" + busName + "\" already exists on BusGroup \"" + name
+                    + "\" as a different kind of bus");
+
+        return (B) primitiveEventBus;
+    }
     //endregion
 
     @Override
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.BusGroupMXBean;
+import net.minecraftforge.eventbus.api.bus.ListenerProfiler;
+import org.jspecify.annotations.Nullable;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class BusGroupMXBeanImpl implements BusGroupMXBean {
+    private static final String DOMAIN = "net.minecraftforge.eventbus";
+
+    /** The object names of the registered BusGroups, so that disposing a group without JMX doesn't start up JMX. */
+    private static final ConcurrentHashMap<BusGroupImpl, ObjectName> REGISTERED = new ConcurrentHashMap<>();
+
+    private final BusGroupImpl busGroup;
+    private @Nullable ListenerProfiler profiler;
+    private List<ListenerProfiler.ListenerStats> lastProfile = List.of();
+
+    private BusGroupMXBeanImpl(BusGroupImpl busGroup) {
+        this.busGroup = busGroup;
+    }
+
+    static void register(BusGroupImpl busGroup) {
+        try {
+            var objectName = new ObjectName(DOMAIN + ":type=BusGroup,name=" + ObjectName.quote(busGroup.name()));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new BusGroupMXBeanImpl(busGroup), objectName);
+            REGISTERED.put(busGroup, objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register the MXBean for BusGroup \"" + busGroup.name() + '"', e);
+        }
+    }
+
+    static void unregister(BusGroupImpl busGroup) {
+        var objectName = REGISTERED.remove(busGroup);
+        if (objectName == null)
+            return;
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException ignored) {
+            // already unregistered by someone else through the MBeanServer
+        }
+    }
+
+    //region Attributes
+    @Override
+    public String getName() {
+        return busGroup.name();
+    }
+
+    @Override
+    public int getBusCount() {
+        return busGroup.eventBuses().size();
+    }
+
+    @Override
+    public Map<String, Integer> getListenerCounts() {
+        var listenerCounts = new LinkedHashMap<String, Integer>();
+        for (var eventBus : eventBuses()) {
+            synchronized (eventBus.backingList()) {
+                listenerCounts.put(eventBus.eventType().getName(),
+                        eventBus.backingList().size() + eventBus.monitorBackingList().size());
+            }
+        }
+        return listenerCounts;
+    }
+
+    @Override
+    public Map<String, String> getInvokerStrategies() {
+        var strategies = new LinkedHashMap<String, String>();
+        for (var description : busGroup.describeInvokers()) {
+            strategies.put(description.eventType().getName(), description.strategy());
+        }
+        return strategies;
+    }
+
+    @Override
+    public Map<String, Long> getPostCounts() {
+        var postCounts = new LinkedHashMap<String, Long>();
+        for (var busMetrics : busGroup.metrics()) {
+            postCounts.put(busMetrics.eventType().getName(), busMetrics.posts());
+        }
+        return postCounts;
+    }
+    //endregion
+
+    //region Operations
+    @Override
+    public void trim() {
+        busGroup.trim();
+    }
+
+    @Override
+    public void shutdown() {
+        busGroup.shutdown();
+    }
+
+    @Override
+    public void startup() {
+        busGroup.startup();
+    }
+
+    @Override
+    public void rebuildInvokers() {
+        busGroup.invalidateInvokers();
+    }
+
+    @Override
+    public synchronized void startProfiling() {
+        if (profiler != null)
+            throw new IllegalStateException("BusGroup \"" + busGroup.name() + "\" is already being profiled");
+
+        profiler = ListenerProfiler.enable(busGroup);
+        lastProfile = List.of();
+    }
+
+    @Override
+    public synchronized void stopProfiling() {
+        if (profiler == null)
+            return;
+
+        lastProfile = profiler.snapshot();
+        profiler.close();
+        profiler = null;
+    }
+
+    @Override
+    public synchronized boolean isProfiling() {
+        return profiler != null;
+    }
+
+    @Override
+    public synchronized List<String> getProfile() {
+        var stats = profiler != null ? profiler.snapshot() : lastProfile;
+        return stats.stream().map(ListenerProfiler.ListenerStats::toString).toList();
+    }
+    //endregion
+
+    private List<AbstractEventBusImpl<?, ?>> eventBuses() {
+        var eventBuses = new ArrayList<AbstractEventBusImpl<?, ?>>(busGroup.eventBuses().size());
+        for (var eventBus : busGroup.eventBuses().values()) {
+            eventBuses.add((AbstractEventBusImpl<?, ?>) eventBus);
+        }
+        return eventBuses;
+    }
+}
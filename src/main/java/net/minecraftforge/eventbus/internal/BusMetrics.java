@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
+import net.minecraftforge.eventbus.api.listener.ToResultFunction;
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * The counters of a single EventBus in a BusGroup created with {@link BusGroup.Option#METRICS}.
+ * <p>Posts are counted by a wrapper around the invoker, which is only added when the invoker is built for a bus that
+ * has metrics, so buses without them post straight to their usual invoker. The counters are {@link LongAdder}s so that
+ * posting from many threads at once doesn't contend on a single cache line.</p>
+ * <p>With {@link BusGroup.Option#POST_LATENCY}, the wrapper also times each post that calls listeners.</p>
+ */
+record BusMetrics(
+        LongAdder posts,
+        LongAdder postsWithoutListeners,
+        LongAdder cancellations,
+        LongAdder invokerRebuilds,
+        LongAdder invokerRebuildNanos,
+        @Nullable PostLatencyRecorder postLatency
+) {
+    BusMetrics(boolean recordPostLatency) {
+        this(new LongAdder(), new LongAdder(), new LongAdder(), new LongAdder(), new LongAdder(),
+                recordPostLatency ? new PostLatencyRecorder() : null);
+    }
+
+    //region Posting
+    /**
+     * @param hasListeners Whether the invoker was built with any non-monitoring listeners. When false, the post is
+     *                     counted as without listeners.
+     * @param hasGlobalListeners Whether the invoker was built with any {@linkplain GlobalListeners global listeners}.
+     *                           When neither this nor hasListeners is true, the given invoker is skipped as the bus's
+     *                           own monitoring listeners aren't called on buses without normal listeners.
+     */
+    <T extends Event> Consumer<T> instrumentPost(Consumer<T> invoker, boolean hasListeners, boolean hasGlobalListeners) {
+        if (!hasListeners) {
+            if (hasGlobalListeners) {
+                return event -> {
+                    posts.increment();
+                    postsWithoutListeners.increment();
+                    invoker.accept(event);
+                };
+            }
+
+            return event -> {
+                posts.increment();
+                postsWithoutListeners.increment();
+            };
+        }
+
+        var postLatency = this.postLatency;
+        if (postLatency != null) {
+            return event -> {
+                posts.increment();
+                long start = System.nanoTime();
+                try {
+                    invoker.accept(event);
+                } finally {
+                    postLatency.record(System.nanoTime() - start);
+                }
+            };
+        }
+
+        return event -> {
+            posts.increment();
+            invoker.accept(event);
+        };
+    }
+
+    <T extends Event> Predicate<T> instrumentCancellablePost(Predicate<T> invoker, boolean hasListeners,
+                                                             boolean hasGlobalListeners) {
+        if (!hasListeners) {
+            if (hasGlobalListeners) {
+                return event -> {
+                    posts.increment();
+                    postsWithoutListeners.increment();
+                    return invoker.test(event);
+                };
+            }
+
+            return event -> {
+                posts.increment();
+                postsWithoutListeners.increment();
+                return false;
+            };
+        }
+
+        var postLatency = this.postLatency;
+        if (postLatency != null) {
+            return event -> {
+                posts.increment();
+                long start = System.nanoTime();
+                boolean cancelled;
+                try {
+                    cancelled = invoker.test(event);
+                } finally {
+                    postLatency.record(System.nanoTime() - start);
+                }
+                if (cancelled)
+                    cancellations.increment();
+
+                return cancelled;
+            };
+        }
+
+        return event -> {
+            posts.increment();
+            boolean cancelled = invoker.test(event);
+            if (cancelled)
+                cancellations.increment();
+
+            return cancelled;
+        };
+    }
+
+    <T extends Event> ToResultFunction<T> instrumentResultPost(ToResultFunction<T> invoker, boolean hasListeners,
+                                                               boolean hasGlobalListeners) {
+        if (!hasListeners) {
+            if (hasGlobalListeners) {
+                return event -> {
+                    posts.increment();
+                    postsWithoutListeners.increment();
+                    return invoker.apply(event);
+                };
+            }
+
+            return event -> {
+                posts.increment();
+                postsWithoutListeners.increment();
+                return HasResult.Result.DEFAULT;
+            };
+        }
+
+        var postLatency = this.postLatency;
+        if (postLatency != null) {
+            return event -> {
+                posts.increment();
+                long start = System.nanoTime();
+                try {
+                    return invoker.apply(event);
+                } finally {
+                    postLatency.record(System.nanoTime() - start);
+                }
+            };
+        }
+
+        return event -> {
+            posts.increment();
+            return invoker.apply(event);
+        };
+    }
+    //endregion
+
+    void recordInvokerRebuild(long nanos) {
+        invokerRebuilds.increment();
+        invokerRebuildNanos.add(nanos);
+    }
+
+    BusGroup.EventBusMetrics snapshot(AbstractEventBusImpl<?, ?> eventBus) {
+        return new BusGroup.EventBusMetrics(
+                eventBus.eventType(),
+                eventBus.backingList().size() + eventBus.monitorBackingList().size(),
+                posts.sum(),
+                postsWithoutListeners.sum(),
+                cancellations.sum(),
+                invokerRebuilds.sum(),
+                invokerRebuildNanos.sum()
+        );
+    }
+}
@@ -13,11 +13,15 @@ import org.jspecify.annotations.Nullable;
 
 import java.lang.invoke.CallSite;
 import java.lang.invoke.MethodHandles;
-import java.lang.invoke.VolatileCallSite;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static net.minecraftforge.eventbus.internal.Constants.*;
 
@@ -30,19 +34,33 @@ public record CancellableEventBusImpl<T extends Event & Cancellable>(
         List<AbstractEventBusImpl<?, ?>> children,
         AtomicBoolean alreadyInvalidated,
         AtomicBoolean shutdownFlag,
-        int eventCharacteristics
+        AtomicLong invokerBuildTime,
+        AtomicInteger recordingEpoch,
+        int eventCharacteristics,
+        @Nullable AtomicReference<@Nullable T> stickyEvent,
+        @Nullable Thread ownerThread,
+        @Nullable BusMetrics metrics,
+        GlobalListeners globalListeners
 ) implements CancellableEventBus<T>, AbstractEventBusImpl<T, Predicate<T>> {
-    public CancellableEventBusImpl(String busGroupName, Class<T> eventType, ArrayList<EventListener> backingList, int eventCharacteristics) {
+    public CancellableEventBusImpl(String busGroupName, Class<T> eventType, ArrayList<EventListener> backingList,
+                                   int eventCharacteristics, @Nullable Thread ownerThread, @Nullable BusMetrics metrics,
+                                   GlobalListeners globalListeners) {
         this(
                 busGroupName,
                 eventType,
-                new VolatileCallSite(backingList.isEmpty() ? MH_NO_OP_PREDICATE : MH_NULL_PREDICATE),
+                AbstractEventBusImpl.makeInvokerCallSite(ownerThread, backingList.isEmpty() && metrics == null ? MH_NO_OP_PREDICATE : MH_NULL_PREDICATE),
                 backingList,
                 new ArrayList<>(),
                 AbstractEventBusImpl.makeEventChildrenList(eventType, eventCharacteristics),
                 new AtomicBoolean(),
                 new AtomicBoolean(),
-                eventCharacteristics
+                new AtomicLong(),
+                new AtomicInteger(JfrEvents.recordingEpoch()),
+                eventCharacteristics,
+                AbstractEventBusImpl.makeStickyEventReference(eventCharacteristics),
+                ownerThread,
+                metrics,
+                globalListeners
         );
     }
 
@@ -95,18 +113,60 @@ public record CancellableEventBusImpl<T extends Event & Cancellable>(
 
     @Override
     public boolean post(T event) {
+        checkPost(event);
+        retainIfSticky(event);
         return getInvoker().test(event);
     }
 
     @Override
     public T fire(T event) {
+        checkPost(event);
+        retainIfSticky(event);
         getInvoker().test(event);
         return event;
     }
 
+    @Override
+    public boolean post(Supplier<T> eventFactory) {
+        var invoker = getInvoker();
+        if (((Predicate<? extends Event>) invoker) == NO_OP_PREDICATE && stickyEvent == null)
+            return false;
+
+        var event = eventFactory.get();
+        checkPost(event);
+        retainIfSticky(event);
+        return invoker.test(event);
+    }
+
+    @Override
+    public @Nullable T fire(Supplier<T> eventFactory) {
+        var invoker = getInvoker();
+        if (((Predicate<? extends Event>) invoker) == NO_OP_PREDICATE && stickyEvent == null)
+            return null;
+
+        var event = eventFactory.get();
+        checkPost(event);
+        retainIfSticky(event);
+        invoker.test(event);
+        return event;
+    }
+
+    @Override
+    public int postAllParallel(List<T> events, ForkJoinPool pool) {
+        checkPostAllParallel(events);
+        if (!events.isEmpty())
+            retainIfSticky(events.getLast());
+
+        var invoker = getInvoker();
+        return ((Predicate<? extends Event>) invoker) == NO_OP_PREDICATE
+                ? 0
+                : ParallelPoster.postAll(invoker, events, pool);
+    }
+
     @Override
     public boolean hasListeners() {
-        return ((Predicate<? extends Event>) getInvoker()) != NO_OP_PREDICATE;
+        return ((Predicate<? extends Event>) getInvoker()) != NO_OP_PREDICATE
+                && (!backingList.isEmpty() || !invokesWithoutListeners());
     }
 
     //region Invoker
@@ -122,34 +182,61 @@ public record CancellableEventBusImpl<T extends Event & Cancellable>(
 
     @Override // overrides from AbstractEventBusImpl
     public void invalidateInvoker() {
-        if (alreadyInvalidated.getAcquire()) return;
-        invokerCallSite.setTarget(backingList.isEmpty() ? MH_NO_OP_PREDICATE : MH_NULL_PREDICATE);
+        if (isAlreadyInvalidated()) return;
+        invokerBuildTime.set(0);
+        invokerCallSite.setTarget(backingList.isEmpty() && !invokesWithoutListeners() ? MH_NO_OP_PREDICATE : MH_NULL_PREDICATE);
     }
 
     @Override // overrides from AbstractEventBusImpl
     public Predicate<T> buildInvoker() {
-        synchronized (backingList) {
-            backingList.sort(PRIORITY_COMPARATOR);
-
-            if (Constants.isSelfDestructing(eventCharacteristics()))
-                monitorBackingList.add(new EventListenerImpl.MonitoringListener<>(eventType, (event, wasCancelled) -> dispose()));
-
-            Predicate<T> invoker = setInvoker(InvokerFactory.createCancellableMonitoringInvoker(
-                    eventType, eventCharacteristics, backingList, monitorBackingList
-            ));
+        if (isThreadConfined()) {
+            var invoker = buildInvokerUnsynchronized();
+            alreadyInvalidated.setPlain(false);
+            return invoker;
+        }
 
+        synchronized (backingList) {
+            var invoker = buildInvokerUnsynchronized();
             alreadyInvalidated.set(false);
             return invoker;
         }
     }
 
+    private Predicate<T> buildInvokerUnsynchronized() {
+        var jfrEvent = JfrEvents.beginInvokerRebuild();
+        long start = metrics == null ? 0 : System.nanoTime();
+
+        backingList.sort(PRIORITY_COMPARATOR);
+
+        if (Constants.isSelfDestructing(eventCharacteristics()))
+            monitorBackingList.add(new EventListenerImpl.MonitoringListener<>(eventType, (event, wasCancelled) -> dispose()));
+
+        Predicate<T> invoker = InvokerFactory.createCancellableMonitoringInvoker(
+                eventType, eventCharacteristics, TimedListeners.instrument(this, backingList),
+                TimedListeners.instrument(this, GlobalListeners.monitorsOf(this))
+        );
+
+        if (metrics != null)
+            invoker = metrics.instrumentCancellablePost(invoker, !backingList.isEmpty(), !globalListeners.isEmpty());
+
+        invoker = setInvoker(JfrEvents.instrumentCancellablePost(busGroupName, eventType, invoker));
+        invokerBuildTime.set(System.currentTimeMillis());
+        JfrEvents.commitInvokerRebuild(jfrEvent, this);
+        if (metrics != null)
+            metrics.recordInvokerRebuild(System.nanoTime() - start);
+
+        return invoker;
+    }
+
     @Override // overrides from AbstractEventBusImpl
     public void setNoOpInvoker() {
         invokerCallSite.setTarget(MH_NO_OP_PREDICATE);
+        invokerBuildTime.set(0);
     }
 
     /**
-     * Should only be called from inside a {@code synchronized(backingList)} block.
+     * Should only be called from inside a {@code synchronized(backingList)} block, or from the owner thread if this bus
+     * is thread-confined.
      */
     private Predicate<T> setInvoker(Predicate<T> invoker) {
         invokerCallSite.setTarget(MethodHandles.constant(Predicate.class, invoker));
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.CancellationAttribution;
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public final class CancellationAttributionImpl implements CancellationAttribution {
+    /** Keyed by identity, as the buses are records whose equality depends on their mutable listener lists. */
+    private static final Map<AbstractEventBusImpl<?, ?>, CancellationAttributionImpl> ATTRIBUTED_BUSES =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private final CancellableEventBusImpl<?> eventBus;
+    private final ConcurrentHashMap<EventListener, LongAdder> cancellations = new ConcurrentHashMap<>();
+    private final ThreadLocal<@Nullable EventListener> lastCancelledBy = new ThreadLocal<>();
+
+    public CancellationAttributionImpl(CancellableEventBusImpl<?> eventBus) {
+        this.eventBus = eventBus;
+        synchronized (ATTRIBUTED_BUSES) {
+            if (ATTRIBUTED_BUSES.containsKey(eventBus))
+                throw new IllegalStateException("The EventBus for " + eventBus.eventType() + " is already being attributed");
+
+            ATTRIBUTED_BUSES.put(eventBus, this);
+        }
+        TimedListeners.invalidateInvoker(eventBus);
+    }
+
+    /**
+     * @return The attribution of the given bus, or null if it isn't being attributed
+     */
+    static @Nullable CancellationAttributionImpl of(AbstractEventBusImpl<?, ?> eventBus) {
+        return ATTRIBUTED_BUSES.isEmpty() ? null : ATTRIBUTED_BUSES.get(eventBus);
+    }
+
+    /**
+     * @return A copy of the listener that records itself when it cancels an event, or the listener itself if it can't
+     *         cancel events
+     */
+    EventListener wrap(EventListener listener) {
+        if (listener instanceof EventListenerImpl.WrappedConsumerListener<?> wrappedConsumerListener
+                && wrappedConsumerListener.alwaysCancelling())
+            return attributed(wrappedConsumerListener);
+
+        if (listener instanceof EventListenerImpl.PredicateListener<?> predicateListener)
+            return attributed(predicateListener);
+
+        return listener;
+    }
+
+    private <T extends Event> EventListener attributed(EventListenerImpl.WrappedConsumerListener<T> listener) {
+        var counter = cancellations.computeIfAbsent(listener, l -> new LongAdder());
+        Consumer<T> consumer = listener.consumer();
+        return new EventListenerImpl.WrappedConsumerListener<>(listener.eventType(), listener.priority(), true, event -> {
+            consumer.accept(event);
+            record(listener, counter);
+        });
+    }
+
+    private <T extends Event & Cancellable> EventListener attributed(EventListenerImpl.PredicateListener<T> listener) {
+        var counter = cancellations.computeIfAbsent(listener, l -> new LongAdder());
+        Predicate<T> predicate = listener.predicate();
+        return new EventListenerImpl.PredicateListener<>(listener.eventType(), listener.priority(), event -> {
+            if (!predicate.test(event))
+                return false;
+
+            record(listener, counter);
+            return true;
+        });
+    }
+
+    private void record(EventListener listener, LongAdder counter) {
+        counter.increment();
+        lastCancelledBy.set(listener);
+    }
+
+    @Override
+    public @Nullable EventListener lastCancelledBy() {
+        return lastCancelledBy.get();
+    }
+
+    @Override
+    public List<ListenerCancellations> snapshot() {
+        var snapshot = new ArrayList<ListenerCancellations>(cancellations.size());
+        for (var entry : cancellations.entrySet()) {
+            long count = entry.getValue().sum();
+            if (count == 0)
+                continue;
+
+            var listener = entry.getKey();
+            var source = ListenerProfilerImpl.ListenerSource.of(listener);
+            snapshot.add(new ListenerCancellations(listener, source.declaringClass(), source.methodName(),
+                    listener.priority(), count));
+        }
+        snapshot.sort(Comparator.comparingLong(ListenerCancellations::cancellations).reversed());
+        return snapshot;
+    }
+
+    @Override
+    public void reset() {
+        for (var counter : cancellations.values()) {
+            counter.reset();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (ATTRIBUTED_BUSES.remove(eventBus, this))
+            TimedListeners.invalidateInvoker(eventBus);
+    }
+}
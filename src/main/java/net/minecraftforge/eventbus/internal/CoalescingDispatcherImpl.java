@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.CoalescingDispatcher;
+import net.minecraftforge.eventbus.api.bus.EventBus;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+public record CoalescingDispatcherImpl<T extends Event>(
+        EventBus<T> eventBus,
+        Function<? super T, ?> keyFunction,
+        BinaryOperator<T> merger,
+        ConcurrentHashMap<Object, T> buffer
+) implements CoalescingDispatcher<T> {
+    public CoalescingDispatcherImpl(EventBus<T> eventBus, Function<? super T, ?> keyFunction, BinaryOperator<T> merger) {
+        this(eventBus, keyFunction, merger, new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public void dispatch(T event) {
+        buffer.merge(keyFunction.apply(event), event, merger);
+    }
+
+    @Override
+    public int flush() {
+        if (buffer.isEmpty())
+            return 0;
+
+        int posted = 0;
+        for (var entry : buffer.entrySet()) {
+            var event = entry.getValue();
+
+            // Only remove the event we're about to post - if it was replaced or merged after we read it, the newer one
+            // stays buffered for the next flush rather than being lost
+            if (buffer.remove(entry.getKey(), event)) {
+                eventBus.post(event);
+                posted++;
+            }
+        }
+        return posted;
+    }
+
+    @Override
+    public int size() {
+        return buffer.size();
+    }
+}
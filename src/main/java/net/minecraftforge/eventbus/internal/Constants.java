@@ -4,7 +4,10 @@
  */
 package net.minecraftforge.eventbus.internal;
 
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
 import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.ToResultFunction;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
@@ -20,6 +23,7 @@ final class Constants {
     static final Consumer<Event> NO_OP_CONSUMER = event -> {};
     static final Predicate<Event> NO_OP_PREDICATE = event -> false;
     static final Predicate<Event> ALWAYS_TRUE_PREDICATE = event -> true;
+    static final ToResultFunction<Event> NO_OP_RESULT_FUNCTION = event -> HasResult.Result.DEFAULT;
 
     static final MethodHandle MH_NULL_CONSUMER = MethodHandles.constant(Consumer.class, null);
     static final MethodHandle MH_NO_OP_CONSUMER = MethodHandles.constant(Consumer.class, NO_OP_CONSUMER);
@@ -27,12 +31,21 @@ final class Constants {
     static final MethodHandle MH_NULL_PREDICATE = MethodHandles.constant(Predicate.class, null);
     static final MethodHandle MH_NO_OP_PREDICATE = MethodHandles.constant(Predicate.class, NO_OP_PREDICATE);
 
+    static final MethodHandle MH_NULL_RESULT_FUNCTION = MethodHandles.constant(ToResultFunction.class, null);
+    static final MethodHandle MH_NO_OP_RESULT_FUNCTION = MethodHandles.constant(ToResultFunction.class, NO_OP_RESULT_FUNCTION);
+
+    /** The call sites of primitive and query buses are typed as Object, see {@link PrimitiveEventBusImpl#maybeGetInvoker()} */
+    static final MethodHandle MH_NULL_PRIMITIVE_INVOKER = MethodHandles.constant(Object.class, null);
+
     static final Comparator<EventListener> PRIORITY_COMPARATOR = (a, b) -> b.priority() - a.priority();
 
     static final int CHARACTERISTIC_SELF_DESTRUCTING = 1;
     static final int CHARACTERISTIC_MONITOR_AWARE = 2;
     static final int CHARACTERISTIC_CANCELLABLE = 4;
     static final int CHARACTERISTIC_INHERITABLE = 8;
+    static final int CHARACTERISTIC_POOLABLE = 16;
+    static final int CHARACTERISTIC_HAS_RESULT = 32;
+    static final int CHARACTERISTIC_STICKY = 64;
 
     /**
      * If true, performs additional runtime checks to aid debugging.
@@ -46,6 +59,22 @@ final class Constants {
 
     static final boolean STRICT_BUS_CREATION_CHECKS = STRICT_RUNTIME_CHECKS || Boolean.getBoolean("eventbus.api.strictBusCreationChecks");
 
+    /**
+     * The maximum number of events a {@link PartitionedDispatcherImpl} lane posts before yielding its thread back to the
+     * executor, so that a single busy lane can't starve the others when there are more lanes than threads.
+     */
+    static final int LANE_BATCH_SIZE = Integer.getInteger("eventbus.internal.laneBatchSize", 256);
+
+    /**
+     * Whether the optional {@code jdk.jfr} module is present, see {@link JfrEvents}.
+     */
+    static final boolean JFR_AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    /**
+     * Whether the optional {@code java.management} module is present, which {@link BusGroup.Option#JMX} needs.
+     */
+    static final boolean JMX_AVAILABLE = ModuleLayer.boot().findModule("java.management").isPresent();
+
     /**
      * If true, allows the same listener to be registered multiple times. Intended for use in benchmarks only.
      */
@@ -72,6 +101,11 @@ final class Constants {
         return (Predicate<T>) (alwaysCancelling ? ALWAYS_TRUE_PREDICATE : NO_OP_PREDICATE);
     }
 
+    @SuppressWarnings("unchecked")
+    static <T extends Event> ToResultFunction<T> getNoOpResultFunction() {
+        return (ToResultFunction<T>) NO_OP_RESULT_FUNCTION;
+    }
+
     static boolean isSelfDestructing(int characteristics) {
         return (characteristics & CHARACTERISTIC_SELF_DESTRUCTING) != 0;
     }
@@ -88,6 +122,18 @@ final class Constants {
         return (characteristics & CHARACTERISTIC_INHERITABLE) != 0;
     }
 
+    static boolean isPoolable(int characteristics) {
+        return (characteristics & CHARACTERISTIC_POOLABLE) != 0;
+    }
+
+    static boolean hasResult(int characteristics) {
+        return (characteristics & CHARACTERISTIC_HAS_RESULT) != 0;
+    }
+
+    static boolean isSticky(int characteristics) {
+        return (characteristics & CHARACTERISTIC_STICKY) != 0;
+    }
+
     static boolean notInheritable(int characteristics) {
         return (characteristics & CHARACTERISTIC_INHERITABLE) == 0;
     }
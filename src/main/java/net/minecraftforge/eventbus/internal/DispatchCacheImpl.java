@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.DispatchCache;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Each entry remembers the invoker of the bus that computed it. As the invoker is rebuilt whenever the bus's listeners
+ * change, an entry is only valid while the bus's current invoker is still the same instance, which lets the cache be
+ * invalidated by {@link AbstractEventBusImpl#invalidateInvoker()} without the bus having to know about it.
+ */
+public record DispatchCacheImpl<K, V extends @Nullable Object>(
+        Supplier<?> currentInvoker,
+        Function<K, V> dispatcher,
+        ConcurrentHashMap<K, Entry<V>> entries,
+        int maxSize,
+        long expireAfterWriteNanos,
+        LongAdder hitCounter,
+        LongAdder missCounter
+) implements DispatchCache<K, V> {
+    record Entry<V extends @Nullable Object>(V outcome, Object invoker, long writtenAt) {}
+
+    public static <K, V extends @Nullable Object> DispatchCacheImpl<K, V> create(Object bus, Function<K, V> dispatcher,
+                                                                                int maxSize, @Nullable Duration expireAfterWrite) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("Maximum size must be at least 1, got " + maxSize);
+
+        if (expireAfterWrite != null && (expireAfterWrite.isNegative() || expireAfterWrite.isZero()))
+            throw new IllegalArgumentException("Expiry must be positive, got " + expireAfterWrite);
+
+        Supplier<?> currentInvoker = switch (bus) {
+            case AbstractEventBusImpl<?, ?> eventBus -> eventBus::getInvoker;
+            case PrimitiveEventBusImpl<?> primitiveBus -> primitiveBus::getInvoker;
+            default -> throw new IllegalArgumentException("Unsupported bus " + bus);
+        };
+
+        return new DispatchCacheImpl<>(currentInvoker, dispatcher, new ConcurrentHashMap<>(), maxSize,
+                expireAfterWrite == null ? 0 : expireAfterWrite.toNanos(), new LongAdder(), new LongAdder());
+    }
+
+    @Override
+    public V dispatch(K key) {
+        var invoker = currentInvoker.get();
+        var entry = entries.get(key);
+        if (entry != null && isValid(entry, invoker, expireAfterWriteNanos == 0 ? 0 : System.nanoTime())) {
+            hitCounter.increment();
+            return entry.outcome();
+        }
+
+        missCounter.increment();
+
+        // The invoker is read before dispatching, so if the listeners change while the outcome is being computed, the
+        // entry is already considered invalid when it's next looked up
+        var outcome = dispatcher.apply(key);
+        if (entry == null && entries.size() >= maxSize)
+            evict();
+
+        entries.put(key, new Entry<>(outcome, invoker, expireAfterWriteNanos == 0 ? 0 : System.nanoTime()));
+        return outcome;
+    }
+
+    private boolean isValid(Entry<V> entry, Object invoker, long now) {
+        return entry.invoker() == invoker && (expireAfterWriteNanos == 0 || now - entry.writtenAt() < expireAfterWriteNanos);
+    }
+
+    /**
+     * Frees up a quarter of the cache at once so that the cost of scanning it is amortised over many insertions,
+     * preferring entries that are already expired or invalidated.
+     */
+    private void evict() {
+        int target = maxSize - Math.max(1, maxSize / 4);
+        var invoker = currentInvoker.get();
+        long now = expireAfterWriteNanos == 0 ? 0 : System.nanoTime();
+        entries.values().removeIf(entry -> !isValid(entry, invoker, now));
+
+        var iterator = entries.keySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    @Override
+    public long hits() {
+        return hitCounter.sum();
+    }
+
+    @Override
+    public long misses() {
+        return missCounter.sum();
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+}
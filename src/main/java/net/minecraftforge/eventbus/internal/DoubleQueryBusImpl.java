@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.DoubleQueryBus;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.internal.QueryInvokerFactory.DoubleQueryInvoker;
+import net.minecraftforge.eventbus.internal.QueryInvokerFactory.NumericKind;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.ToDoubleFunction;
+
+public record DoubleQueryBusImpl<Q>(
+        String busGroupName,
+        String name,
+        CallSite invokerCallSite,
+        ArrayList<EventListener> backingList,
+        ArrayList<EventListener> monitorBackingList,
+        AtomicBoolean alreadyInvalidated,
+        AtomicBoolean shutdownFlag,
+        @Nullable Thread ownerThread
+) implements DoubleQueryBus<Q>, NumericQueryBusImpl<ToDoubleFunction<Q>, DoubleQueryInvoker<Q>> {
+    public DoubleQueryBusImpl(String busGroupName, String name, @Nullable Thread ownerThread) {
+        this(
+                busGroupName,
+                name,
+                AbstractEventBusImpl.makeInvokerCallSite(ownerThread, MethodHandles.constant(Object.class, QueryInvokerFactory.DOUBLE.noOp())),
+                new ArrayList<>(),
+                new ArrayList<>(),
+                new AtomicBoolean(),
+                new AtomicBoolean(),
+                ownerThread
+        );
+    }
+
+    @Override
+    public EventListener addListener(ToDoubleFunction<Q> listener) {
+        return addQueryListener(Priority.NORMAL, listener);
+    }
+
+    @Override
+    public EventListener addListener(byte priority, ToDoubleFunction<Q> listener) {
+        return addQueryListener(priority, listener);
+    }
+
+    @Override
+    public EventListener addListener(EventListener listener) {
+        return NumericQueryBusImpl.super.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(EventListener listener) {
+        NumericQueryBusImpl.super.removeListener(listener);
+    }
+
+    @Override
+    public double reduce(Q query, double identity, DoubleBinaryOperator combiner) {
+        checkOwnerThread();
+        return getInvoker().reduce(query, identity, combiner);
+    }
+
+    @Override
+    public double sum(Q query) {
+        return reduce(query, 0.0, Double::sum);
+    }
+
+    @Override
+    public double max(Q query, double identity) {
+        return reduce(query, identity, Math::max);
+    }
+
+    @Override
+    public double min(Q query, double identity) {
+        return reduce(query, identity, Math::min);
+    }
+
+    @Override
+    public boolean hasListeners() {
+        return NumericQueryBusImpl.super.hasListeners();
+    }
+
+    @Override // overrides from NumericQueryBusImpl
+    public NumericKind<ToDoubleFunction<Q>, DoubleQueryInvoker<Q>> kind() {
+        return QueryInvokerFactory.doubleKind();
+    }
+}
@@ -11,10 +11,14 @@ import org.jspecify.annotations.Nullable;
 
 import java.lang.invoke.CallSite;
 import java.lang.invoke.MethodHandles;
-import java.lang.invoke.VolatileCallSite;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static net.minecraftforge.eventbus.internal.Constants.*;
 
@@ -27,19 +31,33 @@ public record EventBusImpl<T extends Event>(
         List<AbstractEventBusImpl<?, ?>> children,
         AtomicBoolean alreadyInvalidated,
         AtomicBoolean shutdownFlag,
-        int eventCharacteristics
+        AtomicLong invokerBuildTime,
+        AtomicInteger recordingEpoch,
+        int eventCharacteristics,
+        @Nullable AtomicReference<@Nullable T> stickyEvent,
+        @Nullable Thread ownerThread,
+        @Nullable BusMetrics metrics,
+        GlobalListeners globalListeners
 ) implements EventBus<T>, AbstractEventBusImpl<T, Consumer<T>> {
-    public EventBusImpl(String busGroupName, Class<T> eventType, ArrayList<EventListener> backingList, int eventCharacteristics) {
+    public EventBusImpl(String busGroupName, Class<T> eventType, ArrayList<EventListener> backingList,
+                        int eventCharacteristics, @Nullable Thread ownerThread, @Nullable BusMetrics metrics,
+                        GlobalListeners globalListeners) {
         this(
                 busGroupName,
                 eventType,
-                new VolatileCallSite(backingList.isEmpty() ? MH_NO_OP_CONSUMER : MH_NULL_CONSUMER),
+                AbstractEventBusImpl.makeInvokerCallSite(ownerThread, backingList.isEmpty() && metrics == null ? MH_NO_OP_CONSUMER : MH_NULL_CONSUMER),
                 backingList,
                 new ArrayList<>(),
                 AbstractEventBusImpl.makeEventChildrenList(eventType, eventCharacteristics),
                 new AtomicBoolean(),
                 new AtomicBoolean(),
-                eventCharacteristics
+                new AtomicLong(),
+                new AtomicInteger(JfrEvents.recordingEpoch()),
+                eventCharacteristics,
+                AbstractEventBusImpl.makeStickyEventReference(eventCharacteristics),
+                ownerThread,
+                metrics,
+                globalListeners
         );
     }
 
@@ -59,19 +77,62 @@ public record EventBusImpl<T extends Event>(
 
     @Override
     public boolean post(T event) {
+        checkPost(event);
+        retainIfSticky(event);
         getInvoker().accept(event);
         return false;
     }
 
     @Override
     public T fire(T event) {
+        checkPost(event);
+        retainIfSticky(event);
         getInvoker().accept(event);
         return event;
     }
 
+    @Override
+    public boolean post(Supplier<T> eventFactory) {
+        var invoker = getInvoker();
+        if (invoker == NO_OP_CONSUMER && stickyEvent == null)
+            return false;
+
+        var event = eventFactory.get();
+        checkPost(event);
+        retainIfSticky(event);
+        invoker.accept(event);
+        return false;
+    }
+
+    @Override
+    public @Nullable T fire(Supplier<T> eventFactory) {
+        var invoker = getInvoker();
+        if (invoker == NO_OP_CONSUMER && stickyEvent == null)
+            return null;
+
+        var event = eventFactory.get();
+        checkPost(event);
+        retainIfSticky(event);
+        invoker.accept(event);
+        return event;
+    }
+
+    @Override
+    public int postAllParallel(List<T> events, ForkJoinPool pool) {
+        checkPostAllParallel(events);
+        if (!events.isEmpty())
+            retainIfSticky(events.getLast());
+
+        var invoker = getInvoker();
+        if (invoker != NO_OP_CONSUMER)
+            ParallelPoster.postAll(invoker, events, pool);
+
+        return 0;
+    }
+
     @Override
     public boolean hasListeners() {
-        return getInvoker() != NO_OP_CONSUMER;
+        return getInvoker() != NO_OP_CONSUMER && (!backingList.isEmpty() || !invokesWithoutListeners());
     }
 
     //region Invoker
@@ -87,35 +148,62 @@ public record EventBusImpl<T extends Event>(
 
     @Override // overrides from AbstractEventBusImpl
     public void invalidateInvoker() {
-        if (alreadyInvalidated.getAcquire()) return;
-        invokerCallSite.setTarget(backingList.isEmpty() ? MH_NO_OP_CONSUMER : MH_NULL_CONSUMER);
+        if (isAlreadyInvalidated()) return;
+        invokerBuildTime.set(0);
+        invokerCallSite.setTarget(backingList.isEmpty() && !invokesWithoutListeners() ? MH_NO_OP_CONSUMER : MH_NULL_CONSUMER);
     }
 
     @Override // overrides from AbstractEventBusImpl
     public Consumer<T> buildInvoker() {
-        synchronized (backingList) {
-            backingList.sort(PRIORITY_COMPARATOR);
-
-            Consumer<T> invoker = InvokerFactory.createMonitoringInvoker(
-                    eventType, eventCharacteristics, backingList, monitorBackingList
-            );
-
-            if (Constants.isSelfDestructing(eventCharacteristics))
-                invoker = invoker.andThen(event -> dispose());
+        if (isThreadConfined()) {
+            var invoker = buildInvokerUnsynchronized();
+            alreadyInvalidated.setPlain(false);
+            return invoker;
+        }
 
-            setInvoker(invoker);
+        synchronized (backingList) {
+            var invoker = buildInvokerUnsynchronized();
             alreadyInvalidated.set(false);
             return invoker;
         }
     }
 
+    private Consumer<T> buildInvokerUnsynchronized() {
+        var jfrEvent = JfrEvents.beginInvokerRebuild();
+        long start = metrics == null ? 0 : System.nanoTime();
+
+        backingList.sort(PRIORITY_COMPARATOR);
+
+        Consumer<T> invoker = InvokerFactory.createMonitoringInvoker(
+                eventType, eventCharacteristics, TimedListeners.instrument(this, backingList),
+                TimedListeners.instrument(this, GlobalListeners.monitorsOf(this))
+        );
+
+        if (Constants.isSelfDestructing(eventCharacteristics) && !backingList.isEmpty())
+            invoker = invoker.andThen(event -> dispose());
+
+        if (metrics != null)
+            invoker = metrics.instrumentPost(invoker, !backingList.isEmpty(), !globalListeners.isEmpty());
+
+        invoker = JfrEvents.instrumentPost(busGroupName, eventType, invoker);
+        setInvoker(invoker);
+        invokerBuildTime.set(System.currentTimeMillis());
+        JfrEvents.commitInvokerRebuild(jfrEvent, this);
+        if (metrics != null)
+            metrics.recordInvokerRebuild(System.nanoTime() - start);
+
+        return invoker;
+    }
+
     @Override // overrides from AbstractEventBusImpl
     public void setNoOpInvoker() {
         invokerCallSite.setTarget(MH_NO_OP_CONSUMER);
+        invokerBuildTime.set(0);
     }
 
     /**
-     * Should only be called from inside a {@code synchronized(backingList)} block.
+     * Should only be called from inside a {@code synchronized(backingList)} block, or from the owner thread if this bus
+     * is thread-confined.
      */
     private void setInvoker(Consumer<T> invoker) {
         invokerCallSite.setTarget(MethodHandles.constant(Consumer.class, invoker));
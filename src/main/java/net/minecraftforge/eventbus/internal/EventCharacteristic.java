@@ -5,8 +5,11 @@
 package net.minecraftforge.eventbus.internal;
 
 import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
 import net.minecraftforge.eventbus.api.event.characteristic.MonitorAware;
+import net.minecraftforge.eventbus.api.event.characteristic.Poolable;
 import net.minecraftforge.eventbus.api.event.characteristic.SelfDestructing;
 import net.minecraftforge.eventbus.api.event.characteristic.SelfPosting;
+import net.minecraftforge.eventbus.api.event.characteristic.Sticky;
 
-public sealed interface EventCharacteristic permits Cancellable, MonitorAware, SelfDestructing, SelfPosting {}
+public sealed interface EventCharacteristic permits Cancellable, HasResult, MonitorAware, Poolable, SelfDestructing, SelfPosting, Sticky {}
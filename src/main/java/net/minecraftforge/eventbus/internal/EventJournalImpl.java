@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.EventJournal;
+import net.minecraftforge.eventbus.api.bus.ReplayBuffer;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Each segment file is a sequence of records, followed by zeroes up to the segment size:
+ * <pre>
+ * int recordSize  // including this header, so never zero for a complete record
+ * int crc32       // of the payload
+ * byte[] payload  // written by the codec
+ * </pre>
+ * The record size is written last, so a record that was being appended when the JVM stopped reads as the end of the
+ * segment. The checksum covers the case where the machine crashed and the pages were only partially written back.
+ * <p>The sync thread creates and maps the next segment ahead of time, so that appending only has to swap it in once the
+ * current segment is full. If a journal is never closed, that spare segment is left behind empty, which reading skips
+ * like any other segment without complete records.</p>
+ */
+public final class EventJournalImpl<T extends RecordEvent> implements EventJournal<T> {
+    public static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final EventBus<T> eventBus;
+    private final Path directory;
+    private final ReplayBuffer.Codec<T> codec;
+    private final int segmentSize;
+    private final int maxRecordSize;
+    private final long syncIntervalNanos;
+
+    /** Full segments that haven't been flushed since they were filled. */
+    private final ConcurrentLinkedQueue<MappedByteBuffer> retiredSegments = new ConcurrentLinkedQueue<>();
+    private final Thread syncThread;
+    private final EventListener listener;
+
+    // Guarded by this
+    private final CRC32 checksum = new CRC32();
+    private MappedByteBuffer segment;
+
+    // Guarded by segmentLock, which is taken while holding the lock on this but never the other way around
+    private final Object segmentLock = new Object();
+    private @Nullable MappedSegment spareSegment;
+    private long nextSegmentIndex;
+
+    // Written while holding the lock on this
+    private volatile long appended;
+    private volatile boolean closed;
+
+    private volatile long synced;
+
+    public EventJournalImpl(EventBus<T> eventBus, Path directory, ReplayBuffer.Codec<T> codec, int segmentSize,
+                            Duration syncInterval) {
+        this.eventBus = eventBus;
+        this.directory = directory;
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+        this.maxRecordSize = RECORD_HEADER_SIZE + codec.maxEncodedSize();
+        this.syncIntervalNanos = syncInterval.toNanos();
+
+        try {
+            Files.createDirectories(directory);
+            var existingSegments = listSegments(directory);
+            this.nextSegmentIndex = existingSegments.isEmpty() ? 0 : segmentIndex(existingSegments.getLast()) + 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open event journal in " + directory, e);
+        }
+        this.segment = mapNewSegment().buffer();
+
+        this.syncThread = new Thread(this::runSyncLoop, "EventJournal sync for " + directory);
+        this.syncThread.setDaemon(true);
+        this.syncThread.start();
+
+        this.listener = eventBus.addListener(Priority.MONITOR, this::append);
+    }
+
+    private synchronized void append(T event) {
+        if (closed)
+            return;
+
+        var segment = this.segment;
+        if (segment.remaining() < maxRecordSize) {
+            retiredSegments.add(segment);
+            segment = this.segment = takeSpareSegment();
+            LockSupport.unpark(syncThread); // flush the retired segment and map the next spare straight away
+        }
+
+        int start = segment.position();
+        int payloadStart = start + RECORD_HEADER_SIZE;
+        int payloadLimit = payloadStart + codec.maxEncodedSize();
+        segment.limit(payloadLimit).position(payloadStart);
+        try {
+            codec.encode(event, segment);
+        } catch (BufferOverflowException e) {
+            discardPayload(segment, start, payloadLimit);
+            return; // didn't fit in maxEncodedSize bytes, so isn't journaled - the same as ReplayBuffer
+        } catch (RuntimeException e) {
+            discardPayload(segment, start, payloadLimit);
+            throw e;
+        }
+        int end = segment.position();
+
+        checksum.reset();
+        checksum.update(segment.limit(end).position(payloadStart));
+        segment.limit(segment.capacity());
+
+        segment.putInt(start + Integer.BYTES, (int) checksum.getValue());
+        segment.putInt(start, end - start);
+        appended++;
+    }
+
+    /**
+     * Zeroes the partially written payload of a record that failed to encode and rewinds to its start, so that the
+     * next record overwrites it and a reader never mistakes its bytes for a record size.
+     */
+    private static void discardPayload(MappedByteBuffer segment, int start, int payloadLimit) {
+        segment.put(start, new byte[payloadLimit - start]);
+        segment.limit(segment.capacity()).position(start);
+    }
+
+    /**
+     * Takes the segment mapped ahead of time by the sync thread, or maps one now if it hasn't caught up yet.
+     */
+    private MappedByteBuffer takeSpareSegment() {
+        synchronized (segmentLock) {
+            var spare = spareSegment;
+            spareSegment = null;
+            return (spare != null ? spare : mapNewSegment()).buffer();
+        }
+    }
+
+    private void mapSpareSegment() {
+        synchronized (segmentLock) {
+            if (spareSegment == null)
+                spareSegment = mapNewSegment();
+        }
+    }
+
+    private MappedSegment mapNewSegment() {
+        var path = directory.resolve(segmentFileName(nextSegmentIndex++));
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new MappedSegment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create event journal segment " + path, e);
+        }
+    }
+
+    private void runSyncLoop() {
+        while (!closed) {
+            try {
+                mapSpareSegment();
+            } catch (UncheckedIOException e) {
+                Logger.getGlobal().log(Level.WARNING, "Failed to create the next event journal segment in " + directory, e);
+            }
+
+            LockSupport.parkNanos(this, syncIntervalNanos);
+            try {
+                sync();
+            } catch (UncheckedIOException e) {
+                Logger.getGlobal().log(Level.WARNING, "Failed to sync event journal in " + directory, e);
+            }
+        }
+    }
+
+    @Override
+    public void sync() {
+        // Take the current segment first - any segment retired before then is already in the queue
+        MappedByteBuffer current;
+        long target;
+        synchronized (this) {
+            current = segment;
+            target = appended;
+        }
+
+        MappedByteBuffer retired;
+        while ((retired = retiredSegments.poll()) != null) {
+            retired.force();
+        }
+
+        if (target != synced) {
+            current.force();
+            synced = target;
+        }
+    }
+
+    @Override
+    public Path directory() {
+        return directory;
+    }
+
+    @Override
+    public long appended() {
+        return appended;
+    }
+
+    @Override
+    public void close() {
+        eventBus.removeListener(listener);
+        synchronized (this) {
+            if (closed)
+                return;
+
+            closed = true;
+        }
+
+        LockSupport.unpark(syncThread);
+        try {
+            syncThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sync();
+        deleteSpareSegment();
+    }
+
+    /**
+     * Deletes the spare segment once closed, so that reopening the directory doesn't leave an empty segment between
+     * the journals.
+     */
+    private void deleteSpareSegment() {
+        MappedSegment spare;
+        synchronized (segmentLock) {
+            spare = spareSegment;
+            spareSegment = null;
+        }
+        if (spare == null)
+            return;
+
+        try {
+            Files.deleteIfExists(spare.path());
+        } catch (IOException e) {
+            // Still mapped on some platforms - it's empty, so reading skips it anyway
+            Logger.getGlobal().log(Level.FINE, "Failed to delete unused event journal segment " + spare.path(), e);
+        }
+    }
+
+    public static <T extends RecordEvent> long read(Path directory, ReplayBuffer.Codec<T> codec,
+                                                    Consumer<? super T> action) throws IOException {
+        var checksum = new CRC32();
+        long count = 0;
+        for (var path : listSegments(directory)) {
+            MappedByteBuffer segment;
+            try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+
+            int position = 0;
+            while (position <= segment.capacity() - RECORD_HEADER_SIZE) {
+                int recordSize = segment.getInt(position);
+                if (recordSize < RECORD_HEADER_SIZE || recordSize > segment.capacity() - position)
+                    break; // reached the end of the segment, or a record that was never completed
+
+                var payload = segment.slice(position + RECORD_HEADER_SIZE, recordSize - RECORD_HEADER_SIZE);
+                checksum.reset();
+                checksum.update(payload.duplicate());
+                if ((int) checksum.getValue() != segment.getInt(position + Integer.BYTES))
+                    break; // torn by a crash before the segment was fully written back
+
+                action.accept(codec.decode(payload));
+                count++;
+                position += recordSize;
+            }
+        }
+        return count;
+    }
+
+    private static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory))
+            return List.of();
+
+        try (var files = Files.list(directory)) {
+            return files.filter(path -> {
+                var name = path.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().toList();
+        }
+    }
+
+    /**
+     * Zero-padded so that segments sort in the order they were written.
+     */
+    private static String segmentFileName(long index) {
+        return SEGMENT_PREFIX + String.format(Locale.ROOT, "%016d", index) + SEGMENT_SUFFIX;
+    }
+
+    private record MappedSegment(Path path, MappedByteBuffer buffer) {}
+
+    private static long segmentIndex(Path segment) {
+        var name = segment.getFileName().toString();
+        return Long.parseLong(name, SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length(), 10);
+    }
+}
@@ -5,11 +5,14 @@
 package net.minecraftforge.eventbus.internal;
 
 import net.minecraftforge.eventbus.api.bus.CancellableEventBus;
+import net.minecraftforge.eventbus.api.bus.ResultEventBus;
 import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
 import net.minecraftforge.eventbus.api.listener.EventListener;
 import net.minecraftforge.eventbus.api.listener.ObjBooleanBiConsumer;
 import net.minecraftforge.eventbus.api.listener.Priority;
 import net.minecraftforge.eventbus.api.listener.SubscribeEvent;
+import net.minecraftforge.eventbus.api.listener.ToResultFunction;
 import org.jspecify.annotations.Nullable;
 
 import java.lang.invoke.*;
@@ -26,6 +29,7 @@ final class EventListenerFactory {
     private static final MethodType RETURNS_CONSUMER = MethodType.methodType(Consumer.class);
     private static final MethodType RETURNS_PREDICATE = MethodType.methodType(Predicate.class);
     private static final MethodType RETURNS_MONITOR = MethodType.methodType(ObjBooleanBiConsumer.class);
+    private static final MethodType RETURNS_RESULT_FUNCTION = MethodType.methodType(ToResultFunction.class);
 
     /** The method type of the {@link Consumer} functional interface ({@code void accept(Object)}) */
     private static final MethodType CONSUMER_FI_TYPE = MethodType.methodType(void.class, Object.class);
@@ -36,6 +40,9 @@ final class EventListenerFactory {
     /** The method type of the {@link ObjBooleanBiConsumer} functional interface ({@code void accept(Object, boolean)}) */
     private static final MethodType MONITOR_FI_TYPE = MethodType.methodType(void.class, Object.class, boolean.class);
 
+    /** The method type of the {@link ToResultFunction} functional interface ({@code Result apply(Object)}) */
+    private static final MethodType RESULT_FUNCTION_FI_TYPE = CONSUMER_FI_TYPE.changeReturnType(HasResult.Result.class);
+
     private static final Map<Method, MethodHandle> LMF_CACHE = new ConcurrentHashMap<>();
 
     public static Collection<EventListener> register(BusGroupImpl busGroup, MethodHandles.Lookup callerLookup,
@@ -59,7 +66,7 @@ final class EventListenerFactory {
                 continue;
 
             Class<?> returnType = method.getReturnType();
-            if (returnType != void.class && returnType != boolean.class)
+            if (returnType != void.class && returnType != boolean.class && returnType != HasResult.Result.class)
                 continue;
 
             if (!method.isAnnotationPresent(SubscribeEvent.class))
@@ -73,8 +80,10 @@ final class EventListenerFactory {
             Class<? extends Event> eventType = (Class<? extends Event>) parameterTypes[0];
             var subscribeEventAnnotation = method.getAnnotation(SubscribeEvent.class);
 
-            listeners.add(registerListener(busGroup, callerLookup, paramCount, returnType, eventType,
-                    subscribeEventAnnotation, method, listenerInstance));
+            var listener = registerListener(busGroup, callerLookup, paramCount, returnType, eventType,
+                    subscribeEventAnnotation, method, listenerInstance);
+            ListenerProfilerImpl.captureMethod(listener, method);
+            listeners.add(listener);
 
             if (firstValidListenerEventType == null)
                 firstValidListenerEventType = eventType;
@@ -143,8 +152,8 @@ final class EventListenerFactory {
                 @SuppressWarnings({"unchecked"})
                 var eventType = (Class<? extends Event>) parameterTypes[0];
 
-                if (returnType != void.class && returnType != boolean.class)
-                    throw fail(method, "Invalid return type: " + returnType.getName() + " (expected void or boolean)");
+                if (returnType != void.class && returnType != boolean.class && returnType != HasResult.Result.class)
+                    throw fail(method, "Invalid return type: " + returnType.getName() + " (expected void, boolean or Result)");
 
                 if (listenerInstance == null && !Modifier.isStatic(method.getModifiers()))
                     throw fail(method, "Listener instance is null and method is not static");
@@ -152,6 +161,12 @@ final class EventListenerFactory {
                 if (isMonitoringPriority && (returnType == boolean.class || subscribeEventAnnotation.alwaysCancelling()))
                     throw fail(method, "Monitoring listeners cannot cancel events");
 
+                if (isMonitoringPriority && returnType == HasResult.Result.class)
+                    throw fail(method, "Monitoring listeners cannot change the result of events");
+
+                if (returnType == HasResult.Result.class && !HasResult.class.isAssignableFrom(eventType))
+                    throw fail(method, "Return type Result is only valid for events with results");
+
                 if (paramCount == 2) {
                     if (!firstParamExtendsCancellable)
                         throw fail(method, "Cancellation-aware monitoring listeners are only valid for cancellable events");
@@ -171,8 +186,10 @@ final class EventListenerFactory {
                         throw fail(method, "Return type boolean is only valid for cancellable events");
                 }
 
-                listeners.add(registerListener(busGroup, callerLookup, paramCount, returnType, eventType,
-                        subscribeEventAnnotation, method, listenerInstance));
+                var listener = registerListener(busGroup, callerLookup, paramCount, returnType, eventType,
+                        subscribeEventAnnotation, method, listenerInstance);
+                ListenerProfilerImpl.captureMethod(listener, method);
+                listeners.add(listener);
 
                 if (firstValidListenerEventType == null)
                     firstValidListenerEventType = eventType;
@@ -211,6 +228,13 @@ final class EventListenerFactory {
                     return busGroup.getOrCreateEventBus(eventType)
                             .addListener(priority, createConsumer(callerLookup, method, listenerInstance));
                 }
+            } else if (returnType == HasResult.Result.class) {
+                // ToResultFunction<Event & HasResult>
+                if (!HasResult.class.isAssignableFrom(eventType))
+                    throw fail(method, "Return type Result is only valid for events with results");
+
+                return ((ResultEventBus) busGroup.getOrCreateEventBus(eventType))
+                        .addListener(priority, createResultFunction(callerLookup, method, listenerInstance));
             } else {
                 // Predicate<Event & EventCharacteristic.Cancellable>
                 if (!Cancellable.class.isAssignableFrom(eventType))
@@ -277,6 +301,23 @@ final class EventListenerFactory {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T extends Event> ToResultFunction<T> createResultFunction(MethodHandles.Lookup callerLookup,
+                                                                              Method callback, @Nullable Object instance) {
+        boolean isStatic = Modifier.isStatic(callback.getModifiers());
+        var factoryMH = getOrMakeFactory(callerLookup, callback, isStatic, instance, RETURNS_RESULT_FUNCTION, RESULT_FUNCTION_FI_TYPE, "apply");
+
+        try {
+            return isStatic
+                    ? (ToResultFunction<T>) factoryMH.invokeExact()
+                    : (ToResultFunction<T>) factoryMH.invokeExact(instance);
+        } catch (Exception e) {
+            throw makeRuntimeException(callback, e);
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static <T extends Event> ObjBooleanBiConsumer<T> createMonitor(MethodHandles.Lookup callerLookup,
                                                                            Method callback, @Nullable Object instance) {
@@ -5,9 +5,11 @@
 package net.minecraftforge.eventbus.internal;
 
 import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
 import net.minecraftforge.eventbus.api.listener.EventListener;
 import net.minecraftforge.eventbus.api.listener.ObjBooleanBiConsumer;
 import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.api.listener.ToResultFunction;
 
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -37,12 +39,22 @@ public sealed interface EventListenerImpl extends EventListener {
         }
     }
 
+    record ResultListener<T extends Event & HasResult>(
+            Class<T> eventType,
+            byte priority,
+            ToResultFunction<T> function
+    ) implements EventListenerImpl {
+        public ResultListener {
+            assert priority != Priority.MONITOR : "Monitoring listeners cannot change the result of events";
+        }
+    }
+
     record MonitoringListener<T extends Event>(
             Class<T> eventType,
             ObjBooleanBiConsumer<T> booleanBiConsumer
     ) implements EventListenerImpl {
         public MonitoringListener(Class<T> eventType, Consumer<T> listener) {
-            this(eventType, (event, wasCancelled) -> listener.accept(event));
+            this(eventType, new ConsumerMonitor<>(listener));
         }
 
         @Override
@@ -51,6 +63,18 @@ public sealed interface EventListenerImpl extends EventListener {
         }
     }
 
+    /**
+     * Adapts a monitoring listener that doesn't care whether the event was cancelled.
+     * <p>A named class rather than a lambda so that the original listener can still be identified, such as when
+     * profiling.</p>
+     */
+    record ConsumerMonitor<T extends Event>(Consumer<T> consumer) implements ObjBooleanBiConsumer<T> {
+        @Override
+        public void accept(T event, boolean wasCancelled) {
+            consumer.accept(event);
+        }
+    }
+
     record WrappedConsumerListener<T extends Event>(
             Class<T> eventType,
             byte priority,
@@ -106,4 +130,16 @@ public sealed interface EventListenerImpl extends EventListener {
                     * 31 + consumer.hashCode();
         }
     }
+
+    /**
+     * A listener on one of the primitive buses, such as an {@link net.minecraftforge.eventbus.api.bus.IntEventBus}.
+     * @param listener The listener's functional interface instance, such as an {@link java.util.function.IntConsumer}
+     *                 or {@link java.util.function.IntPredicate}. Monitoring listeners are always consumers.
+     */
+    record PrimitiveListener<L>(byte priority, L listener) implements EventListenerImpl {
+        @Override
+        public Class<? extends Event> eventType() {
+            return Event.class; // primitive buses don't have an event type
+        }
+    }
 }
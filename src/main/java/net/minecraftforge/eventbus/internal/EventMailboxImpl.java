@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.EventMailbox;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded multi-producer, single-consumer ring buffer of (bus, event) pairs.
+ * <p>Each slot has a sequence number that producers and the consumer use to hand the slot over to each other, based on
+ * Dmitry Vyukov's bounded MPMC queue with the consumer side simplified for a single thread:</p>
+ * <ul>
+ *     <li>{@code sequence == position}: the slot is free for the producer claiming that position</li>
+ *     <li>{@code sequence == position + 1}: the slot has been published and is ready for the consumer</li>
+ * </ul>
+ */
+public record EventMailboxImpl(
+        String busGroupName,
+        Thread owner,
+        @Nullable Object[] events,
+        @Nullable EventBus<?>[] buses,
+        AtomicLongArray sequences,
+        AtomicLong tail,
+        AtomicLong head
+) implements EventMailbox {
+    public EventMailboxImpl(String busGroupName, Thread owner, int capacity) {
+        this(busGroupName, owner, new Object[ceilPowerOfTwo(capacity)], new EventBus<?>[ceilPowerOfTwo(capacity)],
+                new AtomicLongArray(ceilPowerOfTwo(capacity)), new AtomicLong(), new AtomicLong());
+
+        for (int i = 0; i < sequences.length(); i++) {
+            sequences.setPlain(i, i);
+        }
+    }
+
+    @Override
+    public <T extends Event> boolean submit(EventBus<T> eventBus, T event) {
+        // The mailbox's own group can't be thread-confined, but a bus from another group could slip through without the
+        // strict checks below
+        var bus = (AbstractEventBusImpl<?, ?>) eventBus;
+        bus.checkNotThreadConfined();
+
+        if (Constants.STRICT_RUNTIME_CHECKS && !bus.busGroupName().equals(busGroupName))
+            throw new IllegalArgumentException("EventBus for " + event.getClass() + " does not belong to BusGroup \"" + busGroupName + "\"");
+
+        if (Thread.currentThread() == owner) {
+            eventBus.post(event);
+            return true;
+        }
+
+        return offer(eventBus, event);
+    }
+
+    private boolean offer(EventBus<?> eventBus, Object event) {
+        int mask = events.length - 1;
+        long position = tail.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.weakCompareAndSetVolatile(position, position + 1))
+                    break; // claimed the slot
+
+                position = tail.get();
+            } else if (difference < 0) {
+                return false; // the consumer hasn't freed the slot from the previous lap yet, so the ring is full
+            } else {
+                position = tail.get(); // another producer claimed this position first
+            }
+        }
+
+        events[index] = event;
+        buses[index] = eventBus;
+        sequences.setRelease(index, position + 1);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public int drain(int max) {
+        if (Thread.currentThread() != owner)
+            throw new IllegalStateException("EventMailbox can only be drained by its owner thread " + owner.getName());
+
+        int mask = events.length - 1;
+        int drained = 0;
+        while (drained < max) {
+            long position = head.getPlain();
+            int index = (int) (position & mask);
+            if (sequences.getAcquire(index) != position + 1)
+                break; // nothing published at this position yet
+
+            var event = events[index];
+            var eventBus = (EventBus) buses[index];
+            events[index] = null;
+            buses[index] = null;
+
+            // Hand the slot back to the producers for the next lap before posting, so that an exception thrown by a
+            // listener doesn't leave the ring in an inconsistent state
+            head.setOpaque(position + 1);
+            sequences.setRelease(index, position + events.length);
+
+            drained++;
+            Objects.requireNonNull(eventBus).post((Event) Objects.requireNonNull(event));
+        }
+        return drained;
+    }
+
+    @Override
+    public int size() {
+        long size = tail.get() - head.getOpaque();
+        return (int) Math.max(0, Math.min(size, events.length));
+    }
+
+    private static int ceilPowerOfTwo(int capacity) {
+        return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.EventPool;
+import net.minecraftforge.eventbus.api.event.MutableEvent;
+import net.minecraftforge.eventbus.api.event.characteristic.Poolable;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public record EventPoolImpl<T extends MutableEvent & Poolable>(
+        EventBus<T> eventBus,
+        Supplier<T> factory,
+        int maxPooledPerThread,
+        ThreadLocal<ArrayDeque<T>> pools,
+        LongAdder allocationCounter
+) implements EventPool<T> {
+    public EventPoolImpl(EventBus<T> eventBus, Supplier<T> factory, int maxPooledPerThread) {
+        this(eventBus, factory, maxPooledPerThread, ThreadLocal.withInitial(ArrayDeque::new), new LongAdder());
+    }
+
+    @Override
+    public T borrow() {
+        var event = pools.get().pollLast();
+        if (event == null) {
+            event = factory.get();
+            allocationCounter.increment();
+        }
+
+        event.isPoolReleased = false;
+        return event;
+    }
+
+    @Override
+    public void release(T event) {
+        if (event.isPoolReleased)
+            throw new IllegalStateException("Pooled event " + event + " has already been released");
+
+        event.isPoolReleased = true;
+        event.reset();
+
+        // Under strict checks, released instances are never handed out again so that use after release stays detectable
+        // through isReleased() and the post check, rather than the instance being silently reused by a later post
+        if (Constants.STRICT_RUNTIME_CHECKS)
+            return;
+
+        var pool = pools.get();
+        if (pool.size() < maxPooledPerThread)
+            pool.addLast(event);
+    }
+
+    @Override
+    public boolean post(Consumer<? super T> initializer) {
+        var event = borrow();
+        try {
+            initializer.accept(event);
+            return eventBus.post(event);
+        } finally {
+            release(event);
+        }
+    }
+
+    @Override
+    public long allocations() {
+        return allocationCounter.sum();
+    }
+}
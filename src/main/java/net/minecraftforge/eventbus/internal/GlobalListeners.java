@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@linkplain BusGroup#addGlobalListener global listeners} of a BusGroup, which are compiled into the invoker of
+ * every EventBus in the group as monitoring listeners after the bus's own.
+ * <p>Each BusGroup has its own instance, which is shared with all of its EventBuses.</p>
+ */
+final class GlobalListeners {
+    /**
+     * Replaced rather than modified, so that invokers can be built from it without locking.
+     */
+    private volatile List<EventListener> listeners = List.of();
+
+    /**
+     * @return The global listeners, which is usually empty
+     */
+    List<EventListener> list() {
+        return listeners;
+    }
+
+    boolean isEmpty() {
+        return listeners.isEmpty();
+    }
+
+    /**
+     * @return The monitoring listeners to build the bus's invoker with. The bus's own monitoring listeners are left out
+     *         while it has no other listeners, as they're only called alongside them, but global listeners always are.
+     */
+    static List<EventListener> monitorsOf(AbstractEventBusImpl<?, ?> eventBus) {
+        var globalListeners = eventBus.globalListeners().listeners;
+        if (eventBus.backingList().isEmpty())
+            return globalListeners;
+
+        if (globalListeners.isEmpty())
+            return eventBus.monitorBackingList();
+
+        var monitors = new ArrayList<EventListener>(eventBus.monitorBackingList().size() + globalListeners.size());
+        monitors.addAll(eventBus.monitorBackingList());
+        monitors.addAll(globalListeners);
+        return monitors;
+    }
+
+    /**
+     * Should only be called while holding the lock on the BusGroup's {@link BusGroupImpl#eventBuses() eventBuses}, so
+     * that buses created concurrently can't miss the change.
+     */
+    void add(EventListener listener) {
+        var listeners = new ArrayList<EventListener>(this.listeners.size() + 1);
+        listeners.addAll(this.listeners);
+        listeners.add(listener);
+        this.listeners = List.copyOf(listeners);
+    }
+
+    /**
+     * Should only be called while holding the lock on the BusGroup's {@link BusGroupImpl#eventBuses() eventBuses}.
+     *
+     * @return Whether the listener was a global listener of the BusGroup
+     */
+    boolean remove(EventListener listener) {
+        if (!listeners.contains(listener))
+            return false;
+
+        var listeners = new ArrayList<>(this.listeners);
+        listeners.remove(listener);
+        this.listeners = List.copyOf(listeners);
+        return true;
+    }
+
+    void clear() {
+        listeners = List.of();
+    }
+}
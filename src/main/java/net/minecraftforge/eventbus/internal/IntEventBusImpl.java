@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.IntEventBus;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.IntBooleanBiConsumer;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+public record IntEventBusImpl(
+        String busGroupName,
+        String name,
+        CallSite invokerCallSite,
+        ArrayList<EventListener> backingList,
+        ArrayList<EventListener> monitorBackingList,
+        AtomicBoolean alreadyInvalidated,
+        AtomicBoolean shutdownFlag,
+        @Nullable Thread ownerThread
+) implements IntEventBus, PrimitiveEventBusImpl<IntPredicate> {
+    public IntEventBusImpl(String busGroupName, String name, @Nullable Thread ownerThread) {
+        this(
+                busGroupName,
+                name,
+                AbstractEventBusImpl.makeInvokerCallSite(ownerThread, MethodHandles.constant(Object.class, PrimitiveInvokerFactory.INT.noOp())),
+                new ArrayList<>(),
+                new ArrayList<>(),
+                new AtomicBoolean(),
+                new AtomicBoolean(),
+                ownerThread
+        );
+    }
+
+    @Override
+    public EventListener addListener(IntConsumer listener) {
+        return addPrimitiveListener(Priority.NORMAL, listener);
+    }
+
+    @Override
+    public EventListener addListener(byte priority, IntConsumer listener) {
+        return addPrimitiveListener(priority, listener);
+    }
+
+    @Override
+    public EventListener addListener(IntPredicate listener) {
+        return addPrimitiveListener(Priority.NORMAL, listener);
+    }
+
+    @Override
+    public EventListener addListener(byte priority, IntPredicate listener) {
+        return addPrimitiveListener(priority, listener);
+    }
+
+    @Override
+    public EventListener addListener(IntBooleanBiConsumer listener) {
+        return addPrimitiveListener(Priority.MONITOR, listener);
+    }
+
+    @Override
+    public EventListener addListener(EventListener listener) {
+        return PrimitiveEventBusImpl.super.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(EventListener listener) {
+        PrimitiveEventBusImpl.super.removeListener(listener);
+    }
+
+    @Override
+    public boolean isCompatible(byte priority, Object listener) {
+        return PrimitiveInvokerFactory.INT.isCompatible(priority, listener);
+    }
+
+    @Override
+    public boolean post(int value) {
+        checkOwnerThread();
+        return getInvoker().test(value);
+    }
+
+    @Override
+    public boolean hasListeners() {
+        return PrimitiveEventBusImpl.super.hasListeners();
+    }
+
+    //region Invoker
+    @Override // overrides from PrimitiveEventBusImpl
+    public IntPredicate noOpInvoker() {
+        return PrimitiveInvokerFactory.INT.noOp();
+    }
+
+    @Override // overrides from PrimitiveEventBusImpl
+    public IntPredicate createInvoker(List<EventListener> listeners, List<EventListener> monitoringListeners) {
+        return PrimitiveInvokerFactory.INT.createInvoker(listeners, monitoringListeners);
+    }
+    //endregion
+}
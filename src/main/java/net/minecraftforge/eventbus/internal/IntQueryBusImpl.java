@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.IntQueryBus;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.internal.QueryInvokerFactory.IntQueryInvoker;
+import net.minecraftforge.eventbus.internal.QueryInvokerFactory.NumericKind;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ToIntFunction;
+
+public record IntQueryBusImpl<Q>(
+        String busGroupName,
+        String name,
+        CallSite invokerCallSite,
+        ArrayList<EventListener> backingList,
+        ArrayList<EventListener> monitorBackingList,
+        AtomicBoolean alreadyInvalidated,
+        AtomicBoolean shutdownFlag,
+        @Nullable Thread ownerThread
+) implements IntQueryBus<Q>, NumericQueryBusImpl<ToIntFunction<Q>, IntQueryInvoker<Q>> {
+    public IntQueryBusImpl(String busGroupName, String name, @Nullable Thread ownerThread) {
+        this(
+                busGroupName,
+                name,
+                AbstractEventBusImpl.makeInvokerCallSite(ownerThread, MethodHandles.constant(Object.class, QueryInvokerFactory.INT.noOp())),
+                new ArrayList<>(),
+                new ArrayList<>(),
+                new AtomicBoolean(),
+                new AtomicBoolean(),
+                ownerThread
+        );
+    }
+
+    @Override
+    public EventListener addListener(ToIntFunction<Q> listener) {
+        return addQueryListener(Priority.NORMAL, listener);
+    }
+
+    @Override
+    public EventListener addListener(byte priority, ToIntFunction<Q> listener) {
+        return addQueryListener(priority, listener);
+    }
+
+    @Override
+    public EventListener addListener(EventListener listener) {
+        return NumericQueryBusImpl.super.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(EventListener listener) {
+        NumericQueryBusImpl.super.removeListener(listener);
+    }
+
+    @Override
+    public int reduce(Q query, int identity, IntBinaryOperator combiner) {
+        checkOwnerThread();
+        return getInvoker().reduce(query, identity, combiner);
+    }
+
+    @Override
+    public int sum(Q query) {
+        return reduce(query, 0, Integer::sum);
+    }
+
+    @Override
+    public int max(Q query, int identity) {
+        return reduce(query, identity, Math::max);
+    }
+
+    @Override
+    public int min(Q query, int identity) {
+        return reduce(query, identity, Math::min);
+    }
+
+    @Override
+    public boolean hasListeners() {
+        return NumericQueryBusImpl.super.hasListeners();
+    }
+
+    @Override // overrides from NumericQueryBusImpl
+    public NumericKind<ToIntFunction<Q>, IntQueryInvoker<Q>> kind() {
+        return QueryInvokerFactory.intKind();
+    }
+}
@@ -4,11 +4,16 @@
  */
 package net.minecraftforge.eventbus.internal;
 
+import net.minecraftforge.eventbus.api.bus.EventBus;
 import net.minecraftforge.eventbus.api.event.MutableEvent;
 import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
 import net.minecraftforge.eventbus.api.listener.EventListener;
 import net.minecraftforge.eventbus.api.listener.ObjBooleanBiConsumer;
+import net.minecraftforge.eventbus.api.listener.ToResultFunction;
+import org.jspecify.annotations.Nullable;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -399,4 +404,221 @@ final class InvokerFactory {
             }
         };
     }
+
+    /**
+     * Creates an invoker for {@link HasResult} events that returns the first result other than
+     * {@link HasResult.Result#DEFAULT}, or {@code DEFAULT} if there wasn't one.
+     * <p>Threading the result through the invoker as a return value rather than storing it on the event keeps the
+     * result on the stack, in the same way as {@link #createCancellableMonitoringInvoker} does for cancellation.</p>
+     */
+    static <T extends Event & HasResult> ToResultFunction<T> createResultMonitoringInvoker(
+            Class<T> eventType,
+            int eventCharacteristics,
+            List<EventListener> listeners,
+            List<EventListener> monitoringListeners
+    ) {
+        ToResultFunction<T> resultInvoker = createResultInvoker(listeners);
+        if (monitoringListeners.isEmpty())
+            return resultInvoker;
+
+        // Monitors can't change the result, so reuse the regular monitoring invoker without any non-monitoring listeners
+        Consumer<T> monitorInvoker = createMonitoringInvoker(eventType, eventCharacteristics, List.of(), monitoringListeners);
+        return event -> {
+            var result = resultInvoker.apply(event);
+            monitorInvoker.accept(event);
+            return result;
+        };
+    }
+
+    private static <T extends Event & HasResult> ToResultFunction<T> createResultInvoker(List<EventListener> listeners) {
+        // If none of the listeners can decide the result, skip checking for one. As with cancellable events, the
+        // consumers can't be wrapped in a function of a different type without a large slowdown, so the code of
+        // createInvoker() is duplicated here instead
+        if (listeners.stream().noneMatch(EventListenerImpl.ResultListener.class::isInstance))
+            return createResultInvokerFromUnwrappedNoChecks(InvokerFactoryUtils.unwrapConsumers(listeners));
+
+        List<ToResultFunction<T>> unwrappedListeners = InvokerFactoryUtils.unwrapResultFunctions(listeners);
+        return switch (unwrappedListeners.size()) {
+            case 1 -> unwrappedListeners.getFirst(); // Direct call
+            case 2 -> {
+                var first = unwrappedListeners.getFirst();
+                var second = unwrappedListeners.getLast();
+                yield event -> {
+                    var result = first.apply(event);
+                    return result != HasResult.Result.DEFAULT ? result : second.apply(event);
+                };
+            }
+
+            case 3 -> {
+                var first = unwrappedListeners.getFirst(); // 0
+                var second = unwrappedListeners.get(1);
+                var third = unwrappedListeners.getLast(); // 2
+                yield event -> {
+                    var result = first.apply(event);
+                    if (result != HasResult.Result.DEFAULT)
+                        return result;
+
+                    result = second.apply(event);
+                    return result != HasResult.Result.DEFAULT ? result : third.apply(event);
+                };
+            }
+
+            default -> {
+                @SuppressWarnings("unchecked")
+                ToResultFunction<T>[] listenersArray = unwrappedListeners.toArray(new ToResultFunction[0]);
+                yield event -> {
+                    for (ToResultFunction<T> listener : listenersArray) {
+                        var result = listener.apply(event);
+                        if (result != HasResult.Result.DEFAULT)
+                            return result;
+                    }
+                    return HasResult.Result.DEFAULT;
+                };
+            }
+        };
+    }
+
+    /**
+     * Same as {@link #createInvokerFromUnwrapped(List)} but returns a {@link ToResultFunction} instead of a
+     * {@link Consumer}, for when none of the listeners can decide the result.
+     * <p>See the code comments inside {@link #createCancellableInvoker(List)} for an explainer as to why this exists.</p>
+     */
+    private static <T extends Event & HasResult> ToResultFunction<T> createResultInvokerFromUnwrappedNoChecks(List<Consumer<T>> listeners) {
+        return switch (listeners.size()) {
+            case 0 -> Constants.getNoOpResultFunction();
+            case 1 -> {
+                var first = listeners.getFirst();
+                yield event -> {
+                    first.accept(event);
+                    return HasResult.Result.DEFAULT;
+                };
+            }
+            case 2 -> {
+                var first = listeners.getFirst();
+                var second = listeners.getLast();
+                yield event -> {
+                    first.accept(event);
+                    second.accept(event);
+                    return HasResult.Result.DEFAULT;
+                };
+            }
+
+            case 3 -> {
+                var first = listeners.getFirst(); // 0
+                var second = listeners.get(1);
+                var third = listeners.getLast(); // 2
+                yield event -> {
+                    first.accept(event);
+                    second.accept(event);
+                    third.accept(event);
+                    return HasResult.Result.DEFAULT;
+                };
+            }
+            case 4 -> {
+                var first = listeners.getFirst(); // 0
+                var second = listeners.get(1);
+                var third = listeners.get(2);
+                var fourth = listeners.getLast(); // 3
+                yield event -> {
+                    first.accept(event);
+                    second.accept(event);
+                    third.accept(event);
+                    fourth.accept(event);
+                    return HasResult.Result.DEFAULT;
+                };
+            }
+
+            default -> {
+                @SuppressWarnings("unchecked")
+                Consumer<T>[] listenersArray = listeners.toArray(new Consumer[0]);
+                yield event -> {
+                    for (Consumer<T> listener : listenersArray) {
+                        listener.accept(event);
+                    }
+                    return HasResult.Result.DEFAULT;
+                };
+            }
+        };
+    }
+
+    /**
+     * Describes the shape of the invoker that the {@code create*MonitoringInvoker} methods build for the given
+     * listeners, such as {@code "unrolled(3)+monitors(1)"}, for diagnostics.
+     */
+    static String describeStrategy(int eventCharacteristics, List<EventListener> listeners,
+                                   List<EventListener> monitoringListeners, boolean invokesWithoutListeners) {
+        return describeInvoker(Object.class, eventCharacteristics, listeners, monitoringListeners,
+                invokesWithoutListeners, null).strategy();
+    }
+
+    /**
+     * Describes the invoker that the {@code create*MonitoringInvoker} methods build for the given listeners.
+     * <p>Must be kept in sync with the size thresholds of the switches above.</p>
+     *
+     * @param invokesWithoutListeners Whether the bus builds an invoker even without any non-monitoring listeners, as
+     *                                per {@link AbstractEventBusImpl#invokesWithoutListeners()}
+     */
+    static EventBus.InvokerDescription describeInvoker(Class<?> eventType, int eventCharacteristics,
+                                                       List<EventListener> listeners,
+                                                       List<EventListener> monitoringListeners,
+                                                       boolean invokesWithoutListeners,
+                                                       @Nullable Instant builtAt) {
+        int count = listeners.size();
+        int unwrappedCount = count;
+        String strategy;
+        if (count == 0) {
+            strategy = invokesWithoutListeners ? "empty" : "noOp";
+        } else if (Constants.isCancellable(eventCharacteristics)) {
+            if (count <= UNWRAP_CANCELLABLE_THRESHOLD
+                    && listeners.stream().allMatch(EventListenerImpl.WrappedConsumerListener.class::isInstance)) {
+                // mirrors InvokerFactoryUtils#unwrapAlwaysCancellingConsumers
+                for (int i = 0; i < count; i++) {
+                    if (((EventListenerImpl.WrappedConsumerListener<?>) listeners.get(i)).alwaysCancelling()) {
+                        unwrappedCount = i + 1;
+                        break;
+                    }
+                }
+                strategy = "noCancelChecks+" + describeShape(unwrappedCount, 0, 4);
+            } else {
+                strategy = describeShape(count, 2, 3);
+            }
+        } else if (Constants.hasResult(eventCharacteristics)) {
+            strategy = listeners.stream().anyMatch(EventListenerImpl.ResultListener.class::isInstance)
+                    ? describeShape(count, 1, 3)
+                    : describeShape(count, 0, 4);
+        } else {
+            strategy = describeShape(count, 2, 4);
+        }
+
+        EventBus.InvokerDescription.MonitorMode monitorMode;
+        if (monitoringListeners.isEmpty() || (count == 0 && !invokesWithoutListeners)) {
+            // buses without non-monitoring listeners usually use the no-op invoker, which doesn't call monitors either
+            monitorMode = EventBus.InvokerDescription.MonitorMode.NONE;
+        } else {
+            strategy += "+monitors(" + monitoringListeners.size() + ')';
+            monitorMode = Constants.isMonitorAware(eventCharacteristics)
+                    ? EventBus.InvokerDescription.MonitorMode.MONITOR_AWARE
+                    : EventBus.InvokerDescription.MonitorMode.PLAIN;
+        }
+
+        return new EventBus.InvokerDescription(eventType, strategy, count, unwrappedCount, unwrappedCount < count,
+                monitoringListeners.size(), monitorMode, builtAt);
+    }
+
+    /**
+     * @param maxComposed The highest listener count composed with {@code andThen}/{@code or}, or 1 if never composed
+     * @param maxUnrolled The highest listener count with a manually unrolled invoker, above which a loop is used
+     */
+    private static String describeShape(int count, int maxComposed, int maxUnrolled) {
+        if (count == 0)
+            return "noOp";
+        else if (count == 1)
+            return "direct";
+        else if (count <= maxComposed)
+            return "composed(" + count + ')';
+        else if (count <= maxUnrolled)
+            return "unrolled(" + count + ')';
+        else
+            return "loop(" + count + ')';
+    }
 }
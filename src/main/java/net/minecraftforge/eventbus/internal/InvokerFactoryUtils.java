@@ -5,8 +5,10 @@
 package net.minecraftforge.eventbus.internal;
 
 import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
 import net.minecraftforge.eventbus.api.listener.EventListener;
 import net.minecraftforge.eventbus.api.listener.ObjBooleanBiConsumer;
+import net.minecraftforge.eventbus.api.listener.ToResultFunction;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -72,6 +74,25 @@ final class InvokerFactoryUtils {
         return unwrappedPredicates;
     }
 
+    static <T extends Event & HasResult> List<ToResultFunction<T>> unwrapResultFunctions(List<EventListener> listeners) {
+        var unwrappedFunctions = new ArrayList<ToResultFunction<T>>(listeners.size());
+        for (var listener : listeners) {
+            if (listener instanceof EventListenerImpl.ResultListener<?> resultListener) {
+                unwrappedFunctions.add(uncheckedCast(resultListener.function()));
+            } else if (listener instanceof EventListenerImpl.HasConsumer<?> consumerListener) {
+                // Only consumers mixed in with result functions get here, so they need to share the same type
+                Consumer<T> consumer = uncheckedCast(consumerListener.consumer());
+                unwrappedFunctions.add(event -> {
+                    consumer.accept(event);
+                    return HasResult.Result.DEFAULT;
+                });
+            } else {
+                throw new IllegalStateException("Unexpected listener type: " + listener.getClass());
+            }
+        }
+        return unwrappedFunctions;
+    }
+
     static <T extends Event> List<ObjBooleanBiConsumer<T>> unwrapMonitors(List<EventListener> monitoringListeners) {
         return monitoringListeners.stream()
                 .map(EventListenerImpl.MonitoringListener.class::cast)
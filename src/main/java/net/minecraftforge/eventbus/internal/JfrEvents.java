@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.listener.ToResultFunction;
+import org.jspecify.annotations.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Custom JDK Flight Recorder events, shown under "EventBus" in JDK Mission Control.
+ * <p>Posting is only instrumented while a recording has the {@link Post} event enabled. Invokers are wrapped with an
+ * instrumented invoker when they're built, and the invokers of every bus are invalidated whenever a recording starts or
+ * stops so that they're rebuilt with or without the wrapper. Without a recording, posts go straight to the same
+ * invoker as they would if this class didn't exist.</p>
+ * <p>The buses of thread-confined BusGroups can't be invalidated from the thread that JFR notifies, so they compare
+ * the {@linkplain #recordingEpoch() recording epoch} on their owner thread before each post instead, and invalidate
+ * their own invoker once it has changed.</p>
+ * <p>The other events are emitted from code paths that are already slow, so are left to JFR's own enabled checks.</p>
+ * <p>The {@code jdk.jfr} module is optional, so the methods of this class don't mention any of its types and only touch
+ * them through {@link Recorder} if {@link Constants#JFR_AVAILABLE}. The events are passed around as plain objects,
+ * which are null if JFR isn't available.</p>
+ */
+final class JfrEvents {
+    private JfrEvents() {}
+
+    private static final String CATEGORY = "EventBus";
+
+    /** Bumped whenever a recording starts or stops. */
+    private static final AtomicInteger RECORDING_EPOCH = new AtomicInteger();
+
+    // The fields of each event are only set once it's known to be committed, so they're null until then
+
+    @Name("net.minecraftforge.eventbus.EventBusPost")
+    @Label("EventBus Post")
+    @Description("An event being posted to its listeners")
+    @Category(CATEGORY)
+    static final class Post extends jdk.jfr.Event {
+        @Label("Bus Group")
+        @Nullable String busGroup;
+
+        @Label("Event Type")
+        @Nullable Class<?> eventType;
+
+        @Label("Cancelled")
+        boolean cancelled;
+
+        @Label("Result")
+        @Description("The result decided by the listeners, for events with a result")
+        @Nullable String result;
+    }
+
+    @Name("net.minecraftforge.eventbus.InvokerRebuild")
+    @Label("EventBus Invoker Rebuild")
+    @Description("An EventBus rebuilding its invoker after its listeners changed")
+    @Category(CATEGORY)
+    static final class InvokerRebuild extends jdk.jfr.Event {
+        @Label("Bus Group")
+        @Nullable String busGroup;
+
+        @Label("Event Type")
+        @Nullable Class<?> eventType;
+
+        @Label("Listener Count")
+        int listenerCount;
+
+        @Label("Monitoring Listener Count")
+        int monitoringListenerCount;
+
+        @Label("Strategy")
+        @Nullable String strategy;
+    }
+
+    @Name("net.minecraftforge.eventbus.ListenerRegistration")
+    @Label("EventBus Listener Registration")
+    @Description("A class's @SubscribeEvent methods being registered to a BusGroup, including LambdaMetafactory spinning")
+    @Category(CATEGORY)
+    static final class ListenerRegistration extends jdk.jfr.Event {
+        @Label("Bus Group")
+        @Nullable String busGroup;
+
+        @Label("Listener Class")
+        @Nullable Class<?> listenerClass;
+
+        @Label("Method Count")
+        int methodCount;
+    }
+
+    @Name("net.minecraftforge.eventbus.BusShutdown")
+    @Label("EventBus Shutdown")
+    @Description("A BusGroup being shut down")
+    @Category(CATEGORY)
+    static final class BusShutdown extends jdk.jfr.Event {
+        @Label("Bus Group")
+        @Nullable String busGroup;
+
+        @Label("Bus Count")
+        int busCount;
+    }
+
+    @Name("net.minecraftforge.eventbus.BusDispose")
+    @Label("EventBus Dispose")
+    @Description("A BusGroup being disposed")
+    @Category(CATEGORY)
+    static final class BusDispose extends jdk.jfr.Event {
+        @Label("Bus Group")
+        @Nullable String busGroup;
+
+        @Label("Bus Count")
+        int busCount;
+    }
+
+    //region Posting
+    static <T extends Event> Consumer<T> instrumentPost(String busGroup, Class<T> eventType, Consumer<T> invoker) {
+        return Constants.JFR_AVAILABLE ? Recorder.instrumentPost(busGroup, eventType, invoker) : invoker;
+    }
+
+    static <T extends Event> Predicate<T> instrumentCancellablePost(String busGroup, Class<T> eventType,
+                                                                    Predicate<T> invoker) {
+        return Constants.JFR_AVAILABLE ? Recorder.instrumentCancellablePost(busGroup, eventType, invoker) : invoker;
+    }
+
+    static <T extends Event> ToResultFunction<T> instrumentResultPost(String busGroup, Class<T> eventType,
+                                                                      ToResultFunction<T> invoker) {
+        return Constants.JFR_AVAILABLE ? Recorder.instrumentResultPost(busGroup, eventType, invoker) : invoker;
+    }
+    //endregion
+
+    /**
+     * @return A number that changes whenever a recording starts or stops, for buses that can't be invalidated by the
+     *         recording listener to tell whether their invoker is out of date
+     */
+    static int recordingEpoch() {
+        return RECORDING_EPOCH.get();
+    }
+
+    static @Nullable Object beginInvokerRebuild() {
+        return Constants.JFR_AVAILABLE ? Recorder.beginInvokerRebuild() : null;
+    }
+
+    static void commitInvokerRebuild(@Nullable Object jfrEvent, AbstractEventBusImpl<?, ?> eventBus) {
+        if (jfrEvent != null)
+            Recorder.commitInvokerRebuild((InvokerRebuild) jfrEvent, eventBus);
+    }
+
+    static @Nullable Object beginListenerRegistration() {
+        return Constants.JFR_AVAILABLE ? Recorder.beginListenerRegistration() : null;
+    }
+
+    static void commitListenerRegistration(@Nullable Object jfrEvent, String busGroup, Class<?> listenerClass,
+                                           int methodCount) {
+        if (jfrEvent != null)
+            Recorder.commitListenerRegistration((ListenerRegistration) jfrEvent, busGroup, listenerClass, methodCount);
+    }
+
+    static @Nullable Object beginBusShutdown() {
+        return Constants.JFR_AVAILABLE ? Recorder.beginBusShutdown() : null;
+    }
+
+    static void commitBusShutdown(@Nullable Object jfrEvent, String busGroup, int busCount) {
+        if (jfrEvent != null)
+            Recorder.commitBusShutdown((BusShutdown) jfrEvent, busGroup, busCount);
+    }
+
+    static @Nullable Object beginBusDispose() {
+        return Constants.JFR_AVAILABLE ? Recorder.beginBusDispose() : null;
+    }
+
+    static void commitBusDispose(@Nullable Object jfrEvent, String busGroup, int busCount) {
+        if (jfrEvent != null)
+            Recorder.commitBusDispose((BusDispose) jfrEvent, busGroup, busCount);
+    }
+
+    /**
+     * Everything that uses the {@code jdk.jfr} API, which is only loaded once {@link Constants#JFR_AVAILABLE} has been
+     * checked.
+     */
+    private static final class Recorder {
+        private Recorder() {}
+
+        private static final EventType POST_EVENT_TYPE = EventType.getEventType(Post.class);
+
+        static {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recordingStateChanged(Recording recording) {
+                    RECORDING_EPOCH.incrementAndGet();
+                    BusGroupImpl.invalidateAllInvokers();
+                }
+            });
+        }
+
+        // Each event is created here rather than by the caller, so that verifying JfrEvents doesn't load them
+        private static Object beginInvokerRebuild() {
+            return begin(new InvokerRebuild());
+        }
+
+        private static Object beginListenerRegistration() {
+            return begin(new ListenerRegistration());
+        }
+
+        private static Object beginBusShutdown() {
+            return begin(new BusShutdown());
+        }
+
+        private static Object beginBusDispose() {
+            return begin(new BusDispose());
+        }
+
+        private static jdk.jfr.Event begin(jdk.jfr.Event jfrEvent) {
+            jfrEvent.begin();
+            return jfrEvent;
+        }
+
+        //region Posting
+        private static <T extends Event> Consumer<T> instrumentPost(String busGroup, Class<T> eventType,
+                                                                    Consumer<T> invoker) {
+            if (!POST_EVENT_TYPE.isEnabled())
+                return invoker;
+
+            return event -> {
+                var jfrEvent = new Post();
+                jfrEvent.begin();
+                invoker.accept(event);
+                jfrEvent.end();
+                if (jfrEvent.shouldCommit()) {
+                    jfrEvent.busGroup = busGroup;
+                    jfrEvent.eventType = eventType;
+                    jfrEvent.commit();
+                }
+            };
+        }
+
+        private static <T extends Event> Predicate<T> instrumentCancellablePost(String busGroup, Class<T> eventType,
+                                                                                Predicate<T> invoker) {
+            if (!POST_EVENT_TYPE.isEnabled())
+                return invoker;
+
+            return event -> {
+                var jfrEvent = new Post();
+                jfrEvent.begin();
+                boolean cancelled = invoker.test(event);
+                jfrEvent.end();
+                if (jfrEvent.shouldCommit()) {
+                    jfrEvent.busGroup = busGroup;
+                    jfrEvent.eventType = eventType;
+                    jfrEvent.cancelled = cancelled;
+                    jfrEvent.commit();
+                }
+                return cancelled;
+            };
+        }
+
+        private static <T extends Event> ToResultFunction<T> instrumentResultPost(String busGroup, Class<T> eventType,
+                                                                                  ToResultFunction<T> invoker) {
+            if (!POST_EVENT_TYPE.isEnabled())
+                return invoker;
+
+            return event -> {
+                var jfrEvent = new Post();
+                jfrEvent.begin();
+                var result = invoker.apply(event);
+                jfrEvent.end();
+                if (jfrEvent.shouldCommit()) {
+                    jfrEvent.busGroup = busGroup;
+                    jfrEvent.eventType = eventType;
+                    jfrEvent.result = result.name();
+                    jfrEvent.commit();
+                }
+                return result;
+            };
+        }
+        //endregion
+
+        private static void commitInvokerRebuild(InvokerRebuild jfrEvent, AbstractEventBusImpl<?, ?> eventBus) {
+            jfrEvent.end();
+            if (!jfrEvent.shouldCommit())
+                return;
+
+            jfrEvent.busGroup = eventBus.busGroupName();
+            jfrEvent.eventType = eventBus.eventType();
+            jfrEvent.listenerCount = eventBus.backingList().size();
+            jfrEvent.monitoringListenerCount = eventBus.monitorBackingList().size();
+            jfrEvent.strategy = InvokerFactory.describeStrategy(
+                    eventBus.eventCharacteristics(), eventBus.backingList(), GlobalListeners.monitorsOf(eventBus),
+                    eventBus.invokesWithoutListeners()
+            );
+            jfrEvent.commit();
+        }
+
+        private static void commitListenerRegistration(ListenerRegistration jfrEvent, String busGroup,
+                                                       Class<?> listenerClass, int methodCount) {
+            jfrEvent.end();
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.busGroup = busGroup;
+                jfrEvent.listenerClass = listenerClass;
+                jfrEvent.methodCount = methodCount;
+                jfrEvent.commit();
+            }
+        }
+
+        private static void commitBusShutdown(BusShutdown jfrEvent, String busGroup, int busCount) {
+            jfrEvent.end();
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.busGroup = busGroup;
+                jfrEvent.busCount = busCount;
+                jfrEvent.commit();
+            }
+        }
+
+        private static void commitBusDispose(BusDispose jfrEvent, String busGroup, int busCount) {
+            jfrEvent.end();
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.busGroup = busGroup;
+                jfrEvent.busCount = busCount;
+                jfrEvent.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds, striped by thread so that listeners called concurrently from
+ * several threads don't contend on the same counters.
+ * <p>Buckets are log-linear: each power of two is split into {@value #SUB_BUCKETS} equal sub-buckets, so a recorded
+ * value is reported within 12.5% of its true value. Values above about 18 minutes are clamped.</p>
+ */
+final class LatencyHistogram implements TimedListeners.Timer {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_VALUE_BITS = 40;
+    private static final long MAX_TRACKED_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    static final int BUCKETS = SUB_BUCKETS + (MAX_VALUE_BITS - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private static final int COUNT = 0, TOTAL = 1, MAX = 2, FIRST_BUCKET = 3;
+    private static final int STRIPE_LENGTH = FIRST_BUCKET + BUCKETS;
+    private static final int STRIPES = Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 4));
+
+    private final AtomicLongArray stripes = new AtomicLongArray(STRIPES * STRIPE_LENGTH);
+
+    @Override
+    public boolean sample() {
+        return true;
+    }
+
+    @Override
+    public void record(long nanos) {
+        int stripe = ((int) Thread.currentThread().threadId() & (STRIPES - 1)) * STRIPE_LENGTH;
+        stripes.getAndIncrement(stripe + COUNT);
+        stripes.getAndAdd(stripe + TOTAL, nanos);
+        stripes.getAndIncrement(stripe + FIRST_BUCKET + bucketIndex(nanos));
+
+        long max;
+        while (nanos > (max = stripes.getPlain(stripe + MAX)) && !stripes.weakCompareAndSetVolatile(stripe + MAX, max, nanos)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    void reset() {
+        for (int i = 0; i < stripes.length(); i++) {
+            stripes.set(i, 0);
+        }
+    }
+
+    /**
+     * Merges the stripes into a consistent-enough view. Values recorded concurrently with the snapshot may be counted
+     * in some fields but not others.
+     */
+    Snapshot snapshot() {
+        long count = 0, total = 0, max = 0;
+        var buckets = new long[BUCKETS];
+        for (int stripe = 0; stripe < stripes.length(); stripe += STRIPE_LENGTH) {
+            count += stripes.get(stripe + COUNT);
+            total += stripes.get(stripe + TOTAL);
+            max = Math.max(max, stripes.get(stripe + MAX));
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] += stripes.get(stripe + FIRST_BUCKET + i);
+            }
+        }
+        return new Snapshot(count, total, max, buckets);
+    }
+
+    record Snapshot(long count, long totalNanos, long maxNanos, long[] buckets) {
+        /**
+         * @param quantile Between 0 and 1, such as 0.99 for the 99th percentile
+         * @return The highest value in the bucket that holds the given quantile, capped at the max recorded value
+         */
+        long percentile(double quantile) {
+            long bucketTotal = 0;
+            for (long bucketCount : buckets) {
+                bucketTotal += bucketCount;
+            }
+            if (bucketTotal == 0)
+                return 0;
+
+            long target = Math.max(1, (long) Math.ceil(quantile * bucketTotal));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= target)
+                    return Math.min(highestValueInBucket(i), maxNanos);
+            }
+            return maxNanos;
+        }
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS)
+            return (int) Math.max(value, 0);
+
+        value = Math.min(value, MAX_TRACKED_VALUE);
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    static long highestValueInBucket(int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        long subBucket = SUB_BUCKETS + (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.ListenerProfiler;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class ListenerProfilerImpl implements ListenerProfiler {
+    /**
+     * The methods that listeners were registered from, captured at registration as the classes spun by
+     * LambdaMetafactory don't say which method they call.
+     */
+    private static final Map<EventListener, Method> REGISTERED_METHODS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** Keyed by identity, as the buses are records whose equality depends on their mutable listener lists. */
+    private static final Map<AbstractEventBusImpl<?, ?>, ListenerProfilerImpl> PROFILED_BUSES =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private final List<AbstractEventBusImpl<?, ?>> eventBuses;
+    private final ConcurrentHashMap<EventListener, ListenerTimings> timings = new ConcurrentHashMap<>();
+
+    private record ListenerTimings(
+            Class<?> eventType,
+            String declaringClass,
+            String methodName,
+            byte priority,
+            LatencyHistogram histogram
+    ) {}
+
+    public ListenerProfilerImpl(List<AbstractEventBusImpl<?, ?>> eventBuses) {
+        this.eventBuses = eventBuses;
+        synchronized (PROFILED_BUSES) {
+            for (var eventBus : eventBuses) {
+                if (PROFILED_BUSES.containsKey(eventBus))
+                    throw new IllegalStateException("The EventBus for " + eventBus.eventType() + " is already being profiled");
+            }
+
+            for (var eventBus : eventBuses) {
+                PROFILED_BUSES.put(eventBus, this);
+            }
+        }
+
+        for (var eventBus : eventBuses) {
+            TimedListeners.invalidateInvoker(eventBus);
+        }
+    }
+
+    static void captureMethod(EventListener listener, Method method) {
+        REGISTERED_METHODS.put(listener, method);
+    }
+
+    /**
+     * @return The profiler of the given bus, or null if it isn't being profiled
+     */
+    static @Nullable ListenerProfilerImpl of(AbstractEventBusImpl<?, ?> eventBus) {
+        return PROFILED_BUSES.isEmpty() ? null : PROFILED_BUSES.get(eventBus);
+    }
+
+    TimedListeners.Timer timerFor(EventListener listener) {
+        return timings.computeIfAbsent(listener, ListenerProfilerImpl::makeTimings).histogram();
+    }
+
+    /**
+     * @return The timings recorded for the listener, or null if it hasn't been called since profiling started
+     */
+    LatencyHistogram.@Nullable Snapshot timingsOf(EventListener listener) {
+        var listenerTimings = timings.get(listener);
+        return listenerTimings == null ? null : listenerTimings.histogram().snapshot();
+    }
+
+    private static ListenerTimings makeTimings(EventListener listener) {
+        var source = ListenerSource.of(listener);
+        return new ListenerTimings(listener.eventType(), source.declaringClass(), source.methodName(),
+                listener.priority(), new LatencyHistogram());
+    }
+
+    /**
+     * Where a listener was declared, for identifying it in diagnostics.
+     *
+     * @param methodName The name of the {@code @SubscribeEvent} method, {@code "lambda"} for listeners added directly
+     *                   as lambdas or method references, or {@code "<unknown>"}
+     */
+    record ListenerSource(String declaringClass, String methodName) {
+        static ListenerSource of(EventListener listener) {
+            var method = REGISTERED_METHODS.get(listener);
+            if (method != null)
+                return new ListenerSource(method.getDeclaringClass().getName(), method.getName());
+
+            Object function = switch (listener) {
+                case EventListenerImpl.HasConsumer<?> consumerListener -> consumerListener.consumer();
+                case EventListenerImpl.HasPredicate<?> predicateListener -> predicateListener.predicate();
+                case EventListenerImpl.ResultListener<?> resultListener -> resultListener.function();
+                case EventListenerImpl.MonitoringListener<?> monitoringListener ->
+                        monitoringListener.booleanBiConsumer() instanceof EventListenerImpl.ConsumerMonitor<?> consumerMonitor
+                                ? consumerMonitor.consumer()
+                                : monitoringListener.booleanBiConsumer();
+                default -> listener;
+            };
+
+            // Lambdas and method references are spun into hidden classes named after the class they were written in
+            var className = function.getClass().getName();
+            int lambdaSuffix = className.indexOf("$$Lambda");
+            return lambdaSuffix >= 0
+                    ? new ListenerSource(className.substring(0, lambdaSuffix), "lambda")
+                    : new ListenerSource(className, "<unknown>");
+        }
+    }
+
+    @Override
+    public List<ListenerStats> snapshot() {
+        var stats = new ArrayList<ListenerStats>(timings.size());
+        for (var listenerTimings : timings.values()) {
+            var histogram = listenerTimings.histogram().snapshot();
+            if (histogram.count() == 0)
+                continue;
+
+            stats.add(new ListenerStats(
+                    listenerTimings.eventType(),
+                    listenerTimings.declaringClass(),
+                    listenerTimings.methodName(),
+                    listenerTimings.priority(),
+                    histogram.count(),
+                    histogram.totalNanos(),
+                    histogram.percentile(0.5),
+                    histogram.percentile(0.99),
+                    histogram.maxNanos()
+            ));
+        }
+        stats.sort(Comparator.comparingLong(ListenerStats::totalNanos).reversed());
+        return stats;
+    }
+
+    @Override
+    public void reset() {
+        for (var listenerTimings : timings.values()) {
+            listenerTimings.histogram().reset();
+        }
+    }
+
+    @Override
+    public void close() {
+        for (var eventBus : eventBuses) {
+            if (PROFILED_BUSES.remove(eventBus, this))
+                TimedListeners.invalidateInvoker(eventBus);
+        }
+    }
+}
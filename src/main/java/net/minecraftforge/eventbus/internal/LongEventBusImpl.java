@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.LongEventBus;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.LongBooleanBiConsumer;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+public record LongEventBusImpl(
+        String busGroupName,
+        String name,
+        CallSite invokerCallSite,
+        ArrayList<EventListener> backingList,
+        ArrayList<EventListener> monitorBackingList,
+        AtomicBoolean alreadyInvalidated,
+        AtomicBoolean shutdownFlag,
+        @Nullable Thread ownerThread
+) implements LongEventBus, PrimitiveEventBusImpl<LongPredicate> {
+    public LongEventBusImpl(String busGroupName, String name, @Nullable Thread ownerThread) {
+        this(
+                busGroupName,
+                name,
+                AbstractEventBusImpl.makeInvokerCallSite(ownerThread, MethodHandles.constant(Object.class, PrimitiveInvokerFactory.LONG.noOp())),
+                new ArrayList<>(),
+                new ArrayList<>(),
+                new AtomicBoolean(),
+                new AtomicBoolean(),
+                ownerThread
+        );
+    }
+
+    @Override
+    public EventListener addListener(LongConsumer listener) {
+        return addPrimitiveListener(Priority.NORMAL, listener);
+    }
+
+    @Override
+    public EventListener addListener(byte priority, LongConsumer listener) {
+        return addPrimitiveListener(priority, listener);
+    }
+
+    @Override
+    public EventListener addListener(LongPredicate listener) {
+        return addPrimitiveListener(Priority.NORMAL, listener);
+    }
+
+    @Override
+    public EventListener addListener(byte priority, LongPredicate listener) {
+        return addPrimitiveListener(priority, listener);
+    }
+
+    @Override
+    public EventListener addListener(LongBooleanBiConsumer listener) {
+        return addPrimitiveListener(Priority.MONITOR, listener);
+    }
+
+    @Override
+    public EventListener addListener(EventListener listener) {
+        return PrimitiveEventBusImpl.super.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(EventListener listener) {
+        PrimitiveEventBusImpl.super.removeListener(listener);
+    }
+
+    @Override
+    public boolean isCompatible(byte priority, Object listener) {
+        return PrimitiveInvokerFactory.LONG.isCompatible(priority, listener);
+    }
+
+    @Override
+    public boolean post(long value) {
+        checkOwnerThread();
+        return getInvoker().test(value);
+    }
+
+    @Override
+    public boolean hasListeners() {
+        return PrimitiveEventBusImpl.super.hasListeners();
+    }
+
+    //region Invoker
+    @Override // overrides from PrimitiveEventBusImpl
+    public LongPredicate noOpInvoker() {
+        return PrimitiveInvokerFactory.LONG.noOp();
+    }
+
+    @Override // overrides from PrimitiveEventBusImpl
+    public LongPredicate createInvoker(List<EventListener> listeners, List<EventListener> monitoringListeners) {
+        return PrimitiveInvokerFactory.LONG.createInvoker(listeners, monitoringListeners);
+    }
+    //endregion
+}
@@ -6,10 +6,16 @@ package net.minecraftforge.eventbus.internal;
 
 import net.minecraftforge.eventbus.api.event.MutableEvent;
 import net.minecraftforge.eventbus.api.event.characteristic.MonitorAware;
+import net.minecraftforge.eventbus.api.event.characteristic.Poolable;
 
 public sealed abstract class MutableEventInternals permits MutableEvent {
     /**
      * @see MonitorAware
      */
     public transient boolean isMonitoring;
+
+    /**
+     * @see Poolable
+     */
+    public transient boolean isPoolReleased;
 }
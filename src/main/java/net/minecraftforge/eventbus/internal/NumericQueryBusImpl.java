@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.internal.QueryInvokerFactory.NumericKind;
+
+import java.util.List;
+
+/**
+ * The shared internals of the {@link net.minecraftforge.eventbus.api.bus.IntQueryBus} and
+ * {@link net.minecraftforge.eventbus.api.bus.DoubleQueryBus} implementations, which only differ in their primitive type.
+ *
+ * @param <F> The listener function type, such as {@link java.util.function.ToIntFunction}
+ * @param <I> The invoker type, such as {@link QueryInvokerFactory.IntQueryInvoker}
+ */
+sealed interface NumericQueryBusImpl<F, I> extends PrimitiveEventBusImpl<I> permits DoubleQueryBusImpl, IntQueryBusImpl {
+    NumericKind<F, I> kind();
+
+    @Override
+    default boolean isCompatible(byte priority, Object listener) {
+        return kind().isCompatible(priority, listener);
+    }
+
+    //region Invoker
+    @Override
+    default I noOpInvoker() {
+        return kind().noOp();
+    }
+
+    @Override
+    default I createInvoker(List<EventListener> listeners, List<EventListener> monitoringListeners) {
+        return kind().createInvoker(listeners);
+    }
+    //endregion
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.ObjIntEventBus;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.ObjIntBooleanConsumer;
+import net.minecraftforge.eventbus.api.listener.ObjIntPredicate;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ObjIntConsumer;
+
+public record ObjIntEventBusImpl<S>(
+        String busGroupName,
+        String name,
+        CallSite invokerCallSite,
+        ArrayList<EventListener> backingList,
+        ArrayList<EventListener> monitorBackingList,
+        AtomicBoolean alreadyInvalidated,
+        AtomicBoolean shutdownFlag,
+        @Nullable Thread ownerThread
+) implements ObjIntEventBus<S>, PrimitiveEventBusImpl<ObjIntPredicate<S>> {
+    public ObjIntEventBusImpl(String busGroupName, String name, @Nullable Thread ownerThread) {
+        this(
+                busGroupName,
+                name,
+                AbstractEventBusImpl.makeInvokerCallSite(ownerThread, MethodHandles.constant(Object.class, PrimitiveInvokerFactory.OBJ_INT.noOp())),
+                new ArrayList<>(),
+                new ArrayList<>(),
+                new AtomicBoolean(),
+                new AtomicBoolean(),
+                ownerThread
+        );
+    }
+
+    @Override
+    public EventListener addListener(ObjIntConsumer<S> listener) {
+        return addPrimitiveListener(Priority.NORMAL, listener);
+    }
+
+    @Override
+    public EventListener addListener(byte priority, ObjIntConsumer<S> listener) {
+        return addPrimitiveListener(priority, listener);
+    }
+
+    @Override
+    public EventListener addListener(ObjIntPredicate<S> listener) {
+        return addPrimitiveListener(Priority.NORMAL, listener);
+    }
+
+    @Override
+    public EventListener addListener(byte priority, ObjIntPredicate<S> listener) {
+        return addPrimitiveListener(priority, listener);
+    }
+
+    @Override
+    public EventListener addListener(ObjIntBooleanConsumer<S> listener) {
+        return addPrimitiveListener(Priority.MONITOR, listener);
+    }
+
+    @Override
+    public EventListener addListener(EventListener listener) {
+        return PrimitiveEventBusImpl.super.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(EventListener listener) {
+        PrimitiveEventBusImpl.super.removeListener(listener);
+    }
+
+    @Override
+    public boolean isCompatible(byte priority, Object listener) {
+        return PrimitiveInvokerFactory.<S>objInt().isCompatible(priority, listener);
+    }
+
+    @Override
+    public boolean post(S subject, int value) {
+        checkOwnerThread();
+        return getInvoker().test(subject, value);
+    }
+
+    @Override
+    public boolean hasListeners() {
+        return PrimitiveEventBusImpl.super.hasListeners();
+    }
+
+    //region Invoker
+    @Override // overrides from PrimitiveEventBusImpl
+    public ObjIntPredicate<S> noOpInvoker() {
+        return PrimitiveInvokerFactory.<S>objInt().noOp();
+    }
+
+    @Override // overrides from PrimitiveEventBusImpl
+    public ObjIntPredicate<S> createInvoker(List<EventListener> listeners, List<EventListener> monitoringListeners) {
+        return PrimitiveInvokerFactory.<S>objInt().createInvoker(listeners, monitoringListeners);
+    }
+    //endregion
+}
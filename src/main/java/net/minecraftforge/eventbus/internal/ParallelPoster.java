@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Splits a batch of events into ranges that are recursively forked across a {@link ForkJoinPool}, letting idle workers
+ * steal the remaining halves of busy workers' ranges. Every worker calls the same invoker, which is built once up-front.
+ */
+final class ParallelPoster {
+    private ParallelPoster() {}
+
+    /**
+     * How many leaf ranges to aim for per worker - more than one so that work stealing can even out listeners that
+     * take longer for some events than others.
+     */
+    private static final int RANGES_PER_WORKER = 8;
+
+    static <T extends Event> void postAll(Consumer<T> invoker, List<T> events, ForkJoinPool pool) {
+        if (events.isEmpty())
+            return;
+
+        var randomAccessEvents = toRandomAccess(events);
+        pool.invoke(new PostAction<>(invoker, randomAccessEvents, 0, randomAccessEvents.size(), threshold(events, pool)));
+    }
+
+    static <T extends Event & Cancellable> int postAll(Predicate<T> invoker, List<T> events, ForkJoinPool pool) {
+        if (events.isEmpty())
+            return 0;
+
+        var randomAccessEvents = toRandomAccess(events);
+        return pool.invoke(new CancellablePostTask<>(invoker, randomAccessEvents, 0, randomAccessEvents.size(), threshold(events, pool)));
+    }
+
+    private static <T> List<T> toRandomAccess(List<T> events) {
+        return events instanceof RandomAccess ? events : new ArrayList<>(events);
+    }
+
+    private static int threshold(List<?> events, ForkJoinPool pool) {
+        return Math.max(1, events.size() / (pool.getParallelism() * RANGES_PER_WORKER));
+    }
+
+    private static final class PostAction<T extends Event> extends RecursiveAction {
+        private final Consumer<T> invoker;
+        private final List<T> events;
+        private final int start;
+        private final int end;
+        private final int threshold;
+
+        private PostAction(Consumer<T> invoker, List<T> events, int start, int end, int threshold) {
+            this.invoker = invoker;
+            this.events = events;
+            this.start = start;
+            this.end = end;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= threshold) {
+                for (int i = start; i < end; i++) {
+                    invoker.accept(events.get(i));
+                }
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+            var left = new PostAction<>(invoker, events, start, middle, threshold);
+            left.fork();
+            new PostAction<>(invoker, events, middle, end, threshold).compute();
+            left.join();
+        }
+    }
+
+    private static final class CancellablePostTask<T extends Event & Cancellable> extends RecursiveTask<Integer> {
+        private final Predicate<T> invoker;
+        private final List<T> events;
+        private final int start;
+        private final int end;
+        private final int threshold;
+
+        private CancellablePostTask(Predicate<T> invoker, List<T> events, int start, int end, int threshold) {
+            this.invoker = invoker;
+            this.events = events;
+            this.start = start;
+            this.end = end;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (end - start <= threshold) {
+                int cancelled = 0;
+                for (int i = start; i < end; i++) {
+                    if (invoker.test(events.get(i)))
+                        cancelled++;
+                }
+                return cancelled;
+            }
+
+            int middle = (start + end) >>> 1;
+            var left = new CancellablePostTask<>(invoker, events, start, middle, threshold);
+            left.fork();
+            int rightCancelled = new CancellablePostTask<>(invoker, events, middle, end, threshold).compute();
+            return left.join() + rightCancelled;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.PartitionedDispatcher;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+public record PartitionedDispatcherImpl<T extends Event>(
+        Function<? super T, ?> keyExtractor,
+        Lane<T>[] laneArray,
+        AtomicBoolean closed
+) implements PartitionedDispatcher<T> {
+    @SuppressWarnings("unchecked")
+    public PartitionedDispatcherImpl(EventBus<T> eventBus, int lanes, Function<? super T, ?> keyExtractor, Executor executor) {
+        this(keyExtractor, new Lane[lanes], new AtomicBoolean());
+        ((AbstractEventBusImpl<?, ?>) eventBus).checkNotThreadConfined();
+        for (int i = 0; i < lanes; i++) {
+            laneArray[i] = new Lane<>(eventBus, executor);
+        }
+    }
+
+    @Override
+    public void dispatch(T event) {
+        if (closed.getAcquire())
+            throw new IllegalStateException("Cannot dispatch events to a closed PartitionedDispatcher");
+
+        laneArray[laneIndex(keyExtractor.apply(event).hashCode(), laneArray.length)].offer(event);
+    }
+
+    @Override
+    public int lanes() {
+        return laneArray.length;
+    }
+
+    @Override
+    public void close() {
+        closed.setRelease(true);
+    }
+
+    /**
+     * Spreads the higher bits of the hash downwards, as keys with poor hashCode implementations (such as small sequential
+     * ints or entity IDs that are multiples of the lane count) would otherwise all land in the same lane.
+     */
+    private static int laneIndex(int hash, int laneCount) {
+        return Math.floorMod(hash ^ (hash >>> 16), laneCount);
+    }
+
+    /**
+     * A queue of events that is drained on the executor by at most one thread at a time.
+     * <p>The queue is an {@link ArrayDeque} guarded by the lane's lock rather than a lock-free linked queue, so that
+     * offering an event doesn't allocate a node for it. The lane is drained in batches, so the lock is only taken once
+     * per batch on the draining side.</p>
+     */
+    static final class Lane<T extends Event> implements Runnable {
+        private final EventBus<T> eventBus;
+        private final Executor executor;
+
+        // Guarded by this
+        private final ArrayDeque<T> queue = new ArrayDeque<>();
+        private boolean scheduled;
+
+        /** Only touched by the thread currently running the lane, which is reused between batches. */
+        private final Object[] batch = new Object[Constants.LANE_BATCH_SIZE];
+
+        private Lane(EventBus<T> eventBus, Executor executor) {
+            this.eventBus = eventBus;
+            this.executor = executor;
+        }
+
+        private void offer(T event) {
+            synchronized (this) {
+                queue.addLast(event);
+                if (scheduled)
+                    return;
+
+                scheduled = true;
+            }
+
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // Take the event back out so that it's never posted, as the caller is told it wasn't dispatched. Events
+                // offered by other threads in the meantime stay queued until the next dispatch to this lane schedules it.
+                synchronized (this) {
+                    scheduled = false;
+                    for (var iterator = queue.descendingIterator(); iterator.hasNext(); ) {
+                        if (iterator.next() == event) {
+                            iterator.remove();
+                            break;
+                        }
+                    }
+                }
+                throw e;
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            int count = 0;
+            synchronized (this) {
+                while (count < batch.length && !queue.isEmpty()) {
+                    batch[count++] = queue.pollFirst();
+                }
+            }
+
+            for (int i = 0; i < count; i++) {
+                var event = (T) batch[i];
+                batch[i] = null;
+                try {
+                    eventBus.post(event);
+                } catch (Throwable t) {
+                    var thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+                }
+            }
+
+            // Keep ownership of the lane if more events were offered while posting, as the threads that offered them
+            // saw the lane as scheduled and didn't schedule it themselves
+            synchronized (this) {
+                if (queue.isEmpty()) {
+                    scheduled = false;
+                    return;
+                }
+            }
+
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // The queued events are left for the next dispatch to this lane to schedule
+                synchronized (this) {
+                    scheduled = false;
+                }
+                throw e;
+            }
+        }
+    }
+}
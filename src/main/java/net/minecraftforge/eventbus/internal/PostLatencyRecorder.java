@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of how long each post to a single EventBus takes, using the same log-linear buckets as
+ * {@link LatencyHistogram}.
+ * <p>Each posting thread records to its own counters, which only it writes to, so recording is a handful of plain
+ * stores without any contention or allocation once the thread has posted before. The per-thread counters are merged
+ * when {@linkplain #drain(Class) drained}, and each drain only covers the posts since the previous one. The counters of
+ * threads that have died are folded together on the next drain, so short-lived threads don't pile up.</p>
+ */
+final class PostLatencyRecorder {
+    private static final int COUNT = 0, TOTAL = 1, FIRST_BUCKET = 2;
+    private static final int LENGTH = FIRST_BUCKET + LatencyHistogram.BUCKETS;
+
+    private final ThreadLocal<ThreadRecorder> threadRecorder = ThreadLocal.withInitial(this::newThreadRecorder);
+
+    // Guarded by this
+    private final ArrayList<ThreadRecorder> threadRecorders = new ArrayList<>();
+    /** The totals of the threads that have died since they were last drained. */
+    private final long[] deadThreadTotals = new long[LENGTH];
+    /** The totals as of the previous drain, which are subtracted from the next one. */
+    private final long[] drainedTotals = new long[LENGTH];
+
+    void record(long nanos) {
+        threadRecorder.get().record(nanos);
+    }
+
+    private synchronized ThreadRecorder newThreadRecorder() {
+        var recorder = new ThreadRecorder(Thread.currentThread());
+        threadRecorders.add(recorder);
+        return recorder;
+    }
+
+    /**
+     * @return The latencies of the posts since the previous drain
+     */
+    synchronized BusGroup.PostLatency drain(Class<?> eventType) {
+        var totals = deadThreadTotals.clone();
+        for (var iterator = threadRecorders.iterator(); iterator.hasNext(); ) {
+            var recorder = iterator.next();
+            recorder.addTo(totals);
+
+            // A dead thread can't record any more, so its counters can be folded in and dropped
+            if (!recorder.thread.isAlive()) {
+                recorder.addTo(deadThreadTotals);
+                iterator.remove();
+            }
+        }
+
+        var buckets = new long[LatencyHistogram.BUCKETS];
+        int highestBucket = -1;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = totals[FIRST_BUCKET + i] - drainedTotals[FIRST_BUCKET + i];
+            if (buckets[i] != 0)
+                highestBucket = i;
+        }
+        long count = totals[COUNT] - drainedTotals[COUNT];
+        long totalNanos = totals[TOTAL] - drainedTotals[TOTAL];
+        System.arraycopy(totals, 0, drainedTotals, 0, LENGTH);
+
+        long maxNanos = highestBucket == -1 ? 0 : LatencyHistogram.highestValueInBucket(highestBucket);
+        var snapshot = new LatencyHistogram.Snapshot(count, totalNanos, maxNanos, buckets);
+        return new BusGroup.PostLatency(
+                eventType,
+                count,
+                count == 0 ? 0 : totalNanos / count,
+                snapshot.percentile(0.5),
+                snapshot.percentile(0.9),
+                snapshot.percentile(0.99),
+                snapshot.percentile(0.999),
+                maxNanos
+        );
+    }
+
+    private static final class ThreadRecorder {
+        private final Thread thread;
+        private final AtomicLongArray counts = new AtomicLongArray(LENGTH);
+
+        private ThreadRecorder(Thread thread) {
+            this.thread = thread;
+        }
+
+        /**
+         * Only called by the owning thread, so the counters can be bumped without atomic read-modify-writes. The
+         * release stores make them visible to a drain on another thread.
+         */
+        private void record(long nanos) {
+            int bucket = FIRST_BUCKET + LatencyHistogram.bucketIndex(nanos);
+            counts.setRelease(COUNT, counts.getPlain(COUNT) + 1);
+            counts.setRelease(TOTAL, counts.getPlain(TOTAL) + nanos);
+            counts.setRelease(bucket, counts.getPlain(bucket) + 1);
+        }
+
+        private void addTo(long[] totals) {
+            for (int i = 0; i < LENGTH; i++) {
+                totals[i] += counts.getAcquire(i);
+            }
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The shared internals of the primitive and query buses, which mirror {@link AbstractEventBusImpl} but without an event
+ * type, inheritance or event characteristics.
+ *
+ * @param <I> The type of the invoker, such as {@link java.util.function.IntPredicate}
+ */
+public sealed interface PrimitiveEventBusImpl<I> permits IntEventBusImpl, LongEventBusImpl, NumericQueryBusImpl,
+        ObjIntEventBusImpl, QueryBusImpl {
+    //region Record component accessors
+    String busGroupName();
+    String name();
+    CallSite invokerCallSite();
+    ArrayList<EventListener> backingList();
+    ArrayList<EventListener> monitorBackingList();
+    AtomicBoolean alreadyInvalidated();
+    AtomicBoolean shutdownFlag();
+    @Nullable Thread ownerThread();
+    //endregion
+
+    /**
+     * @return {@code true} if the given listener function can be added to this bus with the given priority
+     */
+    boolean isCompatible(byte priority, Object listener);
+
+    /**
+     * Wraps the listener function and adds it, for the typed {@code addListener} methods of the public interfaces.
+     */
+    default EventListener addPrimitiveListener(byte priority, Object listener) {
+        if (!isCompatible(priority, listener))
+            throw new IllegalArgumentException("Monitoring listeners cannot cancel events");
+
+        return addListener(new EventListenerImpl.PrimitiveListener<>(priority, listener));
+    }
+
+    /**
+     * Wraps the listener function and adds it, for the typed {@code addListener} methods of the query buses.
+     */
+    default EventListener addQueryListener(byte priority, Object listener) {
+        if (priority == Priority.MONITOR)
+            throw new IllegalArgumentException("Monitoring listeners cannot answer queries");
+
+        return addListener(new EventListenerImpl.PrimitiveListener<>(priority, listener));
+    }
+
+    default EventListener addListener(EventListener listener) {
+        if (!(listener instanceof EventListenerImpl.PrimitiveListener<?> primitiveListener)
+                || !isCompatible(primitiveListener.priority(), primitiveListener.listener()))
+            throw new IllegalArgumentException("Listener " + listener + " was not added to a primitive bus of this kind");
+
+        if (isThreadConfined()) {
+            checkOwnerThread();
+            addListenerUnsynchronized(listener);
+            return listener;
+        }
+
+        synchronized (backingList()) {
+            addListenerUnsynchronized(listener);
+        }
+        return listener;
+    }
+
+    private void addListenerUnsynchronized(EventListener listener) {
+        boolean added = listener.priority() == Priority.MONITOR
+                ? monitorBackingList().add(listener)
+                : backingList().add(listener);
+
+        if (added)
+            invalidateInvoker();
+    }
+
+    default void removeListener(EventListener listener) {
+        if (isThreadConfined()) {
+            checkOwnerThread();
+            removeListenerUnsynchronized(listener);
+            return;
+        }
+
+        synchronized (backingList()) {
+            removeListenerUnsynchronized(listener);
+        }
+    }
+
+    private void removeListenerUnsynchronized(EventListener listener) {
+        boolean removed = listener.priority() == Priority.MONITOR
+                ? monitorBackingList().remove(listener)
+                : backingList().remove(listener);
+
+        if (removed)
+            invalidateInvoker();
+    }
+
+    /**
+     * @see AbstractEventBusImpl#isThreadConfined()
+     */
+    default boolean isThreadConfined() {
+        return ownerThread() != null;
+    }
+
+    /**
+     * @see AbstractEventBusImpl#checkOwnerThread()
+     */
+    default void checkOwnerThread() {
+        if (!Constants.STRICT_RUNTIME_CHECKS)
+            return;
+
+        var ownerThread = ownerThread();
+        if (ownerThread != null && ownerThread != Thread.currentThread())
+            throw new IllegalStateException("Thread-confined primitive bus \"" + name() + "\" owned by thread \""
+                    + ownerThread.getName() + "\" was used from thread \"" + Thread.currentThread().getName() + '"');
+    }
+
+    //region Invoker
+    /**
+     * @return The invoker used while this bus has no listeners, which is compared against by {@link #hasListeners()}
+     */
+    I noOpInvoker();
+
+    /**
+     * @param listeners The non-monitoring listeners, sorted by priority
+     */
+    I createInvoker(List<EventListener> listeners, List<EventListener> monitoringListeners);
+
+    /**
+     * @return The invoker if it is still valid, otherwise null.
+     */
+    @SuppressWarnings("unchecked")
+    default @Nullable I maybeGetInvoker() {
+        try {
+            // The call site is typed as Object so that every kind of bus can share this, with the cast left to callers
+            return (I) invokerCallSite().getTarget().invokeExact();
+        } catch (Throwable t) {
+            throw new RuntimeException(t); // should never happen, but we should throw if it somehow does
+        }
+    }
+
+    /**
+     * Should only be called from inside a {@code synchronized(backingList)} block, or from the owner thread if this bus
+     * is {@linkplain #isThreadConfined() thread-confined}.
+     */
+    default void invalidateInvoker() {
+        if (isThreadConfined() ? alreadyInvalidated().getPlain() : alreadyInvalidated().getAcquire()) return;
+        invokerCallSite().setTarget(backingList().isEmpty() && monitorBackingList().isEmpty()
+                ? MethodHandles.constant(Object.class, noOpInvoker())
+                : Constants.MH_NULL_PRIMITIVE_INVOKER);
+    }
+
+    /**
+     * Builds the invoker from the sorted listeners and sets it on the call site. Only called while holding the lock on
+     * the backing list, or from the owner thread if this bus is thread-confined.
+     */
+    private I buildInvokerUnsynchronized() {
+        backingList().sort(Constants.PRIORITY_COMPARATOR);
+        var invoker = createInvoker(backingList(), monitorBackingList());
+        invokerCallSite().setTarget(MethodHandles.constant(Object.class, invoker));
+        return invoker;
+    }
+
+    default void setNoOpInvoker() {
+        invokerCallSite().setTarget(MethodHandles.constant(Object.class, noOpInvoker()));
+    }
+
+    default I buildInvoker() {
+        if (isThreadConfined()) {
+            var invoker = buildInvokerUnsynchronized();
+            alreadyInvalidated().setPlain(false);
+            return invoker;
+        }
+
+        synchronized (backingList()) {
+            var invoker = buildInvokerUnsynchronized();
+            alreadyInvalidated().set(false);
+            return invoker;
+        }
+    }
+
+    /**
+     * @return The invoker, creating it if necessary. Never returns null.
+     */
+    default I getInvoker() {
+        var invoker = maybeGetInvoker();
+        if (invoker == null)
+            invoker = buildInvoker();
+
+        return invoker;
+    }
+
+    default boolean hasListeners() {
+        return getInvoker() != noOpInvoker();
+    }
+    //endregion
+
+    default void startup() {
+        if (isThreadConfined()) {
+            if (!shutdownFlag().getPlain())
+                return;
+
+            shutdownFlag().setPlain(false);
+            alreadyInvalidated().setPlain(false);
+            invalidateInvoker();
+            return;
+        }
+
+        if (!shutdownFlag().compareAndSet(true, false))
+            return;
+
+        synchronized (backingList()) {
+            alreadyInvalidated().setOpaque(false);
+            invalidateInvoker();
+        }
+    }
+
+    default void shutdown() {
+        if (isThreadConfined()) {
+            if (shutdownFlag().getPlain())
+                return;
+
+            shutdownFlag().setPlain(true);
+            setNoOpInvoker();
+            alreadyInvalidated().setPlain(true);
+            return;
+        }
+
+        if (!shutdownFlag().compareAndSet(false, true))
+            return;
+
+        synchronized (backingList()) {
+            setNoOpInvoker();
+            alreadyInvalidated().set(true);
+        }
+    }
+
+    default void dispose() {
+        shutdown();
+        if (isThreadConfined()) {
+            backingList().clear();
+            monitorBackingList().clear();
+            trim();
+            return;
+        }
+
+        synchronized (backingList()) {
+            backingList().clear();
+            monitorBackingList().clear();
+            trim();
+        }
+    }
+
+    default void trim() {
+        if (isThreadConfined()) {
+            backingList().trimToSize();
+            monitorBackingList().trimToSize();
+            return;
+        }
+
+        synchronized (backingList()) {
+            backingList().trimToSize();
+            monitorBackingList().trimToSize();
+        }
+    }
+}
@@ -0,0 +1,474 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.IntBooleanBiConsumer;
+import net.minecraftforge.eventbus.api.listener.LongBooleanBiConsumer;
+import net.minecraftforge.eventbus.api.listener.ObjIntBooleanConsumer;
+import net.minecraftforge.eventbus.api.listener.ObjIntPredicate;
+import net.minecraftforge.eventbus.api.listener.Priority;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * The primitive bus equivalent of {@link InvokerFactory}, using the same manually unrolled invokers for small numbers
+ * of listeners.
+ * <p>Primitive buses are always cancellable, so their invokers are predicates. Which listeners are called how is
+ * decided once for every kind of primitive bus by {@link Kind}, and each kind only provides the unrolled invokers for
+ * its own functional interfaces, as those can't be shared without the JIT losing track of the listener types.</p>
+ */
+final class PrimitiveInvokerFactory {
+    private PrimitiveInvokerFactory() {}
+
+    /**
+     * The functional interfaces of one kind of primitive bus, and how to build its invokers from them.
+     *
+     * @param <C> The consumer type, such as {@link IntConsumer}
+     * @param <P> The predicate type, which is also the type of the invoker, such as {@link IntPredicate}
+     * @param <M> The cancellation-aware monitor type, such as {@link IntBooleanBiConsumer}
+     */
+    abstract static sealed class Kind<C, P, M> {
+        private final Class<?> consumerType;
+        private final Class<?> predicateType;
+        private final Class<?> monitorType;
+        private final P noOp;
+
+        private Kind(Class<?> consumerType, Class<?> predicateType, Class<?> monitorType, P noOp) {
+            this.consumerType = consumerType;
+            this.predicateType = predicateType;
+            this.monitorType = monitorType;
+            this.noOp = noOp;
+        }
+
+        /**
+         * @return The invoker of buses without any listeners, which never cancels
+         */
+        final P noOp() {
+            return noOp;
+        }
+
+        /**
+         * @return {@code true} if the given listener function can be added to a bus of this kind with the given priority
+         */
+        final boolean isCompatible(byte priority, Object listener) {
+            return consumerType.isInstance(listener) || (priority == Priority.MONITOR
+                    ? monitorType.isInstance(listener)
+                    : predicateType.isInstance(listener));
+        }
+
+        final P createInvoker(List<EventListener> listeners, List<EventListener> monitoringListeners) {
+            P invoker = createInvoker(listeners);
+            if (monitoringListeners.isEmpty())
+                return invoker;
+
+            M[] monitors = newArray(monitorType, monitoringListeners.size());
+            for (int i = 0; i < monitors.length; i++) {
+                var listener = unwrap(monitoringListeners.get(i));
+                monitors[i] = monitorType.isInstance(listener) ? uncheckedCast(listener) : monitor(uncheckedCast(listener));
+            }
+            return withMonitors(invoker, monitors);
+        }
+
+        private P createInvoker(List<EventListener> listeners) {
+            if (listeners.isEmpty())
+                return noOp;
+
+            // Consumers can't cancel, so each run of them in a row is called by a single never-cancelling invoker
+            // rather than being wrapped in a predicate one by one
+            var predicates = new ArrayList<P>();
+            var consumers = new ArrayList<C>();
+            for (var eventListener : listeners) {
+                var listener = unwrap(eventListener);
+                if (predicateType.isInstance(listener)) {
+                    if (!consumers.isEmpty()) {
+                        predicates.add(consumers(consumers.toArray(newArray(consumerType, 0))));
+                        consumers.clear();
+                    }
+                    predicates.add(uncheckedCast(listener));
+                } else {
+                    consumers.add(uncheckedCast(listener));
+                }
+            }
+            if (!consumers.isEmpty())
+                predicates.add(consumers(consumers.toArray(newArray(consumerType, 0))));
+
+            return predicates.size() == 1
+                    ? predicates.getFirst() // Direct call
+                    : predicates(predicates.toArray(newArray(predicateType, 0)));
+        }
+
+        /**
+         * @return An invoker that calls all the consumers and never cancels
+         */
+        abstract P consumers(C[] consumers);
+
+        /**
+         * @return An invoker that calls the predicates until one of them cancels
+         */
+        abstract P predicates(P[] predicates);
+
+        /**
+         * @return An invoker that calls the monitors after the given invoker, with whether it cancelled
+         */
+        abstract P withMonitors(P invoker, M[] monitors);
+
+        /**
+         * @return The consumer as a monitor that doesn't care whether the event was cancelled
+         */
+        abstract M monitor(C consumer);
+
+        private static Object unwrap(EventListener listener) {
+            return ((EventListenerImpl.PrimitiveListener<?>) listener).listener();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T[] newArray(Class<?> type, int length) {
+            return (T[]) Array.newInstance(type, length);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T uncheckedCast(Object obj) {
+            return (T) obj;
+        }
+    }
+
+    //region IntEventBus
+    static final Kind<IntConsumer, IntPredicate, IntBooleanBiConsumer> INT = new IntKind();
+
+    private static final class IntKind extends Kind<IntConsumer, IntPredicate, IntBooleanBiConsumer> {
+        private IntKind() {
+            super(IntConsumer.class, IntPredicate.class, IntBooleanBiConsumer.class, value -> false);
+        }
+
+        @Override
+        IntPredicate consumers(IntConsumer[] consumers) {
+            return switch (consumers.length) {
+                case 1 -> {
+                    var first = consumers[0];
+                    yield value -> {
+                        first.accept(value);
+                        return false;
+                    };
+                }
+                case 2 -> {
+                    var first = consumers[0];
+                    var second = consumers[1];
+                    yield value -> {
+                        first.accept(value);
+                        second.accept(value);
+                        return false;
+                    };
+                }
+                case 3 -> {
+                    var first = consumers[0];
+                    var second = consumers[1];
+                    var third = consumers[2];
+                    yield value -> {
+                        first.accept(value);
+                        second.accept(value);
+                        third.accept(value);
+                        return false;
+                    };
+                }
+                case 4 -> {
+                    var first = consumers[0];
+                    var second = consumers[1];
+                    var third = consumers[2];
+                    var fourth = consumers[3];
+                    yield value -> {
+                        first.accept(value);
+                        second.accept(value);
+                        third.accept(value);
+                        fourth.accept(value);
+                        return false;
+                    };
+                }
+                default -> value -> {
+                    for (var consumer : consumers) {
+                        consumer.accept(value);
+                    }
+                    return false;
+                };
+            };
+        }
+
+        @Override
+        IntPredicate predicates(IntPredicate[] predicates) {
+            return switch (predicates.length) {
+                case 2 -> predicates[0].or(predicates[1]);
+                case 3 -> {
+                    var first = predicates[0];
+                    var second = predicates[1];
+                    var third = predicates[2];
+                    yield value -> first.test(value) || second.test(value) || third.test(value);
+                }
+                default -> value -> {
+                    for (var predicate : predicates) {
+                        if (predicate.test(value))
+                            return true;
+                    }
+                    return false;
+                };
+            };
+        }
+
+        @Override
+        IntPredicate withMonitors(IntPredicate invoker, IntBooleanBiConsumer[] monitors) {
+            if (monitors.length == 1) {
+                var firstMonitor = monitors[0];
+                return value -> {
+                    boolean cancelled = invoker.test(value);
+                    firstMonitor.accept(value, cancelled);
+                    return cancelled;
+                };
+            }
+
+            return value -> {
+                boolean cancelled = invoker.test(value);
+                for (var monitor : monitors) {
+                    monitor.accept(value, cancelled);
+                }
+                return cancelled;
+            };
+        }
+
+        @Override
+        IntBooleanBiConsumer monitor(IntConsumer consumer) {
+            return (value, cancelled) -> consumer.accept(value);
+        }
+    }
+    //endregion
+
+    //region LongEventBus
+    static final Kind<LongConsumer, LongPredicate, LongBooleanBiConsumer> LONG = new LongKind();
+
+    private static final class LongKind extends Kind<LongConsumer, LongPredicate, LongBooleanBiConsumer> {
+        private LongKind() {
+            super(LongConsumer.class, LongPredicate.class, LongBooleanBiConsumer.class, value -> false);
+        }
+
+        @Override
+        LongPredicate consumers(LongConsumer[] consumers) {
+            return switch (consumers.length) {
+                case 1 -> {
+                    var first = consumers[0];
+                    yield value -> {
+                        first.accept(value);
+                        return false;
+                    };
+                }
+                case 2 -> {
+                    var first = consumers[0];
+                    var second = consumers[1];
+                    yield value -> {
+                        first.accept(value);
+                        second.accept(value);
+                        return false;
+                    };
+                }
+                case 3 -> {
+                    var first = consumers[0];
+                    var second = consumers[1];
+                    var third = consumers[2];
+                    yield value -> {
+                        first.accept(value);
+                        second.accept(value);
+                        third.accept(value);
+                        return false;
+                    };
+                }
+                case 4 -> {
+                    var first = consumers[0];
+                    var second = consumers[1];
+                    var third = consumers[2];
+                    var fourth = consumers[3];
+                    yield value -> {
+                        first.accept(value);
+                        second.accept(value);
+                        third.accept(value);
+                        fourth.accept(value);
+                        return false;
+                    };
+                }
+                default -> value -> {
+                    for (var consumer : consumers) {
+                        consumer.accept(value);
+                    }
+                    return false;
+                };
+            };
+        }
+
+        @Override
+        LongPredicate predicates(LongPredicate[] predicates) {
+            return switch (predicates.length) {
+                case 2 -> predicates[0].or(predicates[1]);
+                case 3 -> {
+                    var first = predicates[0];
+                    var second = predicates[1];
+                    var third = predicates[2];
+                    yield value -> first.test(value) || second.test(value) || third.test(value);
+                }
+                default -> value -> {
+                    for (var predicate : predicates) {
+                        if (predicate.test(value))
+                            return true;
+                    }
+                    return false;
+                };
+            };
+        }
+
+        @Override
+        LongPredicate withMonitors(LongPredicate invoker, LongBooleanBiConsumer[] monitors) {
+            if (monitors.length == 1) {
+                var firstMonitor = monitors[0];
+                return value -> {
+                    boolean cancelled = invoker.test(value);
+                    firstMonitor.accept(value, cancelled);
+                    return cancelled;
+                };
+            }
+
+            return value -> {
+                boolean cancelled = invoker.test(value);
+                for (var monitor : monitors) {
+                    monitor.accept(value, cancelled);
+                }
+                return cancelled;
+            };
+        }
+
+        @Override
+        LongBooleanBiConsumer monitor(LongConsumer consumer) {
+            return (value, cancelled) -> consumer.accept(value);
+        }
+    }
+    //endregion
+
+    //region ObjIntEventBus
+    static final Kind<ObjIntConsumer<Object>, ObjIntPredicate<Object>, ObjIntBooleanConsumer<Object>> OBJ_INT = new ObjIntKind();
+
+    @SuppressWarnings("unchecked")
+    static <S> Kind<ObjIntConsumer<S>, ObjIntPredicate<S>, ObjIntBooleanConsumer<S>> objInt() {
+        return (Kind<ObjIntConsumer<S>, ObjIntPredicate<S>, ObjIntBooleanConsumer<S>>) (Kind<?, ?, ?>) OBJ_INT;
+    }
+
+    private static final class ObjIntKind extends Kind<ObjIntConsumer<Object>, ObjIntPredicate<Object>, ObjIntBooleanConsumer<Object>> {
+        private ObjIntKind() {
+            super(ObjIntConsumer.class, ObjIntPredicate.class, ObjIntBooleanConsumer.class, (subject, value) -> false);
+        }
+
+        @Override
+        ObjIntPredicate<Object> consumers(ObjIntConsumer<Object>[] consumers) {
+            return switch (consumers.length) {
+                case 1 -> {
+                    var first = consumers[0];
+                    yield (subject, value) -> {
+                        first.accept(subject, value);
+                        return false;
+                    };
+                }
+                case 2 -> {
+                    var first = consumers[0];
+                    var second = consumers[1];
+                    yield (subject, value) -> {
+                        first.accept(subject, value);
+                        second.accept(subject, value);
+                        return false;
+                    };
+                }
+                case 3 -> {
+                    var first = consumers[0];
+                    var second = consumers[1];
+                    var third = consumers[2];
+                    yield (subject, value) -> {
+                        first.accept(subject, value);
+                        second.accept(subject, value);
+                        third.accept(subject, value);
+                        return false;
+                    };
+                }
+                case 4 -> {
+                    var first = consumers[0];
+                    var second = consumers[1];
+                    var third = consumers[2];
+                    var fourth = consumers[3];
+                    yield (subject, value) -> {
+                        first.accept(subject, value);
+                        second.accept(subject, value);
+                        third.accept(subject, value);
+                        fourth.accept(subject, value);
+                        return false;
+                    };
+                }
+                default -> (subject, value) -> {
+                    for (var consumer : consumers) {
+                        consumer.accept(subject, value);
+                    }
+                    return false;
+                };
+            };
+        }
+
+        @Override
+        ObjIntPredicate<Object> predicates(ObjIntPredicate<Object>[] predicates) {
+            return switch (predicates.length) {
+                case 2 -> {
+                    var first = predicates[0];
+                    var second = predicates[1];
+                    yield (subject, value) -> first.test(subject, value) || second.test(subject, value);
+                }
+                case 3 -> {
+                    var first = predicates[0];
+                    var second = predicates[1];
+                    var third = predicates[2];
+                    yield (subject, value) -> first.test(subject, value) || second.test(subject, value) || third.test(subject, value);
+                }
+                default -> (subject, value) -> {
+                    for (var predicate : predicates) {
+                        if (predicate.test(subject, value))
+                            return true;
+                    }
+                    return false;
+                };
+            };
+        }
+
+        @Override
+        ObjIntPredicate<Object> withMonitors(ObjIntPredicate<Object> invoker, ObjIntBooleanConsumer<Object>[] monitors) {
+            if (monitors.length == 1) {
+                var firstMonitor = monitors[0];
+                return (subject, value) -> {
+                    boolean cancelled = invoker.test(subject, value);
+                    firstMonitor.accept(subject, value, cancelled);
+                    return cancelled;
+                };
+            }
+
+            return (subject, value) -> {
+                boolean cancelled = invoker.test(subject, value);
+                for (var monitor : monitors) {
+                    monitor.accept(subject, value, cancelled);
+                }
+                return cancelled;
+            };
+        }
+
+        @Override
+        ObjIntBooleanConsumer<Object> monitor(ObjIntConsumer<Object> consumer) {
+            return (subject, value, cancelled) -> consumer.accept(subject, value);
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.QueryBus;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.internal.QueryInvokerFactory.QueryInvoker;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import static net.minecraftforge.eventbus.internal.QueryInvokerFactory.NO_OP_QUERY;
+
+public record QueryBusImpl<Q, R>(
+        String busGroupName,
+        String name,
+        CallSite invokerCallSite,
+        ArrayList<EventListener> backingList,
+        ArrayList<EventListener> monitorBackingList,
+        AtomicBoolean alreadyInvalidated,
+        AtomicBoolean shutdownFlag,
+        @Nullable Thread ownerThread
+) implements QueryBus<Q, R>, PrimitiveEventBusImpl<QueryInvoker<Q, R>> {
+    public QueryBusImpl(String busGroupName, String name, @Nullable Thread ownerThread) {
+        this(
+                busGroupName,
+                name,
+                AbstractEventBusImpl.makeInvokerCallSite(ownerThread, MethodHandles.constant(Object.class, NO_OP_QUERY)),
+                new ArrayList<>(),
+                new ArrayList<>(),
+                new AtomicBoolean(),
+                new AtomicBoolean(),
+                ownerThread
+        );
+    }
+
+    @Override
+    public EventListener addListener(Function<Q, @Nullable R> listener) {
+        return addQueryListener(Priority.NORMAL, listener);
+    }
+
+    @Override
+    public EventListener addListener(byte priority, Function<Q, @Nullable R> listener) {
+        return addQueryListener(priority, listener);
+    }
+
+    @Override
+    public EventListener addListener(EventListener listener) {
+        return PrimitiveEventBusImpl.super.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(EventListener listener) {
+        PrimitiveEventBusImpl.super.removeListener(listener);
+    }
+
+    @Override
+    public boolean isCompatible(byte priority, Object listener) {
+        return priority != Priority.MONITOR && listener instanceof Function<?, ?>;
+    }
+
+    @Override
+    public R reduce(Q query, R identity, BinaryOperator<R> combiner) {
+        checkOwnerThread();
+        return getInvoker().reduce(query, identity, combiner);
+    }
+
+    @Override
+    public @Nullable R firstNonNull(Q query) {
+        checkOwnerThread();
+        return getInvoker().firstNonNull(query);
+    }
+
+    @Override
+    public boolean hasListeners() {
+        return PrimitiveEventBusImpl.super.hasListeners();
+    }
+
+    //region Invoker
+    @Override // overrides from PrimitiveEventBusImpl
+    public QueryInvoker<Q, R> noOpInvoker() {
+        return QueryInvokerFactory.getNoOpQueryInvoker();
+    }
+
+    @Override // overrides from PrimitiveEventBusImpl
+    public QueryInvoker<Q, R> createInvoker(List<EventListener> listeners, List<EventListener> monitoringListeners) {
+        return QueryInvokerFactory.createQueryInvoker(listeners);
+    }
+    //endregion
+}
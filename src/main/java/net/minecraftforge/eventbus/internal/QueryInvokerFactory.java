@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * The query bus equivalent of {@link InvokerFactory}, using the same manually unrolled invokers for small numbers of
+ * listeners.
+ * <p>The combiner is passed to the invoker on each query rather than being baked into it, so that a single invoker can
+ * serve every kind of reduction. As the query methods pass constant combiners such as {@link Integer#sum(int, int)},
+ * the JIT can still inline them into the unrolled invoker.</p>
+ */
+final class QueryInvokerFactory {
+    private QueryInvokerFactory() {}
+
+    /**
+     * Object queries can either be reduced or short-circuited on the first non-null answer, so unlike the other
+     * invokers this isn't a functional interface.
+     */
+    interface QueryInvoker<Q, R> {
+        @Nullable R firstNonNull(Q query);
+
+        R reduce(Q query, R identity, BinaryOperator<R> combiner);
+    }
+
+    @FunctionalInterface
+    interface IntQueryInvoker<Q> {
+        int reduce(Q query, int identity, IntBinaryOperator combiner);
+    }
+
+    @FunctionalInterface
+    interface DoubleQueryInvoker<Q> {
+        double reduce(Q query, double identity, DoubleBinaryOperator combiner);
+    }
+
+    static final QueryInvoker<Object, Object> NO_OP_QUERY = new QueryInvoker<>() {
+        @Override
+        public @Nullable Object firstNonNull(Object query) {
+            return null;
+        }
+
+        @Override
+        public Object reduce(Object query, Object identity, BinaryOperator<Object> combiner) {
+            return identity;
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    static <Q, R> QueryInvoker<Q, R> getNoOpQueryInvoker() {
+        return (QueryInvoker<Q, R>) (QueryInvoker<?, ?>) NO_OP_QUERY;
+    }
+
+    //region QueryBus
+    @SuppressWarnings("unchecked")
+    static <Q, R> QueryInvoker<Q, R> createQueryInvoker(List<EventListener> listeners) {
+        Function<Q, @Nullable R>[] functions = unwrap(listeners, new Function[0]);
+        return switch (functions.length) {
+            case 0 -> getNoOpQueryInvoker();
+            case 1 -> new SingleQueryInvoker<>(functions[0]);
+            case 2 -> new PairQueryInvoker<>(functions[0], functions[1]);
+            default -> new ArrayQueryInvoker<>(functions);
+        };
+    }
+
+    private record SingleQueryInvoker<Q, R>(Function<Q, @Nullable R> first) implements QueryInvoker<Q, R> {
+        @Override
+        public @Nullable R firstNonNull(Q query) {
+            return first.apply(query); // Direct call
+        }
+
+        @Override
+        public R reduce(Q query, R identity, BinaryOperator<R> combiner) {
+            var answer = first.apply(query);
+            return answer == null ? identity : combiner.apply(identity, answer);
+        }
+    }
+
+    private record PairQueryInvoker<Q, R>(Function<Q, @Nullable R> first, Function<Q, @Nullable R> second)
+            implements QueryInvoker<Q, R> {
+        @Override
+        public @Nullable R firstNonNull(Q query) {
+            var answer = first.apply(query);
+            return answer != null ? answer : second.apply(query);
+        }
+
+        @Override
+        public R reduce(Q query, R identity, BinaryOperator<R> combiner) {
+            R result = identity;
+
+            var answer = first.apply(query);
+            if (answer != null)
+                result = combiner.apply(result, answer);
+
+            answer = second.apply(query);
+            if (answer != null)
+                result = combiner.apply(result, answer);
+
+            return result;
+        }
+    }
+
+    private record ArrayQueryInvoker<Q, R>(Function<Q, @Nullable R>[] functions) implements QueryInvoker<Q, R> {
+        @Override
+        public @Nullable R firstNonNull(Q query) {
+            for (var function : functions) {
+                var answer = function.apply(query);
+                if (answer != null)
+                    return answer;
+            }
+            return null;
+        }
+
+        @Override
+        public R reduce(Q query, R identity, BinaryOperator<R> combiner) {
+            R result = identity;
+            for (var function : functions) {
+                var answer = function.apply(query);
+                if (answer != null)
+                    result = combiner.apply(result, answer);
+            }
+            return result;
+        }
+    }
+    //endregion
+
+    /**
+     * The listener function type of one kind of numeric query bus, and how to build its invokers from them.
+     * <p>Everything but the unrolled invokers is shared, as only those need to know the primitive type.</p>
+     *
+     * @param <F> The listener function type, such as {@link ToIntFunction}
+     * @param <I> The invoker type, such as {@link IntQueryInvoker}
+     */
+    abstract static sealed class NumericKind<F, I> {
+        private final Class<?> functionType;
+        private final I noOp;
+
+        private NumericKind(Class<?> functionType, I noOp) {
+            this.functionType = functionType;
+            this.noOp = noOp;
+        }
+
+        /**
+         * @return The invoker of buses without any listeners, which returns the identity
+         */
+        final I noOp() {
+            return noOp;
+        }
+
+        /**
+         * @return {@code true} if the given listener function can be added to a bus of this kind with the given priority
+         */
+        final boolean isCompatible(byte priority, Object listener) {
+            return priority != Priority.MONITOR && functionType.isInstance(listener);
+        }
+
+        @SuppressWarnings("unchecked")
+        final I createInvoker(List<EventListener> listeners) {
+            return listeners.isEmpty()
+                    ? noOp
+                    : createInvoker(unwrap(listeners, (F[]) Array.newInstance(functionType, 0)));
+        }
+
+        /**
+         * @param functions The listener functions, of which there is at least one
+         */
+        abstract I createInvoker(F[] functions);
+    }
+
+    //region IntQueryBus
+    static final NumericKind<ToIntFunction<Object>, IntQueryInvoker<Object>> INT = new IntKind();
+
+    @SuppressWarnings("unchecked")
+    static <Q> NumericKind<ToIntFunction<Q>, IntQueryInvoker<Q>> intKind() {
+        return (NumericKind<ToIntFunction<Q>, IntQueryInvoker<Q>>) (NumericKind<?, ?>) INT;
+    }
+
+    private static final class IntKind extends NumericKind<ToIntFunction<Object>, IntQueryInvoker<Object>> {
+        private IntKind() {
+            super(ToIntFunction.class, (query, identity, combiner) -> identity);
+        }
+
+        @Override
+        IntQueryInvoker<Object> createInvoker(ToIntFunction<Object>[] functions) {
+            return switch (functions.length) {
+                case 1 -> {
+                    var first = functions[0];
+                    yield (query, identity, combiner) -> combiner.applyAsInt(identity, first.applyAsInt(query));
+                }
+                case 2 -> {
+                    var first = functions[0];
+                    var second = functions[1];
+                    yield (query, identity, combiner) -> {
+                        int result = combiner.applyAsInt(identity, first.applyAsInt(query));
+                        return combiner.applyAsInt(result, second.applyAsInt(query));
+                    };
+                }
+                case 3 -> {
+                    var first = functions[0];
+                    var second = functions[1];
+                    var third = functions[2];
+                    yield (query, identity, combiner) -> {
+                        int result = combiner.applyAsInt(identity, first.applyAsInt(query));
+                        result = combiner.applyAsInt(result, second.applyAsInt(query));
+                        return combiner.applyAsInt(result, third.applyAsInt(query));
+                    };
+                }
+                default -> (query, identity, combiner) -> {
+                    int result = identity;
+                    for (var function : functions) {
+                        result = combiner.applyAsInt(result, function.applyAsInt(query));
+                    }
+                    return result;
+                };
+            };
+        }
+    }
+    //endregion
+
+    //region DoubleQueryBus
+    static final NumericKind<ToDoubleFunction<Object>, DoubleQueryInvoker<Object>> DOUBLE = new DoubleKind();
+
+    @SuppressWarnings("unchecked")
+    static <Q> NumericKind<ToDoubleFunction<Q>, DoubleQueryInvoker<Q>> doubleKind() {
+        return (NumericKind<ToDoubleFunction<Q>, DoubleQueryInvoker<Q>>) (NumericKind<?, ?>) DOUBLE;
+    }
+
+    private static final class DoubleKind extends NumericKind<ToDoubleFunction<Object>, DoubleQueryInvoker<Object>> {
+        private DoubleKind() {
+            super(ToDoubleFunction.class, (query, identity, combiner) -> identity);
+        }
+
+        @Override
+        DoubleQueryInvoker<Object> createInvoker(ToDoubleFunction<Object>[] functions) {
+            return switch (functions.length) {
+                case 1 -> {
+                    var first = functions[0];
+                    yield (query, identity, combiner) -> combiner.applyAsDouble(identity, first.applyAsDouble(query));
+                }
+                case 2 -> {
+                    var first = functions[0];
+                    var second = functions[1];
+                    yield (query, identity, combiner) -> {
+                        double result = combiner.applyAsDouble(identity, first.applyAsDouble(query));
+                        return combiner.applyAsDouble(result, second.applyAsDouble(query));
+                    };
+                }
+                case 3 -> {
+                    var first = functions[0];
+                    var second = functions[1];
+                    var third = functions[2];
+                    yield (query, identity, combiner) -> {
+                        double result = combiner.applyAsDouble(identity, first.applyAsDouble(query));
+                        result = combiner.applyAsDouble(result, second.applyAsDouble(query));
+                        return combiner.applyAsDouble(result, third.applyAsDouble(query));
+                    };
+                }
+                default -> (query, identity, combiner) -> {
+                    double result = identity;
+                    for (var function : functions) {
+                        result = combiner.applyAsDouble(result, function.applyAsDouble(query));
+                    }
+                    return result;
+                };
+            };
+        }
+    }
+    //endregion
+
+    private static <L> L[] unwrap(List<EventListener> listeners, L[] array) {
+        return listeners.stream()
+                .map(listener -> ((EventListenerImpl.PrimitiveListener<?>) listener).listener())
+                .toList()
+                .toArray(array);
+    }
+}
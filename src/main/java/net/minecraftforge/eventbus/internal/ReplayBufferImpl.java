@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.EventBus;
+import net.minecraftforge.eventbus.api.bus.ReplayBuffer;
+import net.minecraftforge.eventbus.api.event.RecordEvent;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A ring of fixed-size slots in a single direct ByteBuffer, where each slot is guarded by a sequence number in the same
+ * way as a seqlock:
+ * <ul>
+ *     <li>{@code sequence == position}: the slot holds the event recorded at that position</li>
+ *     <li>{@code sequence == -1}: the slot is being written</li>
+ *     <li>{@code sequence == -2}: the slot is empty, or the event didn't fit in it</li>
+ * </ul>
+ * Readers check the sequence before and after decoding a slot and discard the event if it changed in between.
+ * Writers claim a slot by swapping its sequence to {@code -1}, so when a poster laps another that is still writing to
+ * the same slot, its event is skipped rather than encoded into the same bytes concurrently.
+ */
+public record ReplayBufferImpl<T extends RecordEvent>(
+        EventBus<T> eventBus,
+        Codec<T> codec,
+        ByteBuffer[] slots,
+        AtomicLongArray sequences,
+        AtomicLong tail,
+        AtomicReference<@Nullable EventListener> listener
+) implements ReplayBuffer<T> {
+    private static final long WRITING = -1;
+    private static final long EMPTY = -2;
+
+    public ReplayBufferImpl(EventBus<T> eventBus, int capacity, Codec<T> codec) {
+        this(eventBus, codec, makeSlots(capacity, codec.maxEncodedSize()), new AtomicLongArray(capacity),
+                new AtomicLong(), new AtomicReference<>());
+
+        for (int i = 0; i < capacity; i++) {
+            sequences.setPlain(i, EMPTY);
+        }
+
+        listener.set(eventBus.addListener(Priority.MONITOR, this::record));
+    }
+
+    /**
+     * Pre-slices the ring so that recording doesn't need to allocate a view of the slot for the codec to write to.
+     */
+    private static ByteBuffer[] makeSlots(int capacity, int slotSize) {
+        var ring = ByteBuffer.allocateDirect(capacity * slotSize);
+        var slots = new ByteBuffer[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = ring.slice(i * slotSize, slotSize).order(ByteOrder.nativeOrder());
+        }
+        return slots;
+    }
+
+    private void record(T event) {
+        long position = tail.getAndIncrement();
+        int index = (int) (position % slots.length);
+
+        // Claim the slot before any of its bytes change, so that readers don't decode a torn event
+        long previous = sequences.get(index);
+        if (previous == WRITING || !sequences.compareAndSet(index, previous, WRITING))
+            return; // still being written by a poster a lap behind, so this event is skipped
+        VarHandle.storeStoreFence();
+
+        var slot = slots[index];
+        slot.clear();
+        try {
+            codec.encode(event, slot);
+        } catch (BufferOverflowException e) {
+            sequences.setRelease(index, EMPTY);
+            return;
+        } catch (RuntimeException e) {
+            sequences.setRelease(index, EMPTY);
+            throw e;
+        }
+
+        sequences.setRelease(index, position);
+    }
+
+    @Override
+    public int capacity() {
+        return slots.length;
+    }
+
+    @Override
+    public long recorded() {
+        return tail.get();
+    }
+
+    @Override
+    public List<T> dump() {
+        long end = tail.get();
+        long start = Math.max(0, end - slots.length);
+        var events = new ArrayList<T>((int) (end - start));
+        for (long position = start; position < end; position++) {
+            int index = (int) (position % slots.length);
+            if (sequences.getAcquire(index) != position)
+                continue; // still being written, already overwritten or didn't fit
+
+            T event;
+            try {
+                event = codec.decode(slots[index].duplicate().clear().order(ByteOrder.nativeOrder()));
+            } catch (RuntimeException e) {
+                continue; // overwritten while decoding, so the bytes may not be a valid event
+            }
+
+            VarHandle.loadLoadFence();
+            if (sequences.getOpaque(index) == position)
+                events.add(event);
+        }
+        return events;
+    }
+
+    @Override
+    public int replay(EventBus<T> eventBus) {
+        var events = dump();
+        for (var event : events) {
+            eventBus.post(event);
+        }
+        return events.size();
+    }
+
+    @Override
+    public void detach() {
+        var previous = listener.getAndSet(null);
+        if (previous != null)
+            eventBus.removeListener(previous);
+    }
+}
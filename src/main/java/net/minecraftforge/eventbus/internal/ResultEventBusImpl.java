@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.ResultEventBus;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import net.minecraftforge.eventbus.api.listener.ToResultFunction;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static net.minecraftforge.eventbus.internal.Constants.*;
+
+public record ResultEventBusImpl<T extends Event & HasResult>(
+        String busGroupName,
+        Class<T> eventType,
+        CallSite invokerCallSite,
+        ArrayList<EventListener> backingList,
+        ArrayList<EventListener> monitorBackingList,
+        List<AbstractEventBusImpl<?, ?>> children,
+        AtomicBoolean alreadyInvalidated,
+        AtomicBoolean shutdownFlag,
+        AtomicLong invokerBuildTime,
+        AtomicInteger recordingEpoch,
+        int eventCharacteristics,
+        @Nullable AtomicReference<@Nullable T> stickyEvent,
+        @Nullable Thread ownerThread,
+        @Nullable BusMetrics metrics,
+        GlobalListeners globalListeners
+) implements ResultEventBus<T>, AbstractEventBusImpl<T, ToResultFunction<T>> {
+    public ResultEventBusImpl(String busGroupName, Class<T> eventType, ArrayList<EventListener> backingList,
+                              int eventCharacteristics, @Nullable Thread ownerThread, @Nullable BusMetrics metrics,
+                              GlobalListeners globalListeners) {
+        this(
+                busGroupName,
+                eventType,
+                AbstractEventBusImpl.makeInvokerCallSite(ownerThread, backingList.isEmpty() && metrics == null ? MH_NO_OP_RESULT_FUNCTION : MH_NULL_RESULT_FUNCTION),
+                backingList,
+                new ArrayList<>(),
+                AbstractEventBusImpl.makeEventChildrenList(eventType, eventCharacteristics),
+                new AtomicBoolean(),
+                new AtomicBoolean(),
+                new AtomicLong(),
+                new AtomicInteger(JfrEvents.recordingEpoch()),
+                eventCharacteristics,
+                AbstractEventBusImpl.makeStickyEventReference(eventCharacteristics),
+                ownerThread,
+                metrics,
+                globalListeners
+        );
+    }
+
+    @Override
+    public EventListener addListener(Consumer<T> listener) {
+        return addListener(new EventListenerImpl.ConsumerListener<>(eventType, Priority.NORMAL, listener));
+    }
+
+    @Override
+    public EventListener addListener(byte priority, Consumer<T> listener) {
+        return addListener(
+                priority == Priority.MONITOR
+                        ? new EventListenerImpl.MonitoringListener<>(eventType, listener)
+                        : new EventListenerImpl.ConsumerListener<>(eventType, priority, listener)
+        );
+    }
+
+    @Override
+    public EventListener addListener(ToResultFunction<T> listener) {
+        return addListener(new EventListenerImpl.ResultListener<>(eventType, Priority.NORMAL, listener));
+    }
+
+    @Override
+    public EventListener addListener(byte priority, ToResultFunction<T> listener) {
+        if (priority == Priority.MONITOR)
+            throw new IllegalArgumentException("Monitoring listeners cannot change the result of events");
+
+        return addListener(new EventListenerImpl.ResultListener<>(eventType, priority, listener));
+    }
+
+    @Override
+    public boolean post(T event) {
+        checkPost(event);
+        retainIfSticky(event);
+        getInvoker().apply(event);
+        return false;
+    }
+
+    @Override
+    public T fire(T event) {
+        checkPost(event);
+        retainIfSticky(event);
+        getInvoker().apply(event);
+        return event;
+    }
+
+    @Override
+    public HasResult.Result postForResult(T event) {
+        checkPost(event);
+        retainIfSticky(event);
+        return getInvoker().apply(event);
+    }
+
+    @Override
+    public boolean post(Supplier<T> eventFactory) {
+        var invoker = getInvoker();
+        if (((ToResultFunction<? extends Event>) invoker) == NO_OP_RESULT_FUNCTION && stickyEvent == null)
+            return false;
+
+        var event = eventFactory.get();
+        checkPost(event);
+        retainIfSticky(event);
+        invoker.apply(event);
+        return false;
+    }
+
+    @Override
+    public @Nullable T fire(Supplier<T> eventFactory) {
+        var invoker = getInvoker();
+        if (((ToResultFunction<? extends Event>) invoker) == NO_OP_RESULT_FUNCTION && stickyEvent == null)
+            return null;
+
+        var event = eventFactory.get();
+        checkPost(event);
+        retainIfSticky(event);
+        invoker.apply(event);
+        return event;
+    }
+
+    @Override
+    public int postAllParallel(List<T> events, ForkJoinPool pool) {
+        checkPostAllParallel(events);
+        if (!events.isEmpty())
+            retainIfSticky(events.getLast());
+
+        var invoker = getInvoker();
+        if (((ToResultFunction<? extends Event>) invoker) != NO_OP_RESULT_FUNCTION)
+            ParallelPoster.postAll((Consumer<T>) invoker::apply, events, pool);
+
+        return 0;
+    }
+
+    @Override
+    public boolean hasListeners() {
+        return ((ToResultFunction<? extends Event>) getInvoker()) != NO_OP_RESULT_FUNCTION
+                && (!backingList.isEmpty() || !invokesWithoutListeners());
+    }
+
+    //region Invoker
+    @Override // overrides from AbstractEventBusImpl
+    @SuppressWarnings("unchecked")
+    public @Nullable ToResultFunction<T> maybeGetInvoker() {
+        try {
+            return (ToResultFunction<T>) invokerCallSite.getTarget().invokeExact();
+        } catch (Throwable t) {
+            throw new RuntimeException(t); // should never happen, but we should throw if it somehow does
+        }
+    }
+
+    @Override // overrides from AbstractEventBusImpl
+    public void invalidateInvoker() {
+        if (isAlreadyInvalidated()) return;
+        invokerBuildTime.set(0);
+        invokerCallSite.setTarget(backingList.isEmpty() && !invokesWithoutListeners() ? MH_NO_OP_RESULT_FUNCTION : MH_NULL_RESULT_FUNCTION);
+    }
+
+    @Override // overrides from AbstractEventBusImpl
+    public ToResultFunction<T> buildInvoker() {
+        if (isThreadConfined()) {
+            var invoker = buildInvokerUnsynchronized();
+            alreadyInvalidated.setPlain(false);
+            return invoker;
+        }
+
+        synchronized (backingList) {
+            var invoker = buildInvokerUnsynchronized();
+            alreadyInvalidated.set(false);
+            return invoker;
+        }
+    }
+
+    private ToResultFunction<T> buildInvokerUnsynchronized() {
+        var jfrEvent = JfrEvents.beginInvokerRebuild();
+        long start = metrics == null ? 0 : System.nanoTime();
+
+        backingList.sort(PRIORITY_COMPARATOR);
+
+        ToResultFunction<T> invoker = InvokerFactory.createResultMonitoringInvoker(
+                eventType, eventCharacteristics, TimedListeners.instrument(this, backingList),
+                TimedListeners.instrument(this, GlobalListeners.monitorsOf(this))
+        );
+
+        if (Constants.isSelfDestructing(eventCharacteristics) && !backingList.isEmpty()) {
+            var resultInvoker = invoker;
+            invoker = event -> {
+                var result = resultInvoker.apply(event);
+                dispose();
+                return result;
+            };
+        }
+
+        if (metrics != null)
+            invoker = metrics.instrumentResultPost(invoker, !backingList.isEmpty(), !globalListeners.isEmpty());
+
+        invoker = JfrEvents.instrumentResultPost(busGroupName, eventType, invoker);
+        setInvoker(invoker);
+        invokerBuildTime.set(System.currentTimeMillis());
+        JfrEvents.commitInvokerRebuild(jfrEvent, this);
+        if (metrics != null)
+            metrics.recordInvokerRebuild(System.nanoTime() - start);
+
+        return invoker;
+    }
+
+    @Override // overrides from AbstractEventBusImpl
+    public void setNoOpInvoker() {
+        invokerCallSite.setTarget(MH_NO_OP_RESULT_FUNCTION);
+        invokerBuildTime.set(0);
+    }
+
+    /**
+     * Should only be called from inside a {@code synchronized(backingList)} block, or from the owner thread if this bus
+     * is thread-confined.
+     */
+    private void setInvoker(ToResultFunction<T> invoker) {
+        invokerCallSite.setTarget(MethodHandles.constant(ToResultFunction.class, invoker));
+    }
+    //endregion
+}
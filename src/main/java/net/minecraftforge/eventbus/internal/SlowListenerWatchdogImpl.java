@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.SlowListenerWatchdog;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+public final class SlowListenerWatchdogImpl implements SlowListenerWatchdog {
+    /** Keyed by identity, as the buses are records whose equality depends on their mutable listener lists. */
+    private static final Map<AbstractEventBusImpl<?, ?>, SlowListenerWatchdogImpl> WATCHED_BUSES =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * The number of samples a listener's moving average settles over before its usual average is tracked, and that it
+     * needs to stay degraded for to be reported, so that a single outlier such as a GC pause isn't reported.
+     */
+    private static final int WARMUP_SAMPLES = 16;
+
+    /** The lowest usual average, so that listeners too quick to time reliably aren't reported as degrading. */
+    private static final long MIN_BASELINE_NANOS = 1_000;
+
+    private final long thresholdNanos;
+    private final int sampleInterval;
+    private final double degradationFactor;
+    private final Consumer<Report> reporter;
+
+    /** Per bus, as an inherited listener is called for each of the child events it's inherited by. */
+    private final Map<AbstractEventBusImpl<?, ?>, ConcurrentHashMap<EventListener, ListenerWatch>> watches =
+            new IdentityHashMap<>();
+
+    public SlowListenerWatchdogImpl(BusGroupImpl busGroup, Settings settings, Consumer<Report> reporter) {
+        this.thresholdNanos = settings.threshold().toNanos();
+        this.sampleInterval = settings.sampleInterval();
+        this.degradationFactor = settings.degradationFactor();
+        this.reporter = reporter;
+
+        var eventBuses = new ArrayList<AbstractEventBusImpl<?, ?>>();
+        for (var eventBus : busGroup.eventBuses().values()) {
+            var bus = (AbstractEventBusImpl<?, ?>) eventBus;
+            eventBuses.add(bus);
+            watches.put(bus, new ConcurrentHashMap<>());
+        }
+
+        synchronized (WATCHED_BUSES) {
+            for (var eventBus : eventBuses) {
+                if (WATCHED_BUSES.containsKey(eventBus))
+                    throw new IllegalStateException("The EventBus for " + eventBus.eventType() + " is already being watched");
+            }
+
+            for (var eventBus : eventBuses) {
+                WATCHED_BUSES.put(eventBus, this);
+            }
+        }
+
+        for (var eventBus : eventBuses) {
+            TimedListeners.invalidateInvoker(eventBus);
+        }
+    }
+
+    /**
+     * @return The watchdog of the given bus, or null if it isn't being watched
+     */
+    static @Nullable SlowListenerWatchdogImpl of(AbstractEventBusImpl<?, ?> eventBus) {
+        return WATCHED_BUSES.isEmpty() ? null : WATCHED_BUSES.get(eventBus);
+    }
+
+    TimedListeners.Timer timerFor(AbstractEventBusImpl<?, ?> eventBus, EventListener listener) {
+        // Only called while building the invoker of a bus this watchdog was registered for in WATCHED_BUSES, and every
+        // such bus was given an entry in the constructor
+        var busWatches = Objects.requireNonNull(watches.get(eventBus));
+        return busWatches.computeIfAbsent(listener, l -> new ListenerWatch(eventBus.eventType(), l));
+    }
+
+    @Override
+    public void close() {
+        for (var eventBus : watches.keySet()) {
+            if (WATCHED_BUSES.remove(eventBus, this))
+                TimedListeners.invalidateInvoker(eventBus);
+        }
+    }
+
+    private final class ListenerWatch implements TimedListeners.Timer {
+        private final Class<?> eventType;
+        private final EventListener listener;
+        private final ListenerProfilerImpl.ListenerSource source;
+
+        /** Deliberately racy, as a missed increment only shifts which call is sampled. */
+        private int calls;
+
+        // Guarded by this
+        private int samples;
+        private long averageNanos;
+        private long baselineNanos = Long.MAX_VALUE;
+        private int degradedSamples;
+
+        private ListenerWatch(Class<?> eventType, EventListener listener) {
+            this.eventType = eventType;
+            this.listener = listener;
+            this.source = ListenerProfilerImpl.ListenerSource.of(listener);
+        }
+
+        @Override
+        public boolean sample() {
+            return sampleInterval == 1 || ++calls % sampleInterval == 0;
+        }
+
+        @Override
+        public void record(long nanos) {
+            boolean exceeded = nanos > thresholdNanos;
+            boolean newlyDegraded = false;
+            long average;
+            synchronized (this) {
+                // exponentially weighted moving average, weighting each new sample by 1/8
+                averageNanos = samples == 0 ? nanos : averageNanos + (nanos - averageNanos) / 8;
+                average = averageNanos;
+                if (samples < WARMUP_SAMPLES)
+                    samples++;
+
+                if (samples == WARMUP_SAMPLES) {
+                    // the usual average is the lowest the moving average has settled at
+                    baselineNanos = Math.min(baselineNanos, Math.max(average, MIN_BASELINE_NANOS));
+                    if (average <= baselineNanos * degradationFactor)
+                        degradedSamples = 0;
+                    else if (degradedSamples < WARMUP_SAMPLES)
+                        newlyDegraded = ++degradedSamples == WARMUP_SAMPLES;
+                }
+            }
+
+            if (exceeded)
+                report(Report.Kind.THRESHOLD_EXCEEDED, nanos, average);
+
+            if (newlyDegraded)
+                report(Report.Kind.AVERAGE_DEGRADED, nanos, average);
+        }
+
+        private void report(Report.Kind kind, long nanos, long average) {
+            reporter.accept(new Report(kind, listener, eventType, source.declaringClass(), source.methodName(), nanos,
+                    average));
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Exports the subscription graph of a BusGroup for {@link BusGroup#exportSubscriptionGraph(BusGroup.GraphFormat)}.
+ */
+final class SubscriptionGraphExporter {
+    private SubscriptionGraphExporter() {}
+
+    /**
+     * @param listeners The bus's listeners in the order they're called, followed by its monitoring listeners
+     * @param children The event types of the buses that inherit the bus's listeners
+     */
+    private record Subscriptions(List<EventListener> listeners, List<Class<?>> children) {}
+
+    private record BusNode(
+            AbstractEventBusImpl<?, ?> eventBus,
+            String invokerStrategy,
+            Subscriptions subscriptions,
+            BusGroup.@Nullable EventBusMetrics metrics,
+            @Nullable ListenerProfilerImpl profiler
+    ) {}
+
+    static String export(BusGroupImpl busGroup, BusGroup.GraphFormat format) {
+        var busNodes = new ArrayList<BusNode>(busGroup.eventBuses().size());
+        for (var eventBus : busGroup.eventBuses().values()) {
+            var bus = (AbstractEventBusImpl<?, ?>) eventBus;
+            var metrics = bus.metrics();
+            busNodes.add(new BusNode(
+                    bus,
+                    bus.describeInvoker().strategy(),
+                    subscriptionsOf(bus),
+                    metrics == null ? null : metrics.snapshot(bus),
+                    ListenerProfilerImpl.of(bus)
+            ));
+        }
+        busNodes.sort(Comparator.comparing(busNode -> busNode.eventBus().eventType().getName()));
+
+        var globalListeners = busGroup.globalListeners().list();
+        return switch (format) {
+            case JSON -> toJson(busGroup.name(), busNodes, globalListeners);
+            case DOT -> toDot(busGroup.name(), busNodes, globalListeners);
+        };
+    }
+
+    private static Subscriptions subscriptionsOf(AbstractEventBusImpl<?, ?> eventBus) {
+        if (eventBus.isThreadConfined()) {
+            eventBus.checkOwnerThread();
+            return subscriptionsOfUnsynchronized(eventBus);
+        }
+
+        synchronized (eventBus.backingList()) {
+            return subscriptionsOfUnsynchronized(eventBus);
+        }
+    }
+
+    private static Subscriptions subscriptionsOfUnsynchronized(AbstractEventBusImpl<?, ?> eventBus) {
+        var listeners = new ArrayList<EventListener>(eventBus.backingList().size() + eventBus.monitorBackingList().size());
+        listeners.addAll(eventBus.backingList());
+        // sorted in the same way as when building the invoker, so that the order matches the order they're called in
+        listeners.sort(Constants.PRIORITY_COMPARATOR);
+        listeners.addAll(eventBus.monitorBackingList());
+
+        var children = new ArrayList<Class<?>>(eventBus.children().size());
+        for (var child : eventBus.children()) {
+            children.add(child.eventType());
+        }
+        children.sort(Comparator.comparing(Class::getName));
+        return new Subscriptions(listeners, children);
+    }
+
+    private static String shapeOf(EventListener listener) {
+        return switch (listener) {
+            case EventListenerImpl.HasConsumer<?> ignored -> "consumer";
+            case EventListenerImpl.HasPredicate<?> ignored -> "predicate";
+            case EventListenerImpl.ResultListener<?> ignored -> "result";
+            case EventListenerImpl.MonitoringListener<?> ignored -> "monitor";
+            default -> "unknown";
+        };
+    }
+
+    private static boolean isAlwaysCancelling(EventListener listener) {
+        return listener instanceof EventListenerImpl.WrappedConsumerListener<?> wrappedConsumerListener
+                && wrappedConsumerListener.alwaysCancelling();
+    }
+
+    /**
+     * @return Whether the listener was added to a parent event's bus and inherited by this one
+     */
+    private static boolean isInherited(BusNode busNode, EventListener listener) {
+        return listener.eventType() != busNode.eventBus().eventType();
+    }
+
+    /**
+     * @return The listener's timings, if it's being profiled. Inherited listeners share their timings with the bus they
+     *         were added to, so they're only reported there to avoid counting them more than once.
+     */
+    private static LatencyHistogram.@Nullable Snapshot timingsOf(BusNode busNode, EventListener listener) {
+        var profiler = busNode.profiler();
+        return profiler == null || isInherited(busNode, listener) ? null : profiler.timingsOf(listener);
+    }
+
+    //region JSON
+    private static String toJson(String busGroupName, List<BusNode> busNodes, List<EventListener> globalListeners) {
+        var json = new StringBuilder();
+        json.append("{\n  \"busGroup\": ");
+        appendJsonString(json, busGroupName);
+
+        json.append(",\n  \"globalListeners\": [");
+        for (int i = 0; i < globalListeners.size(); i++) {
+            var source = ListenerProfilerImpl.ListenerSource.of(globalListeners.get(i));
+            json.append(i == 0 ? "\n    {\"declaringClass\": " : ",\n    {\"declaringClass\": ");
+            appendJsonString(json, source.declaringClass());
+            json.append(", \"methodName\": ");
+            appendJsonString(json, source.methodName());
+            json.append('}');
+        }
+        json.append(globalListeners.isEmpty() ? "]" : "\n  ]");
+
+        json.append(",\n  \"buses\": [");
+        for (int i = 0; i < busNodes.size(); i++) {
+            json.append(i == 0 ? "\n" : ",\n");
+            appendJsonBus(json, busNodes.get(i));
+        }
+        json.append(busNodes.isEmpty() ? "]\n}\n" : "\n  ]\n}\n");
+        return json.toString();
+    }
+
+    private static void appendJsonBus(StringBuilder json, BusNode busNode) {
+        json.append("    {\n      \"eventType\": ");
+        appendJsonString(json, busNode.eventBus().eventType().getName());
+        json.append(",\n      \"invokerStrategy\": ");
+        appendJsonString(json, busNode.invokerStrategy());
+
+        var metrics = busNode.metrics();
+        if (metrics != null) {
+            json.append(",\n      \"posts\": ").append(metrics.posts())
+                    .append(",\n      \"postsWithoutListeners\": ").append(metrics.postsWithoutListeners())
+                    .append(",\n      \"cancellations\": ").append(metrics.cancellations());
+        }
+
+        json.append(",\n      \"children\": [");
+        var children = busNode.subscriptions().children();
+        for (int i = 0; i < children.size(); i++) {
+            if (i > 0)
+                json.append(", ");
+
+            appendJsonString(json, children.get(i).getName());
+        }
+
+        json.append("],\n      \"listeners\": [");
+        var listeners = busNode.subscriptions().listeners();
+        for (int i = 0; i < listeners.size(); i++) {
+            var listener = listeners.get(i);
+            var source = ListenerProfilerImpl.ListenerSource.of(listener);
+            json.append(i == 0 ? "\n        {" : ",\n        {");
+            json.append("\"declaringClass\": ");
+            appendJsonString(json, source.declaringClass());
+            json.append(", \"methodName\": ");
+            appendJsonString(json, source.methodName());
+            json.append(", \"priority\": ").append(listener.priority());
+            json.append(", \"shape\": \"").append(shapeOf(listener)).append('"');
+            json.append(", \"alwaysCancelling\": ").append(isAlwaysCancelling(listener));
+            if (isInherited(busNode, listener)) {
+                json.append(", \"inheritedFrom\": ");
+                appendJsonString(json, listener.eventType().getName());
+            }
+
+            var timings = timingsOf(busNode, listener);
+            if (timings != null)
+                json.append(", \"calls\": ").append(timings.count()).append(", \"totalNanos\": ").append(timings.totalNanos());
+
+            json.append('}');
+        }
+        json.append(listeners.isEmpty() ? "]\n    }" : "\n      ]\n    }");
+    }
+
+    private static void appendJsonString(StringBuilder json, String string) {
+        json.append('"');
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20)
+                        json.append(String.format("\\u%04x", (int) c));
+                    else
+                        json.append(c);
+                }
+            }
+        }
+        json.append('"');
+    }
+    //endregion
+
+    //region DOT
+    private static String toDot(String busGroupName, List<BusNode> busNodes, List<EventListener> globalListeners) {
+        var dot = new StringBuilder();
+        dot.append("digraph ");
+        appendDotString(dot, busGroupName);
+        dot.append(" {\n  rankdir=LR;\n");
+
+        // Listeners are keyed by identity so that an inherited listener is a single node with an edge from each bus
+        var listenerIds = new IdentityHashMap<EventListener, String>();
+        for (var busNode : busNodes) {
+            var metrics = busNode.metrics();
+            var label = busNode.eventBus().eventType().getName() + "\n" + busNode.invokerStrategy()
+                    + (metrics == null ? "" : "\nposts: " + metrics.posts());
+            dot.append("  ");
+            appendDotString(dot, busNode.eventBus().eventType().getName());
+            dot.append(" [shape=box, label=");
+            appendDotString(dot, label);
+            dot.append("];\n");
+
+            for (var listener : busNode.subscriptions().listeners()) {
+                if (isInherited(busNode, listener) || listenerIds.containsKey(listener))
+                    continue;
+
+                var id = "listener" + listenerIds.size();
+                listenerIds.put(listener, id);
+                dot.append("  ").append(id).append(" [label=");
+                appendDotString(dot, dotLabelOf(listener, timingsOf(busNode, listener)));
+                dot.append("];\n");
+            }
+        }
+
+        for (var busNode : busNodes) {
+            var busName = busNode.eventBus().eventType().getName();
+            var listeners = busNode.subscriptions().listeners();
+            for (int i = 0; i < listeners.size(); i++) {
+                var listener = listeners.get(i);
+                var id = listenerIds.get(listener);
+                if (id == null) {
+                    // inherited from a parent event that doesn't have a bus of its own in this group
+                    id = "listener" + listenerIds.size();
+                    listenerIds.put(listener, id);
+                    dot.append("  ").append(id).append(" [label=");
+                    appendDotString(dot, dotLabelOf(listener, null));
+                    dot.append("];\n");
+                }
+
+                dot.append("  ");
+                appendDotString(dot, busName);
+                dot.append(" -> ").append(id).append(" [label=\"").append(i + 1).append('"')
+                        .append(isInherited(busNode, listener) ? ", style=dashed];\n" : "];\n");
+            }
+
+            for (var child : busNode.subscriptions().children()) {
+                dot.append("  ");
+                appendDotString(dot, busName);
+                dot.append(" -> ");
+                appendDotString(dot, child.getName());
+                dot.append(" [style=dotted, label=\"inherited by\"];\n");
+            }
+        }
+
+        for (int i = 0; i < globalListeners.size(); i++) {
+            var source = ListenerProfilerImpl.ListenerSource.of(globalListeners.get(i));
+            dot.append("  global").append(i).append(" [shape=doubleoctagon, label=");
+            appendDotString(dot, "global\n" + source.declaringClass() + '#' + source.methodName());
+            dot.append("];\n");
+        }
+
+        dot.append("}\n");
+        return dot.toString();
+    }
+
+    private static String dotLabelOf(EventListener listener, LatencyHistogram.@Nullable Snapshot timings) {
+        var source = ListenerProfilerImpl.ListenerSource.of(listener);
+        var label = new StringBuilder()
+                .append(source.declaringClass()).append('#').append(source.methodName())
+                .append("\npriority ").append(listener.priority()).append(", ").append(shapeOf(listener));
+
+        if (isAlwaysCancelling(listener))
+            label.append(", always cancelling");
+
+        if (timings != null)
+            label.append("\ncalls: ").append(timings.count()).append(", total: ").append(timings.totalNanos()).append(" ns");
+
+        return label.toString();
+    }
+
+    private static void appendDotString(StringBuilder dot, String string) {
+        dot.append('"');
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            switch (c) {
+                case '"' -> dot.append("\\\"");
+                case '\\' -> dot.append("\\\\");
+                case '\n' -> dot.append("\\n");
+                default -> dot.append(c);
+            }
+        }
+        dot.append('"');
+    }
+    //endregion
+}
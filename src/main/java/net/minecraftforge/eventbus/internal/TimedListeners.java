@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.event.characteristic.Cancellable;
+import net.minecraftforge.eventbus.api.event.characteristic.HasResult;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.ObjBooleanBiConsumer;
+import net.minecraftforge.eventbus.api.listener.ToResultFunction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Wraps listeners with a timing wrapper of the same kind, so that invokers can be built from the wrapped listeners
+ * in the same way as from the originals.
+ */
+final class TimedListeners {
+    private TimedListeners() {}
+
+    interface Timer {
+        /**
+         * @return Whether to time this call, checked before calling the listener
+         */
+        boolean sample();
+
+        void record(long nanos);
+    }
+
+    /**
+     * Called when building an invoker to wrap each listener for the {@link CancellationAttributionImpl},
+     * {@link SlowListenerWatchdogImpl} and {@link ListenerProfilerImpl} of the bus, if any.
+     * <p>Each wrapper is keyed by the original listener, so the recorded data carries over when the invoker is
+     * rebuilt.</p>
+     *
+     * @return The given listeners if the bus isn't being instrumented, otherwise a copy with each listener wrapped
+     */
+    static List<EventListener> instrument(AbstractEventBusImpl<?, ?> eventBus, List<EventListener> listeners) {
+        var attribution = CancellationAttributionImpl.of(eventBus);
+        var profiler = ListenerProfilerImpl.of(eventBus);
+        var watchdog = SlowListenerWatchdogImpl.of(eventBus);
+        if (attribution == null && profiler == null && watchdog == null)
+            return listeners;
+
+        var timedListeners = new ArrayList<EventListener>(listeners.size());
+        for (var listener : listeners) {
+            var timedListener = listener;
+            if (attribution != null)
+                timedListener = attribution.wrap(timedListener);
+
+            if (watchdog != null)
+                timedListener = wrap(timedListener, watchdog.timerFor(eventBus, listener));
+
+            if (profiler != null)
+                timedListener = wrap(timedListener, profiler.timerFor(listener));
+
+            timedListeners.add(timedListener);
+        }
+        return timedListeners;
+    }
+
+    /**
+     * Invalidates the invoker of a bus that started or stopped being instrumented, so that it's rebuilt with or without
+     * the wrappers on its next post.
+     */
+    static void invalidateInvoker(AbstractEventBusImpl<?, ?> eventBus) {
+        if (eventBus.isThreadConfined()) {
+            eventBus.checkOwnerThread();
+            eventBus.invalidateInvoker();
+            return;
+        }
+
+        synchronized (eventBus.backingList()) {
+            eventBus.invalidateInvoker();
+        }
+    }
+
+    /**
+     * @return A copy of the listener that reports the duration of sampled calls to the given timer, or the listener
+     *         itself if it isn't of a known kind
+     */
+    static EventListener wrap(EventListener listener, Timer timer) {
+        return switch (listener) {
+            case EventListenerImpl.WrappedConsumerListener<?> wrappedConsumerListener -> timed(wrappedConsumerListener, timer);
+            case EventListenerImpl.ConsumerListener<?> consumerListener -> timed(consumerListener, timer);
+            case EventListenerImpl.PredicateListener<?> predicateListener -> timed(predicateListener, timer);
+            case EventListenerImpl.ResultListener<?> resultListener -> timed(resultListener, timer);
+            case EventListenerImpl.MonitoringListener<?> monitoringListener -> timed(monitoringListener, timer);
+            default -> listener;
+        };
+    }
+
+    private static <T extends Event> EventListener timed(EventListenerImpl.WrappedConsumerListener<T> listener,
+                                                         Timer timer) {
+        return new EventListenerImpl.WrappedConsumerListener<>(listener.eventType(), listener.priority(),
+                listener.alwaysCancelling(), timed(listener.consumer(), timer));
+    }
+
+    private static <T extends Event> EventListener timed(EventListenerImpl.ConsumerListener<T> listener, Timer timer) {
+        return new EventListenerImpl.ConsumerListener<>(listener.eventType(), listener.priority(),
+                timed(listener.consumer(), timer));
+    }
+
+    private static <T extends Event & Cancellable> EventListener timed(EventListenerImpl.PredicateListener<T> listener,
+                                                                       Timer timer) {
+        Predicate<T> predicate = listener.predicate();
+        return new EventListenerImpl.PredicateListener<>(listener.eventType(), listener.priority(), event -> {
+            if (!timer.sample())
+                return predicate.test(event);
+
+            long start = System.nanoTime();
+            try {
+                return predicate.test(event);
+            } finally {
+                timer.record(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private static <T extends Event & HasResult> EventListener timed(EventListenerImpl.ResultListener<T> listener,
+                                                                     Timer timer) {
+        ToResultFunction<T> function = listener.function();
+        return new EventListenerImpl.ResultListener<>(listener.eventType(), listener.priority(), event -> {
+            if (!timer.sample())
+                return function.apply(event);
+
+            long start = System.nanoTime();
+            try {
+                return function.apply(event);
+            } finally {
+                timer.record(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private static <T extends Event> EventListener timed(EventListenerImpl.MonitoringListener<T> listener, Timer timer) {
+        ObjBooleanBiConsumer<T> monitor = listener.booleanBiConsumer();
+        return new EventListenerImpl.MonitoringListener<>(listener.eventType(), (event, wasCancelled) -> {
+            if (!timer.sample()) {
+                monitor.accept(event, wasCancelled);
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                monitor.accept(event, wasCancelled);
+            } finally {
+                timer.record(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private static <T extends Event> Consumer<T> timed(Consumer<T> consumer, Timer timer) {
+        return event -> {
+            if (!timer.sample()) {
+                consumer.accept(event);
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                consumer.accept(event);
+            } finally {
+                timer.record(System.nanoTime() - start);
+            }
+        };
+    }
+}
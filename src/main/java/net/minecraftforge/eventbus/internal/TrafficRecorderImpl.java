@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) Forge Development LLC
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+package net.minecraftforge.eventbus.internal;
+
+import net.minecraftforge.eventbus.api.bus.BusGroup;
+import net.minecraftforge.eventbus.api.bus.TrafficRecorder;
+import net.minecraftforge.eventbus.api.listener.EventListener;
+import net.minecraftforge.eventbus.api.listener.Priority;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A trace file is a header followed by one entry per post until the end of the file:
+ * <pre>
+ * int magic, byte version
+ * varint eventTypeCount
+ * eventTypeCount * (utf name, byte flags)
+ * posts * (varint eventType, varlong interArrivalNanos, varint listenerCount)
+ * </pre>
+ * Varints are unsigned LEB128, so most posts take four or five bytes.
+ */
+public final class TrafficRecorderImpl implements TrafficRecorder {
+    private static final int MAGIC = 0x45425452; // "EBTR"
+    private static final byte VERSION = 1;
+    private static final int FLAG_CANCELLABLE = 1;
+    private static final int FLAG_HAS_RESULT = 2;
+
+    private final List<AbstractEventBusImpl<?, ?>> eventBuses = new ArrayList<>();
+    private final List<EventListener> listeners = new ArrayList<>();
+
+    /** The number of this recorder's listeners on each bus, as they're inherited by the buses of child events. */
+    private final int[] ownListenerCounts;
+
+    private final Map<Class<?>, Integer> eventTypeIndices = new HashMap<>();
+    /** The index of the bus each class of event is recorded against, see {@link #findPostedBusIndex(Class)}. */
+    private final ClassValue<Integer> postedBusIndices = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return findPostedBusIndex(type);
+        }
+    };
+
+    // Guarded by this
+    private final DataOutputStream output;
+    private long lastPostNanos;
+    private @Nullable IOException failure;
+
+    private volatile long recorded;
+
+    public TrafficRecorderImpl(BusGroup busGroup, Path file) {
+        for (var eventBus : ((BusGroupImpl) busGroup).eventBuses().values()) {
+            eventBuses.add((AbstractEventBusImpl<?, ?>) eventBus);
+        }
+
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            writeVarLong(output, eventBuses.size());
+            for (var eventBus : eventBuses) {
+                int characteristics = eventBus.eventCharacteristics();
+                output.writeUTF(eventBus.eventType().getName());
+                output.writeByte((Constants.isCancellable(characteristics) ? FLAG_CANCELLABLE : 0)
+                        | (Constants.hasResult(characteristics) ? FLAG_HAS_RESULT : 0));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create traffic trace " + file, e);
+        }
+
+        for (int i = 0; i < eventBuses.size(); i++) {
+            eventTypeIndices.put(eventBuses.get(i).eventType(), i);
+        }
+        for (int i = 0; i < eventBuses.size(); i++) {
+            listeners.add(attach(eventBuses.get(i), i));
+        }
+
+        var ownListeners = new HashSet<>(listeners);
+        ownListenerCounts = new int[eventBuses.size()];
+        for (int i = 0; i < eventBuses.size(); i++) {
+            for (var listener : eventBuses.get(i).monitorBackingList()) {
+                if (ownListeners.contains(listener))
+                    ownListenerCounts[i]++;
+            }
+        }
+    }
+
+    private <T extends Event> EventListener attach(AbstractEventBusImpl<T, ?> eventBus, int eventTypeIndex) {
+        return eventBus.addListener(Priority.MONITOR, event -> {
+            // Posts to a child event's bus also reach the listeners inherited from its parents
+            if (postedBusIndices.get(event.getClass()) == eventTypeIndex)
+                record(eventBus, eventTypeIndex);
+        });
+    }
+
+    /**
+     * Finds the bus of the closest event type that the given class is or extends, breadth-first with superclasses
+     * before interfaces. Classes without a bus of their own, such as anonymous subclasses, are recorded against the bus
+     * of the event type they extend.
+     */
+    private int findPostedBusIndex(Class<?> type) {
+        var queue = new ArrayDeque<Class<?>>();
+        queue.add(type);
+        Class<?> next;
+        while ((next = queue.poll()) != null) {
+            var index = eventTypeIndices.get(next);
+            if (index != null)
+                return index;
+
+            var superclass = next.getSuperclass();
+            if (superclass != null)
+                queue.add(superclass);
+            Collections.addAll(queue, next.getInterfaces());
+        }
+        return -1;
+    }
+
+    private synchronized void record(AbstractEventBusImpl<?, ?> eventBus, int eventTypeIndex) {
+        if (failure != null)
+            return;
+
+        long now = System.nanoTime();
+        long interArrivalNanos = recorded == 0 ? 0 : now - lastPostNanos;
+        lastPostNanos = now;
+
+        int listenerCount = eventBus.backingList().size() + eventBus.monitorBackingList().size()
+                - ownListenerCounts[eventTypeIndex];
+        try {
+            writeVarLong(output, eventTypeIndex);
+            writeVarLong(output, interArrivalNanos);
+            writeVarLong(output, listenerCount);
+        } catch (IOException e) {
+            failure = e; // stop recording rather than failing the post
+            return;
+        }
+        recorded++;
+    }
+
+    @Override
+    public long recorded() {
+        return recorded;
+    }
+
+    @Override
+    public void close() {
+        for (int i = 0; i < listeners.size(); i++) {
+            eventBuses.get(i).removeListener(listeners.get(i));
+        }
+        listeners.clear();
+
+        synchronized (this) {
+            try {
+                output.close();
+            } catch (IOException e) {
+                if (failure == null)
+                    failure = e;
+            }
+
+            if (failure != null)
+                throw new UncheckedIOException("Failed to write traffic trace", failure);
+        }
+    }
+
+    public static Trace read(Path file) throws IOException {
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC)
+                throw new IOException(file + " is not a traffic trace");
+
+            byte version = input.readByte();
+            if (version != VERSION)
+                throw new IOException("Unsupported traffic trace version " + version + " in " + file);
+
+            int eventTypeCount = (int) readVarLong(input);
+            var eventTypes = new ArrayList<EventType>(eventTypeCount);
+            for (int i = 0; i < eventTypeCount; i++) {
+                var name = input.readUTF();
+                int flags = input.readByte();
+                eventTypes.add(new EventType(name, (flags & FLAG_CANCELLABLE) != 0, (flags & FLAG_HAS_RESULT) != 0));
+            }
+
+            var posts = new ArrayList<Post>();
+            while (!isAtEnd(input)) {
+                int eventType = (int) readVarLong(input);
+                if (eventType >= eventTypeCount)
+                    throw new IOException("Invalid event type index " + eventType + " in " + file);
+
+                posts.add(new Post(eventType, readVarLong(input), (int) readVarLong(input)));
+            }
+            return new Trace(eventTypes, posts);
+        }
+    }
+
+    /**
+     * @param input Must support {@link DataInputStream#mark(int)}
+     */
+    private static boolean isAtEnd(DataInputStream input) throws IOException {
+        input.mark(1);
+        int next = input.read();
+        input.reset();
+        return next < 0;
+    }
+
+    private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = input.read();
+            if (b < 0)
+                throw new EOFException("Truncated traffic trace");
+
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("Malformed varint in traffic trace");
+    }
+}